@@ -0,0 +1,99 @@
+package com.qa.automation.benchmarks;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * BenchmarkData builds the inputs shared by the benchmarks: page-like screenshots and data files
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Draws a page-like image (header bar, text lines, a form box) and encodes it as PNG
+     * @param width Image width
+     * @param height Image height
+     * @return PNG bytes
+     */
+    static byte[] screenshotPng(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(new Color(0x1F4E79));
+        graphics.fillRect(0, 0, width, Math.max(8, height / 12));
+        graphics.setColor(Color.DARK_GRAY);
+        graphics.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, Math.max(8, height / 60)));
+        for (int line = 0, y = height / 6; y < height * 3 / 4; line++, y += height / 30) {
+            graphics.drawString("Patient record " + line, width / 20, y);
+        }
+        graphics.drawRect(width / 2, height / 5, width * 2 / 5, height / 2);
+        graphics.dispose();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes an Excel file with a header row and generated user rows
+     * @param file Target .xlsx file
+     * @param sheetName Sheet name
+     * @param rows Number of data rows
+     */
+    static void writeExcel(Path file, String sheetName, int rows) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet(sheetName);
+            String[] headers = {"firstName", "lastName", "email", "phone", "role"};
+            Row header = sheet.createRow(0);
+            for (int column = 0; column < headers.length; column++) {
+                header.createCell(column).setCellValue(headers[column]);
+            }
+            for (int index = 1; index <= rows; index++) {
+                Row row = sheet.createRow(index);
+                row.createCell(0).setCellValue("First" + index);
+                row.createCell(1).setCellValue("Last" + index);
+                row.createCell(2).setCellValue("user" + index + "@test.com");
+                row.createCell(3).setCellValue(9000000000L + index);
+                row.createCell(4).setCellValue(index % 2 == 0 ? "Patient" : "Doctor");
+            }
+            workbook.write(out);
+        }
+    }
+
+    /**
+     * Writes a JSON file shaped like the framework's test data files
+     * @param file Target .json file
+     */
+    static void writeJson(Path file) throws IOException {
+        StringBuilder users = new StringBuilder();
+        for (int index = 0; index < 50; index++) {
+            if (index > 0) {
+                users.append(',');
+            }
+            users.append("{\"email\":\"user").append(index).append("@test.com\",\"role\":\"Patient\"}");
+        }
+        String json = "{\"portal\":{\"url\":\"http://localhost\",\"login\":{\"email\":\"john.doe@test.com\","
+                + "\"password\":\"Secret123!\"}},\"users\":[" + users + "]}";
+        Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+    }
+}
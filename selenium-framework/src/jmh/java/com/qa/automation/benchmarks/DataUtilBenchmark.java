@@ -0,0 +1,93 @@
+package com.qa.automation.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.qa.automation.utils.DataUtil;
+import com.qa.automation.utils.ExcelDataRepository;
+import com.qa.automation.utils.ExcelSheetData;
+import com.qa.automation.utils.JsonDataRepository;
+import com.qa.automation.utils.TestDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the test data helpers: Excel and JSON parsing and cached lookups, and unique email generation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataUtilBenchmark {
+
+    private static final String SHEET = "Users";
+
+    @Param({"10", "1000"})
+    public int excelRows;
+
+    private Path dir;
+    private String excelFile;
+    private String jsonFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("datautil-benchmark");
+        Path excel = dir.resolve("users.xlsx");
+        BenchmarkData.writeExcel(excel, SHEET, excelRows);
+        excelFile = excel.toString();
+        Path json = dir.resolve("testdata.json");
+        BenchmarkData.writeJson(json);
+        jsonFile = json.toString();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dir.resolve("users.xlsx"));
+        Files.deleteIfExists(dir.resolve("testdata.json"));
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public ExcelSheetData parseExcelFile() {
+        ExcelDataRepository.invalidate(excelFile);
+        return ExcelDataRepository.getSheet(excelFile, SHEET);
+    }
+
+    @Benchmark
+    public List<Map<String, String>> readExcelFile() {
+        return DataUtil.readExcelFile(excelFile, SHEET);
+    }
+
+    @Benchmark
+    public String getExcelCellValue() {
+        return DataUtil.getExcelCellValue(excelFile, SHEET, excelRows - 1, "email");
+    }
+
+    @Benchmark
+    public JsonNode parseJsonFile() {
+        JsonDataRepository.invalidate(jsonFile);
+        return JsonDataRepository.getTree(jsonFile);
+    }
+
+    @Benchmark
+    public String getJsonValue() {
+        return DataUtil.getJsonValue(jsonFile, "portal.login.email");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String generateUniqueEmail() {
+        return TestDataGenerator.generateUniqueEmail("john.doe");
+    }
+}
@@ -0,0 +1,54 @@
+package com.qa.automation.benchmarks;
+
+import com.qa.automation.utils.ElementUtil;
+import org.openqa.selenium.By;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the ElementUtil wrappers (explicit wait, logging, try/catch) on top of an in-memory driver
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ElementUtilBenchmark {
+
+    private static final By LOCATOR = By.id("email");
+
+    private ElementUtil elementUtil;
+    private StubWebDriver driver;
+
+    @Setup
+    public void setUp() {
+        driver = new StubWebDriver(BenchmarkData.screenshotPng(320, 240));
+        elementUtil = new ElementUtil(driver);
+    }
+
+    @Benchmark
+    public Object rawFindAndClick() {
+        driver.findElement(LOCATOR).click();
+        return driver;
+    }
+
+    @Benchmark
+    public boolean doClick() {
+        return elementUtil.doClick(LOCATOR);
+    }
+
+    @Benchmark
+    public boolean doSendKeys() {
+        return elementUtil.doSendKeys(LOCATOR, "john.doe@test.com");
+    }
+
+    @Benchmark
+    public String doGetText() {
+        return elementUtil.doGetText(LOCATOR);
+    }
+}
@@ -0,0 +1,48 @@
+package com.qa.automation.benchmarks;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.qa.automation.utils.ExtentReportManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of ExtentReportManager.logInfo as seen by the test thread
+ * With report.asyncLogging (the default) this is the queue hand-off; once the queue is full the
+ * BLOCK policy makes it the writer's throughput. Each iteration logs into a fresh test that is
+ * removed afterwards so the report does not grow across iterations
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReportLoggingBenchmark {
+
+    private ExtentTest test;
+    private int iteration;
+
+    @Setup(Level.Iteration)
+    public void createTest() {
+        ExtentReportManager.getExtentReports();
+        test = ExtentReportManager.createTest("logInfo benchmark " + (++iteration));
+    }
+
+    @TearDown(Level.Iteration)
+    public void removeTest() {
+        ExtentReportManager.drainLogQueue();
+        ExtentReportManager.getExtentReports().removeTest(test);
+        ExtentReportManager.removeTest();
+    }
+
+    @Benchmark
+    public void logInfo() {
+        ExtentReportManager.logInfo("Entered email: john.doe@test.com");
+    }
+}
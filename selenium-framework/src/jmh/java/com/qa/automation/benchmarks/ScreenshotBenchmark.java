@@ -0,0 +1,100 @@
+package com.qa.automation.benchmarks;
+
+import com.qa.automation.utils.ScreenshotStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cost of storing a 1920x1080 screenshot: decode, re-encode, thumbnail and write for a new frame,
+ * and the hash lookup for a frame that is already stored
+ */
+@BenchmarkMode(Mode.AverageTime)
+public class ScreenshotBenchmark {
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String saveNewFrame(EmptyStore empty) {
+        return empty.store.save(empty.png);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String saveDuplicateFrame(StoredFrame stored) {
+        return stored.store.save(stored.png);
+    }
+
+    /**
+     * A fresh store per call, otherwise every call after the first is a deduplicated hit
+     */
+    @State(Scope.Thread)
+    public static class EmptyStore {
+
+        @Param({"JPG", "PNG"})
+        public String format;
+
+        private byte[] png;
+        private Path dir;
+        private ScreenshotStore store;
+
+        @Setup(Level.Trial)
+        public void createFrame() {
+            png = BenchmarkData.screenshotPng(1920, 1080);
+        }
+
+        @Setup(Level.Invocation)
+        public void createStore() throws IOException {
+            dir = Files.createTempDirectory("screenshot-benchmark");
+            store = new ScreenshotStore(dir, "screenshots/", ScreenshotStore.Format.valueOf(format), 0.8f, 320);
+        }
+
+        @TearDown(Level.Invocation)
+        public void deleteStore() throws IOException {
+            delete(dir);
+        }
+    }
+
+    /**
+     * A store that already holds the frame, so every save is a hash lookup
+     */
+    @State(Scope.Thread)
+    public static class StoredFrame {
+
+        private byte[] png;
+        private Path dir;
+        private ScreenshotStore store;
+
+        @Setup(Level.Trial)
+        public void storeFrame() throws IOException {
+            png = BenchmarkData.screenshotPng(1920, 1080);
+            dir = Files.createTempDirectory("screenshot-benchmark");
+            store = new ScreenshotStore(dir, "screenshots/", ScreenshotStore.Format.JPG, 0.8f, 320);
+            store.save(png);
+        }
+
+        @TearDown(Level.Trial)
+        public void deleteStore() throws IOException {
+            delete(dir);
+        }
+    }
+
+    private static void delete(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
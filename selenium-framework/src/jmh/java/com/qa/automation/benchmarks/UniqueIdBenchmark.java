@@ -0,0 +1,31 @@
+package com.qa.automation.benchmarks;
+
+import com.qa.automation.utils.UniqueIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of UniqueIdGenerator with 16 threads drawing ids at once
+ * Threads lease blocks of ticks from one shared counter, so this shows how far that counter limits
+ * parallel generation; uniqueness itself is checked by TC030
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class UniqueIdBenchmark {
+
+    @Benchmark
+    public long nextId() {
+        return UniqueIdGenerator.nextId();
+    }
+
+    @Benchmark
+    public String nextPhoneNumber() {
+        return UniqueIdGenerator.nextPhoneNumber();
+    }
+}
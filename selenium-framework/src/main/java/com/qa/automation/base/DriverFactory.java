@@ -1,5 +1,8 @@
 package com.qa.automation.base;
 
+import com.qa.automation.instrumentation.CommandTimingListener;
+import com.qa.automation.tracing.TraceparentPropagator;
+import com.qa.automation.tracing.Tracer;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
@@ -46,27 +49,7 @@ public class DriverFactory {
     public static WebDriver getDriver() {
         try {
             if (driver.get() == null) {
-                String browser = getBrowser();
-                boolean headless = isHeadless();
-                
-                switch (browser.toLowerCase()) {
-                    case "chrome":
-                        driver.set(initChromeDriver(headless));
-                        break;
-                    case "firefox":
-                        driver.set(initFirefoxDriver(headless));
-                        break;
-                    case "edge":
-                        driver.set(initEdgeDriver(headless));
-                        break;
-                    default:
-                        System.err.println("Unsupported browser: " + browser + ". Defaulting to Chrome.");
-                        driver.set(initChromeDriver(headless));
-                        break;
-                }
-                
-                driver.get().manage().window().maximize();
-                driver.get().manage().timeouts().implicitlyWait(getTimeout(), TimeUnit.SECONDS);
+                initDriver(isHeadless());
             }
         } catch (Exception e) {
             System.err.println("Error initializing WebDriver: " + e.getMessage());
@@ -75,6 +58,61 @@ public class DriverFactory {
         return driver.get();
     }
 
+    /**
+     * Starts a new WebDriver session for the current thread, quitting any session the thread already had
+     * For tests that manage their own browser and must not inherit the mode of an earlier session
+     * @param headless true to start the browser in headless mode
+     * @return WebDriver instance
+     */
+    public static WebDriver startDriver(boolean headless) {
+        closeDriver();
+        initDriver(headless);
+        return driver.get();
+    }
+
+    /**
+     * Creates the configured browser, instruments it and stores it in the ThreadLocal
+     * @param headless true to enable headless mode, false otherwise
+     */
+    private static void initDriver(boolean headless) {
+        String browser = getBrowser();
+        switch (browser.toLowerCase()) {
+            case "chrome":
+                driver.set(initChromeDriver(headless));
+                break;
+            case "firefox":
+                driver.set(initFirefoxDriver(headless));
+                break;
+            case "edge":
+                driver.set(initEdgeDriver(headless));
+                break;
+            default:
+                System.err.println("Unsupported browser: " + browser + ". Defaulting to Chrome.");
+                driver.set(initChromeDriver(headless));
+                break;
+        }
+
+        // Browser requests carry the traceparent of the current span (tracing.propagateTraceparent)
+        Tracer.setPropagator(TraceparentPropagator.forDriver(driver.get()));
+
+        // Times and traces every command per test for the report's "where did the time go" table
+        if (CommandTimingListener.isEnabled()) {
+            driver.set(CommandTimingListener.instrument(driver.get()));
+        }
+
+        driver.get().manage().window().maximize();
+        driver.get().manage().timeouts().implicitlyWait(getTimeout(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Checks whether the current thread has a WebDriver session, without starting one
+     * Lets listeners skip browser work for tests that never opened a browser
+     * @return true if getDriver() would return an existing session
+     */
+    public static boolean hasDriver() {
+        return driver.get() != null;
+    }
+
     /**
      * Initializes ChromeDriver with optional headless mode
      * @param headless true to enable headless mode, false otherwise
@@ -155,6 +193,8 @@ public class DriverFactory {
             if (driver.get() != null) {
                 driver.get().quit();
                 driver.remove();
+                CommandTimingListener.release();
+                Tracer.setPropagator(null);
             }
         } catch (Exception e) {
             System.err.println("Error closing WebDriver: " + e.getMessage());
@@ -162,13 +202,27 @@ public class DriverFactory {
         }
     }
 
+    /**
+     * Gets a configuration value, allowing -Dkey=value to override config.properties
+     * @param key Property key
+     * @param defaultValue Value returned when the key is not set
+     * @return property value as String
+     */
+    public static String getProperty(String key, String defaultValue) {
+        String override = System.getProperty(key);
+        if (override != null && !override.isEmpty()) {
+            return override;
+        }
+        return config != null ? config.getProperty(key, defaultValue) : defaultValue;
+    }
+
     /**
      * Gets the browser name from configuration
      * @return browser name as String
      */
     public static String getBrowser() {
         try {
-            return config.getProperty("browser", "chrome");
+            return getProperty("browser", "chrome");
         } catch (Exception e) {
             System.err.println("Error reading browser configuration: " + e.getMessage());
             e.printStackTrace();
@@ -182,7 +236,7 @@ public class DriverFactory {
      */
     public static boolean isHeadless() {
         try {
-            return Boolean.parseBoolean(config.getProperty("headless", "false"));
+            return Boolean.parseBoolean(getProperty("headless", "false"));
         } catch (Exception e) {
             System.err.println("Error reading headless configuration: " + e.getMessage());
             e.printStackTrace();
@@ -196,7 +250,7 @@ public class DriverFactory {
      */
     public static int getTimeout() {
         try {
-            return Integer.parseInt(config.getProperty("timeout", "30"));
+            return Integer.parseInt(getProperty("timeout", "30"));
         } catch (Exception e) {
             System.err.println("Error reading timeout configuration: " + e.getMessage());
             e.printStackTrace();
@@ -210,7 +264,7 @@ public class DriverFactory {
      */
     public static String getUrl() {
         try {
-            return config.getProperty("url", "https://www.google.com");
+            return getProperty("url", "https://www.google.com");
         } catch (Exception e) {
             System.err.println("Error reading URL configuration: " + e.getMessage());
             e.printStackTrace();
@@ -224,7 +278,7 @@ public class DriverFactory {
      */
     public static String getReportPath() {
         try {
-            return config.getProperty("reportPath", "test-output/ExtentReports");
+            return getProperty("reportPath", "test-output/ExtentReports");
         } catch (Exception e) {
             System.err.println("Error reading reportPath configuration: " + e.getMessage());
             e.printStackTrace();
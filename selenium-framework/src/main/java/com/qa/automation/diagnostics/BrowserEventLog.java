@@ -0,0 +1,275 @@
+package com.qa.automation.diagnostics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.qa.automation.base.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BrowserEventLog keeps the most recent console messages and network exchanges of a Chromium session
+ * Events arrive over CDP (Runtime, Log and Network domains) and are held in bounded buffers
+ * (diagnostics.maxConsoleEntries, diagnostics.maxNetworkEntries) so a failure bundle can include them
+ */
+public class BrowserEventLog {
+
+    private static final Logger logger = LogManager.getLogger(BrowserEventLog.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ThreadLocal<BrowserEventLog> current = new ThreadLocal<>();
+
+    private final ArrayDeque<ObjectNode> console = new ArrayDeque<>();
+    private final Map<String, NetworkExchange> network;
+    private final int maxConsoleEntries;
+    private volatile boolean active = true;
+
+    private static final class NetworkExchange {
+        private String method;
+        private String url;
+        private Map<String, Object> requestHeaders;
+        private double startedWallTime;
+        private double startedTimestamp;
+        private double finishedTimestamp;
+        private int status;
+        private String statusText = "";
+        private String protocol = "HTTP/1.1";
+        private String mimeType = "";
+        private Map<String, Object> responseHeaders;
+        private long encodedDataLength = -1;
+        private String error;
+    }
+
+    private BrowserEventLog() {
+        this.maxConsoleEntries = Integer.parseInt(DriverFactory.getProperty("diagnostics.maxConsoleEntries", "500"));
+        int maxNetworkEntries = Integer.parseInt(DriverFactory.getProperty("diagnostics.maxNetworkEntries", "500"));
+        this.network = new LinkedHashMap<String, NetworkExchange>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, NetworkExchange> eldest) {
+                return size() > maxNetworkEntries;
+            }
+        };
+    }
+
+    /**
+     * Starts collecting console and network events for the current thread's driver, if it supports CDP
+     * @param driver Driver of the current test
+     */
+    public static void start(WebDriver driver) {
+        if (!Boolean.parseBoolean(DriverFactory.getProperty("diagnostics.enabled", "true"))
+                || !(driver instanceof HasDevTools)) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            BrowserEventLog log = new BrowserEventLog();
+            log.subscribe(devTools);
+            current.set(log);
+        } catch (Exception e) {
+            logger.warn("Browser event log not available. Error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the event log of the current thread
+     * @return Event log, or null when none was started
+     */
+    public static BrowserEventLog get() {
+        return current.get();
+    }
+
+    /**
+     * Stops collecting for the current thread and drops the buffers
+     */
+    public static void stop() {
+        BrowserEventLog log = current.get();
+        current.remove();
+        if (log != null) {
+            log.active = false;
+        }
+    }
+
+    /**
+     * Copies the buffered console entries
+     * @return JSON array of console entries, oldest first
+     */
+    public ArrayNode consoleAsJson() {
+        ArrayNode entries = MAPPER.createArrayNode();
+        synchronized (console) {
+            console.forEach(entries::add);
+        }
+        return entries;
+    }
+
+    /**
+     * Builds a HAR 1.2 document from the buffered network exchanges
+     * @return HAR root node
+     */
+    public ObjectNode networkAsHar() {
+        List<NetworkExchange> exchanges;
+        synchronized (network) {
+            exchanges = new ArrayList<>(network.values());
+        }
+        ObjectNode har = HarBuilder.newHar();
+        ArrayNode entries = (ArrayNode) har.path("log").path("entries");
+        for (NetworkExchange exchange : exchanges) {
+            double time = exchange.finishedTimestamp > 0 ? (exchange.finishedTimestamp - exchange.startedTimestamp) * 1000 : -1;
+            ObjectNode entry = HarBuilder.entry(entries,
+                    Instant.ofEpochMilli((long) (exchange.startedWallTime * 1000)).toString(), time,
+                    exchange.method, exchange.url, exchange.protocol, exchange.requestHeaders,
+                    exchange.status, exchange.statusText, exchange.responseHeaders, exchange.mimeType,
+                    exchange.encodedDataLength);
+            if (exchange.error != null) {
+                entry.put("_error", exchange.error);
+            }
+        }
+        return har;
+    }
+
+    private void subscribe(DevTools devTools) {
+        devTools.addListener(event("Runtime.consoleAPICalled"), this::onConsoleApi);
+        devTools.addListener(event("Runtime.exceptionThrown"), this::onException);
+        devTools.addListener(event("Log.entryAdded"), this::onLogEntry);
+        devTools.addListener(event("Network.requestWillBeSent"), this::onRequest);
+        devTools.addListener(event("Network.responseReceived"), this::onResponse);
+        devTools.addListener(event("Network.loadingFinished"), this::onFinished);
+        devTools.addListener(event("Network.loadingFailed"), this::onFailed);
+        devTools.send(new Command<>("Runtime.enable", new HashMap<>()));
+        devTools.send(new Command<>("Log.enable", new HashMap<>()));
+        devTools.send(new Command<>("Network.enable", new HashMap<>()));
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.<Map<String, Object>>read(Json.MAP_TYPE));
+    }
+
+    private void onConsoleApi(Map<String, Object> event) {
+        StringBuilder text = new StringBuilder();
+        Object args = event.get("args");
+        if (args instanceof List) {
+            for (Object arg : (List<?>) args) {
+                if (arg instanceof Map) {
+                    Map<?, ?> remote = (Map<?, ?>) arg;
+                    Object value = remote.containsKey("value") ? remote.get("value") : remote.get("description");
+                    if (text.length() > 0) {
+                        text.append(' ');
+                    }
+                    text.append(value);
+                }
+            }
+        }
+        addConsole("console", String.valueOf(event.get("type")), text.toString(), number(event.get("timestamp")));
+    }
+
+    private void onException(Map<String, Object> event) {
+        Map<?, ?> details = map(event.get("exceptionDetails"));
+        Map<?, ?> exception = map(details.get("exception"));
+        Object description = exception.get("description");
+        addConsole("exception", "error", String.valueOf(description != null ? description : details.get("text")),
+                number(event.get("timestamp")));
+    }
+
+    private void onLogEntry(Map<String, Object> event) {
+        Map<?, ?> entry = map(event.get("entry"));
+        addConsole(String.valueOf(entry.get("source")), String.valueOf(entry.get("level")),
+                entry.get("text") + (entry.get("url") != null ? " (" + entry.get("url") + ")" : ""),
+                number(entry.get("timestamp")));
+    }
+
+    private void addConsole(String source, String level, String text, double timestamp) {
+        if (!active) {
+            return;
+        }
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("timestamp", Instant.ofEpochMilli((long) timestamp).toString());
+        node.put("source", source);
+        node.put("level", level);
+        node.put("text", text);
+        synchronized (console) {
+            console.addLast(node);
+            while (console.size() > maxConsoleEntries) {
+                console.removeFirst();
+            }
+        }
+    }
+
+    private void onRequest(Map<String, Object> event) {
+        if (!active) {
+            return;
+        }
+        Map<?, ?> request = map(event.get("request"));
+        NetworkExchange exchange = new NetworkExchange();
+        exchange.method = String.valueOf(request.get("method"));
+        exchange.url = String.valueOf(request.get("url"));
+        exchange.requestHeaders = headers(request.get("headers"));
+        exchange.startedWallTime = number(event.get("wallTime"));
+        exchange.startedTimestamp = number(event.get("timestamp"));
+        synchronized (network) {
+            // Redirects reuse the request id; the latest hop wins
+            network.put(String.valueOf(event.get("requestId")), exchange);
+        }
+    }
+
+    private void onResponse(Map<String, Object> event) {
+        Map<?, ?> response = map(event.get("response"));
+        synchronized (network) {
+            NetworkExchange exchange = network.get(String.valueOf(event.get("requestId")));
+            if (exchange != null) {
+                exchange.status = (int) number(response.get("status"));
+                exchange.statusText = String.valueOf(response.get("statusText"));
+                exchange.mimeType = String.valueOf(response.get("mimeType"));
+                exchange.responseHeaders = headers(response.get("headers"));
+                if (response.get("protocol") != null) {
+                    exchange.protocol = String.valueOf(response.get("protocol")).toUpperCase();
+                }
+            }
+        }
+    }
+
+    private void onFinished(Map<String, Object> event) {
+        synchronized (network) {
+            NetworkExchange exchange = network.get(String.valueOf(event.get("requestId")));
+            if (exchange != null) {
+                exchange.finishedTimestamp = number(event.get("timestamp"));
+                exchange.encodedDataLength = (long) number(event.get("encodedDataLength"));
+            }
+        }
+    }
+
+    private void onFailed(Map<String, Object> event) {
+        synchronized (network) {
+            NetworkExchange exchange = network.get(String.valueOf(event.get("requestId")));
+            if (exchange != null) {
+                exchange.finishedTimestamp = number(event.get("timestamp"));
+                exchange.error = String.valueOf(event.get("errorText"));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> headers(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : new HashMap<>();
+    }
+
+    private static Map<?, ?> map(Object value) {
+        return value instanceof Map ? (Map<?, ?>) value : new HashMap<>();
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.qa.automation.diagnostics;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * FailureBundle is the result of FailureBundleCollector.collect
+ * The screenshot is available immediately; the zip archive is written in the background
+ */
+public class FailureBundle {
+
+    private final byte[] screenshot;
+    private final boolean screenshotTimedOut;
+    private final CompletableFuture<String> archive;
+
+    FailureBundle(byte[] screenshot, boolean screenshotTimedOut, CompletableFuture<String> archive) {
+        this.screenshot = screenshot;
+        this.screenshotTimedOut = screenshotTimedOut;
+        this.archive = archive;
+    }
+
+    /**
+     * Gets the screenshot collected with the bundle
+     * @return PNG bytes, or null if it failed or missed the time budget
+     */
+    public byte[] getScreenshot() {
+        return screenshot;
+    }
+
+    /**
+     * Checks whether the screenshot missed the time budget, i.e. the browser did not answer in time
+     * @return True if the screenshot part is marked as timed out in the manifest
+     */
+    public boolean isScreenshotTimedOut() {
+        return screenshotTimedOut;
+    }
+
+    /**
+     * Gets the archive being written
+     * @return Future of the relative path of the zip file
+     */
+    public CompletableFuture<String> getArchive() {
+        return archive;
+    }
+}
@@ -0,0 +1,251 @@
+package com.qa.automation.diagnostics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.qa.automation.base.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * FailureBundleCollector gathers diagnostics of a failed test into one zip archive
+ * The DOM, console log, network log (HAR), cookies, web storage and a screenshot are collected
+ * concurrently; whatever has not arrived within failureBundle.budgetMillis is left out and marked
+ * as timed out in manifest.json. The archive itself is written in the background.
+ * Console and network entries come from the BrowserEventLog of the current thread; without one
+ * the network log falls back to the page's resource timing entries.
+ */
+public class FailureBundleCollector {
+
+    private static final Logger logger = LogManager.getLogger(FailureBundleCollector.class);
+    private static final String BUNDLE_DIR = "test-output/failure-bundles/";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final AtomicInteger threadNumber = new AtomicInteger();
+    private static final ExecutorService pool = Executors.newFixedThreadPool(
+            Integer.parseInt(DriverFactory.getProperty("failureBundle.threads", "8")), runnable -> {
+                Thread thread = new Thread(runnable, "failure-bundle-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private static final String STORAGE_SCRIPT =
+            "function dump(s){var o={};try{for(var i=0;i<s.length;i++){var k=s.key(i);o[k]=s.getItem(k);}}catch(e){}return o;}"
+            + "return {url: location.href, title: document.title,"
+            + " localStorage: dump(window.localStorage), sessionStorage: dump(window.sessionStorage)};";
+    private static final String RESOURCE_TIMING_SCRIPT =
+            "return performance.getEntriesByType('navigation').concat(performance.getEntriesByType('resource'))"
+            + ".map(function(e){return {url: e.name, start: performance.timeOrigin + e.startTime,"
+            + " duration: e.duration, size: e.transferSize || 0, status: e.responseStatus || 0};});";
+
+    private static final class Part {
+        private final CompletableFuture<byte[]> content = new CompletableFuture<>();
+        private volatile long elapsedMillis;
+        private Future<?> task;
+    }
+
+    /**
+     * Checks whether failure bundles are enabled (failureBundle.enabled)
+     * @return True if enabled
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(DriverFactory.getProperty("failureBundle.enabled", "true"));
+    }
+
+    /**
+     * Collects the bundle for the current thread's driver, waiting at most failureBundle.budgetMillis
+     * @param testName Name of the failed test, used for the archive name
+     * @return Collected bundle
+     */
+    public static FailureBundle collect(String testName) {
+        return collect(DriverFactory.getDriver(), BrowserEventLog.get(), testName);
+    }
+
+    /**
+     * Collects the bundle for the given driver, waiting at most failureBundle.budgetMillis
+     * @param driver Driver of the failed test
+     * @param eventLog Console and network log of the session, may be null
+     * @param testName Name of the failed test, used for the archive name
+     * @return Collected bundle
+     */
+    public static FailureBundle collect(WebDriver driver, BrowserEventLog eventLog, String testName) {
+        long budgetMillis = Long.parseLong(DriverFactory.getProperty("failureBundle.budgetMillis", "1000"));
+        long start = System.nanoTime();
+
+        // Each part is its own WebDriver command or buffer copy; they run side by side on the bundle pool
+        Map<String, Part> parts = new LinkedHashMap<>();
+        parts.put("screenshot.png", submit(start, () -> ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES)));
+        parts.put("dom.html", submit(start, () -> driver.getPageSource().getBytes(StandardCharsets.UTF_8)));
+        parts.put("cookies.json", submit(start, () -> cookies(driver)));
+        parts.put("storage.json", submit(start, () -> json(((JavascriptExecutor) driver).executeScript(STORAGE_SCRIPT))));
+        if (eventLog != null) {
+            parts.put("console.json", submit(start, () -> json(eventLog.consoleAsJson())));
+            parts.put("network.har", submit(start, () -> json(eventLog.networkAsHar())));
+        } else {
+            parts.put("network.har", submit(start, () -> resourceTimingHar(driver)));
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(parts.values().stream()
+                .map(part -> part.content).toArray(CompletableFuture[]::new));
+        try {
+            all.get(budgetMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Failure bundle for {} exceeded {} ms; writing the parts collected so far", testName, budgetMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Individual part failures are recorded in the manifest
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Map<String, byte[]> collected = new LinkedHashMap<>();
+        ObjectNode manifest = MAPPER.createObjectNode();
+        manifest.put("test", testName);
+        manifest.put("createdAt", Instant.now().toString());
+        manifest.put("budgetMillis", budgetMillis);
+        manifest.put("elapsedMillis", elapsedMillis);
+        ObjectNode manifestParts = manifest.putObject("parts");
+        for (Map.Entry<String, Part> entry : parts.entrySet()) {
+            ObjectNode node = manifestParts.putObject(entry.getKey());
+            CompletableFuture<byte[]> content = entry.getValue().content;
+            if (!content.isDone()) {
+                // Interrupt the stuck WebDriver or DevTools call so it does not keep holding a pool thread
+                entry.getValue().task.cancel(true);
+                content.cancel(false);
+                node.put("status", "timed out");
+                continue;
+            }
+            try {
+                byte[] bytes = content.join();
+                collected.put(entry.getKey(), bytes);
+                node.put("status", "ok");
+                node.put("bytes", bytes.length);
+                node.put("millis", entry.getValue().elapsedMillis);
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                node.put("status", "failed");
+                node.put("error", String.valueOf(cause.getMessage()).split("\n")[0]);
+            }
+        }
+        if (eventLog == null) {
+            manifestParts.putObject("console.json").put("status", "unavailable");
+        }
+        logger.info("Failure bundle collected for {} in {} ms ({} of {} parts)", testName, elapsedMillis,
+                collected.size(), manifestParts.size());
+
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss_SSS").format(new Date());
+        String fileName = testName + "_" + timestamp + ".zip";
+        CompletableFuture<String> archive = CompletableFuture.supplyAsync(() -> writeZip(fileName, collected, manifest), pool);
+        boolean screenshotTimedOut = "timed out".equals(manifestParts.path("screenshot.png").path("status").asText());
+        return new FailureBundle(collected.get("screenshot.png"), screenshotTimedOut, archive);
+    }
+
+    private static Part submit(long startNanos, Callable<byte[]> task) {
+        Part part = new Part();
+        part.task = pool.submit(() -> {
+            try {
+                byte[] bytes = task.call();
+                part.elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                part.content.complete(bytes);
+            } catch (Exception e) {
+                part.content.completeExceptionally(e);
+            }
+        });
+        return part;
+    }
+
+    private static String writeZip(String fileName, Map<String, byte[]> collected, ObjectNode manifest) {
+        try {
+            Path dir = Paths.get(System.getProperty("user.dir"), BUNDLE_DIR);
+            Files.createDirectories(dir);
+            Path target = dir.resolve(fileName);
+            Path temp = dir.resolve(fileName + ".part");
+            try (OutputStream out = Files.newOutputStream(temp); ZipOutputStream zip = new ZipOutputStream(out)) {
+                addEntry(zip, "manifest.json", MAPPER.writerWithDefaultPrettyPrinter().writeValueAsBytes(manifest));
+                for (Map.Entry<String, byte[]> entry : collected.entrySet()) {
+                    addEntry(zip, entry.getKey(), entry.getValue());
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            logger.info("Failure bundle written: {}", target);
+            return BUNDLE_DIR + fileName;
+        } catch (IOException e) {
+            logger.error("Failed to write failure bundle: {}. Error: {}", fileName, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void addEntry(ZipOutputStream zip, String name, byte[] content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content);
+        zip.closeEntry();
+    }
+
+    private static byte[] cookies(WebDriver driver) throws IOException {
+        ArrayNode cookies = MAPPER.createArrayNode();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            ObjectNode node = cookies.addObject();
+            node.put("name", cookie.getName());
+            node.put("value", cookie.getValue());
+            node.put("domain", cookie.getDomain());
+            node.put("path", cookie.getPath());
+            node.put("expires", cookie.getExpiry() != null ? cookie.getExpiry().toInstant().toString() : null);
+            node.put("secure", cookie.isSecure());
+            node.put("httpOnly", cookie.isHttpOnly());
+            node.put("sameSite", cookie.getSameSite());
+        }
+        return json(cookies);
+    }
+
+    private static byte[] resourceTimingHar(WebDriver driver) throws IOException {
+        Object result = ((JavascriptExecutor) driver).executeScript(RESOURCE_TIMING_SCRIPT);
+        ObjectNode har = HarBuilder.newHar();
+        ObjectNode log = (ObjectNode) har.get("log");
+        log.put("comment", "Built from resource timing entries; methods and headers are not available");
+        ArrayNode entries = (ArrayNode) log.get("entries");
+        if (result instanceof List) {
+            for (Object item : (List<?>) result) {
+                Map<?, ?> timing = (Map<?, ?>) item;
+                HarBuilder.entry(entries,
+                        Instant.ofEpochMilli(((Number) timing.get("start")).longValue()).toString(),
+                        ((Number) timing.get("duration")).doubleValue(), "GET", String.valueOf(timing.get("url")),
+                        "HTTP/1.1", null, ((Number) timing.get("status")).intValue(), "", null, "",
+                        ((Number) timing.get("size")).longValue());
+            }
+        }
+        return json(har);
+    }
+
+    private static byte[] json(Object value) throws IOException {
+        return MAPPER.writerWithDefaultPrettyPrinter().writeValueAsBytes(value);
+    }
+}
@@ -0,0 +1,86 @@
+package com.qa.automation.diagnostics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Map;
+
+/**
+ * HarBuilder creates the HAR 1.2 nodes shared by the CDP and resource-timing network logs
+ */
+final class HarBuilder {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private HarBuilder() {
+    }
+
+    /**
+     * Creates an empty HAR document
+     * @return HAR root with an empty log.entries array
+     */
+    static ObjectNode newHar() {
+        ObjectNode har = MAPPER.createObjectNode();
+        ObjectNode log = har.putObject("log");
+        log.put("version", "1.2");
+        ObjectNode creator = log.putObject("creator");
+        creator.put("name", "selenium-framework");
+        creator.put("version", "1.0");
+        log.putArray("entries");
+        return har;
+    }
+
+    /**
+     * Appends an entry to a HAR entries array
+     * @return The appended entry
+     */
+    static ObjectNode entry(ArrayNode entries, String startedDateTime, double timeMillis, String method, String url,
+                            String httpVersion, Map<String, Object> requestHeaders, int status, String statusText,
+                            Map<String, Object> responseHeaders, String mimeType, long bodySize) {
+        ObjectNode entry = entries.addObject();
+        entry.put("startedDateTime", startedDateTime);
+        entry.put("time", timeMillis);
+
+        ObjectNode request = entry.putObject("request");
+        request.put("method", method);
+        request.put("url", url);
+        request.put("httpVersion", httpVersion);
+        headers(request.putArray("headers"), requestHeaders);
+        request.putArray("queryString");
+        request.putArray("cookies");
+        request.put("headersSize", -1);
+        request.put("bodySize", -1);
+
+        ObjectNode response = entry.putObject("response");
+        response.put("status", status);
+        response.put("statusText", statusText);
+        response.put("httpVersion", httpVersion);
+        headers(response.putArray("headers"), responseHeaders);
+        response.putArray("cookies");
+        ObjectNode content = response.putObject("content");
+        content.put("size", bodySize);
+        content.put("mimeType", mimeType);
+        response.put("redirectURL", "");
+        response.put("headersSize", -1);
+        response.put("bodySize", bodySize);
+
+        entry.putObject("cache");
+        ObjectNode timings = entry.putObject("timings");
+        timings.put("send", 0);
+        timings.put("wait", Math.max(timeMillis, 0));
+        timings.put("receive", 0);
+        return entry;
+    }
+
+    private static void headers(ArrayNode target, Map<String, Object> headers) {
+        if (headers == null) {
+            return;
+        }
+        for (Map.Entry<String, Object> header : headers.entrySet()) {
+            ObjectNode node = target.addObject();
+            node.put("name", header.getKey());
+            node.put("value", String.valueOf(header.getValue()));
+        }
+    }
+}
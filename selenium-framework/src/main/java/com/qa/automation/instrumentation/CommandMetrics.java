@@ -0,0 +1,153 @@
+package com.qa.automation.instrumentation;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CommandMetrics collects a count, an error count and a latency histogram per WebDriver command type
+ * Recording is lock-free so the test thread and background screenshot threads can share one instance
+ */
+public class CommandMetrics {
+
+    private final Map<String, CommandStats> commands = new ConcurrentHashMap<>();
+
+    /**
+     * Records one command execution
+     * @param command Command type, e.g. "driver.findElement" or "element.click"
+     * @param durationNanos Command duration in nanoseconds
+     * @param failed true if the command threw
+     */
+    public void record(String command, long durationNanos, boolean failed) {
+        CommandStats stats = commands.get(command);
+        if (stats == null) {
+            stats = commands.computeIfAbsent(command, CommandStats::new);
+        }
+        stats.record(durationNanos, failed);
+    }
+
+    /**
+     * Adds all executions recorded in another instance to this one
+     * @param other Metrics to merge
+     */
+    public synchronized void merge(CommandMetrics other) {
+        for (CommandStats source : other.commands.values()) {
+            commands.computeIfAbsent(source.name, CommandStats::new).add(source);
+        }
+    }
+
+    /**
+     * Gets command statistics ordered by total time spent, largest first
+     * @return Unmodifiable list of command statistics
+     */
+    public List<CommandStats> getCommands() {
+        List<CommandStats> sorted = new ArrayList<>(commands.values());
+        sorted.sort((first, second) -> Long.compare(second.getTotalNanos(), first.getTotalNanos()));
+        return Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Gets the number of recorded command executions
+     * @return Total count including failures
+     */
+    public long getTotalCount() {
+        long total = 0;
+        for (CommandStats stats : commands.values()) {
+            total += stats.getCount();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the time spent inside WebDriver commands
+     * @return Total duration in milliseconds
+     */
+    public double getTotalMillis() {
+        long total = 0;
+        for (CommandStats stats : commands.values()) {
+            total += stats.getTotalNanos();
+        }
+        return total / 1_000_000.0;
+    }
+
+    public boolean isEmpty() {
+        return commands.isEmpty();
+    }
+
+    /**
+     * Latency statistics for one command type
+     */
+    public static class CommandStats {
+
+        private final String name;
+        private final Histogram latencyMicros = new ConcurrentHistogram(3);
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        CommandStats(String name) {
+            this.name = name;
+        }
+
+        void record(long durationNanos, boolean failed) {
+            latencyMicros.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(durationNanos)));
+            totalNanos.add(durationNanos);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        void add(CommandStats other) {
+            latencyMicros.add(other.latencyMicros);
+            totalNanos.add(other.totalNanos.sum());
+            errors.add(other.errors.sum());
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the number of executions (successful and failed)
+         * @return Execution count
+         */
+        public long getCount() {
+            return latencyMicros.getTotalCount();
+        }
+
+        public long getErrorCount() {
+            return errors.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public double getTotalMillis() {
+            return totalNanos.sum() / 1_000_000.0;
+        }
+
+        /**
+         * Gets a latency percentile
+         * @param percentile Percentile between 0 and 100
+         * @return Latency in milliseconds
+         */
+        public double getPercentileMillis(double percentile) {
+            return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        public double getMeanMillis() {
+            return latencyMicros.getMean() / 1000.0;
+        }
+
+        public double getMaxMillis() {
+            return latencyMicros.getMaxValue() / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.qa.automation.instrumentation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * CommandReport renders CommandMetrics as a "where did the time go" table for ExtentReports
+ * and logs, and exports the run aggregate as JSON
+ */
+public class CommandReport {
+
+    private static final Logger logger = LogManager.getLogger(CommandReport.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final double[] PERCENTILES = {50.0, 95.0, 99.0};
+
+    private CommandReport() {
+    }
+
+    /**
+     * Renders the metrics as an HTML table suitable for ExtentReportManager.logInfo
+     * The last rows split the test duration into time inside WebDriver calls and everything else
+     * @param metrics Metrics of one test
+     * @param testMillis Test duration in milliseconds, or 0 to omit the split
+     * @return HTML fragment
+     */
+    public static String toHtml(CommandMetrics metrics, long testMillis) {
+        StringBuilder html = new StringBuilder();
+        html.append("<details><summary>Where did the time go: ").append(metrics.getTotalCount())
+                .append(" WebDriver calls, ").append(String.format(Locale.ROOT, "%.1f", metrics.getTotalMillis()))
+                .append(" ms</summary><table class=\"table table-sm\"><thead><tr>")
+                .append("<th>Command</th><th>Count</th><th>Errors</th><th>Total ms</th><th>% of test</th><th>Mean ms</th>");
+        for (double percentile : PERCENTILES) {
+            html.append("<th>p").append((int) percentile).append(" ms</th>");
+        }
+        html.append("<th>Max ms</th></tr></thead><tbody>");
+        for (CommandMetrics.CommandStats stats : metrics.getCommands()) {
+            html.append("<tr><td>").append(escape(stats.getName())).append("</td><td>").append(stats.getCount())
+                    .append("</td><td>").append(stats.getErrorCount()).append("</td><td>")
+                    .append(format(stats.getTotalMillis())).append("</td><td>")
+                    .append(share(stats.getTotalMillis(), testMillis)).append("</td><td>")
+                    .append(format(stats.getMeanMillis())).append("</td>");
+            for (double percentile : PERCENTILES) {
+                html.append("<td>").append(format(stats.getPercentileMillis(percentile))).append("</td>");
+            }
+            html.append("<td>").append(format(stats.getMaxMillis())).append("</td></tr>");
+        }
+        if (testMillis > 0) {
+            double outside = Math.max(0, testMillis - metrics.getTotalMillis());
+            html.append("<tr><td><b>WebDriver total</b></td><td>").append(metrics.getTotalCount())
+                    .append("</td><td></td><td>").append(format(metrics.getTotalMillis())).append("</td><td>")
+                    .append(share(metrics.getTotalMillis(), testMillis)).append("</td><td colspan=\"5\"></td></tr>")
+                    .append("<tr><td><b>Outside WebDriver</b></td><td></td><td></td><td>").append(format(outside))
+                    .append("</td><td>").append(share(outside, testMillis)).append("</td><td colspan=\"5\"></td></tr>");
+        }
+        html.append("</tbody></table></details>");
+        return html.toString();
+    }
+
+    /**
+     * Renders the metrics as a fixed-width text table
+     * @param metrics Metrics to render
+     * @return Multi-line text table
+     */
+    public static String toText(CommandMetrics metrics) {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "%-32s %8s %7s %11s %9s %9s %9s %9s %9s%n",
+                "Command", "Count", "Errors", "Total ms", "Mean ms", "p50 ms", "p95 ms", "p99 ms", "Max ms"));
+        for (CommandMetrics.CommandStats stats : metrics.getCommands()) {
+            text.append(String.format(Locale.ROOT, "%-32s %8d %7d %11.1f %9.2f ",
+                    stats.getName(), stats.getCount(), stats.getErrorCount(), stats.getTotalMillis(),
+                    stats.getMeanMillis()));
+            for (double percentile : PERCENTILES) {
+                text.append(String.format(Locale.ROOT, "%9.2f ", stats.getPercentileMillis(percentile)));
+            }
+            text.append(String.format(Locale.ROOT, "%9.2f%n", stats.getMaxMillis()));
+        }
+        text.append(String.format(Locale.ROOT, "Total: %d WebDriver calls, %.1f ms",
+                metrics.getTotalCount(), metrics.getTotalMillis()));
+        return text.toString();
+    }
+
+    /**
+     * Writes the metrics as JSON, replacing the file atomically
+     * @param metrics Metrics to export
+     * @param file Target file
+     */
+    public static void export(CommandMetrics metrics, Path file) {
+        try {
+            ObjectNode root = MAPPER.createObjectNode();
+            root.put("generatedAt", Instant.now().toString());
+            root.put("totalCalls", metrics.getTotalCount());
+            root.put("totalMillis", metrics.getTotalMillis());
+            ArrayNode commands = root.putArray("commands");
+            for (CommandMetrics.CommandStats stats : metrics.getCommands()) {
+                ObjectNode command = commands.addObject();
+                command.put("command", stats.getName());
+                command.put("count", stats.getCount());
+                command.put("errors", stats.getErrorCount());
+                command.put("totalMillis", stats.getTotalMillis());
+                command.put("meanMillis", stats.getMeanMillis());
+                for (double percentile : PERCENTILES) {
+                    command.put("p" + (int) percentile + "Millis", stats.getPercentileMillis(percentile));
+                }
+                command.put("maxMillis", stats.getMaxMillis());
+            }
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".part");
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), root);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("WebDriver command timings written to {}", file);
+        } catch (IOException e) {
+            logger.error("Failed to export WebDriver command timings. Error: {}", e.getMessage());
+        }
+    }
+
+    private static String share(double millis, long testMillis) {
+        return testMillis > 0 ? String.format(Locale.ROOT, "%.1f", millis * 100 / testMillis) : "";
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.1f", millis);
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
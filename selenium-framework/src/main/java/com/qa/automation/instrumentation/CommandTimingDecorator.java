@@ -0,0 +1,173 @@
+package com.qa.automation.instrumentation;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CommandTimingDecorator feeds a WebDriverListener's beforeAnyCall/afterAnyCall/onError callbacks
+ * from JDK dynamic proxies
+ * Selenium's EventFiringDecorator (4.15) generates a new ByteBuddy class for every object it wraps,
+ * about 10 ms per findElement result, and that cost lands inside the listener's timing. JDK proxy
+ * classes are cached per interface set, so wrapping stays in the microsecond range
+ */
+final class CommandTimingDecorator implements InvocationHandler {
+
+    private static final Map<Class<?>, Class<?>[]> INTERFACES = new ConcurrentHashMap<>();
+    private static final Method GET_WRAPPED_ELEMENT;
+    private static final Method GET_WRAPPED_DRIVER;
+
+    static {
+        try {
+            GET_WRAPPED_ELEMENT = WrapsElement.class.getMethod("getWrappedElement");
+            GET_WRAPPED_DRIVER = WrapsDriver.class.getMethod("getWrappedDriver");
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object original;
+    private final WebDriver decoratedDriver;
+    private final WebDriverListener listener;
+
+    private CommandTimingDecorator(Object original, WebDriver decoratedDriver, WebDriverListener listener) {
+        this.original = original;
+        this.decoratedDriver = decoratedDriver;
+        this.listener = listener;
+    }
+
+    /**
+     * Wraps a driver; elements, navigation, options, windows and alerts it returns are wrapped as well
+     * @param driver Driver to decorate
+     * @param listener Listener receiving the call callbacks
+     * @return Proxy implementing every public interface of the driver
+     */
+    static WebDriver decorate(WebDriver driver, WebDriverListener listener) {
+        return (WebDriver) wrap(driver, null, listener);
+    }
+
+    private static Object wrap(Object original, WebDriver decoratedDriver, WebDriverListener listener) {
+        Class<?>[] interfaces = INTERFACES.computeIfAbsent(original.getClass(), CommandTimingDecorator::interfacesOf);
+        return Proxy.newProxyInstance(original.getClass().getClassLoader(), interfaces,
+                new CommandTimingDecorator(original, decoratedDriver, listener));
+    }
+
+    private static Class<?>[] interfacesOf(Class<?> type) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            collect(current.getInterfaces(), interfaces);
+        }
+        // Lets Selenium (Actions, executeScript arguments) and callers reach the original objects
+        if (WebElement.class.isAssignableFrom(type)) {
+            interfaces.add(WrapsElement.class);
+        } else if (WebDriver.class.isAssignableFrom(type)) {
+            interfaces.add(WrapsDriver.class);
+        }
+        return interfaces.toArray(new Class<?>[0]);
+    }
+
+    private static void collect(Class<?>[] candidates, Set<Class<?>> interfaces) {
+        for (Class<?> candidate : candidates) {
+            // Proxies can only implement interfaces visible from outside their package
+            if (Modifier.isPublic(candidate.getModifiers()) && interfaces.add(candidate)) {
+                collect(candidate.getInterfaces(), interfaces);
+            }
+        }
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.equals(GET_WRAPPED_ELEMENT) && original instanceof WebElement) {
+            return original;
+        }
+        if (method.equals(GET_WRAPPED_DRIVER) && original instanceof WebDriver) {
+            return original;
+        }
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeObjectMethod(proxy, method, args);
+        }
+
+        Object[] unwrappedArgs = unwrapAll(args);
+        listener.beforeAnyCall(original, method, unwrappedArgs);
+        Object result;
+        try {
+            result = method.invoke(original, unwrappedArgs);
+        } catch (InvocationTargetException e) {
+            listener.onError(original, method, unwrappedArgs, e);
+            throw e.getTargetException();
+        }
+        listener.afterAnyCall(original, method, unwrappedArgs, result);
+        return decorateResult(proxy, result);
+    }
+
+    private Object invokeObjectMethod(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0] || original.equals(unwrap(args[0]));
+            case "hashCode":
+                return original.hashCode();
+            default:
+                return method.invoke(original, args);
+        }
+    }
+
+    private Object decorateResult(Object proxy, Object result) {
+        WebDriver driver = decoratedDriver != null ? decoratedDriver : (WebDriver) proxy;
+        if (result instanceof WebDriver) {
+            // switchTo().window(...), defaultContent() and friends hand back the driver itself
+            return driver;
+        }
+        if (result instanceof WebElement || result instanceof WebDriver.Navigation || result instanceof WebDriver.Options
+                || result instanceof WebDriver.TargetLocator || result instanceof WebDriver.Timeouts
+                || result instanceof WebDriver.Window || result instanceof Alert) {
+            return wrap(result, driver, listener);
+        }
+        if (result instanceof List && !((List<?>) result).isEmpty() && ((List<?>) result).get(0) instanceof WebElement) {
+            List<Object> elements = new ArrayList<>(((List<?>) result).size());
+            for (Object element : (List<?>) result) {
+                elements.add(decorateResult(proxy, element));
+            }
+            return elements;
+        }
+        return result;
+    }
+
+    private static Object[] unwrapAll(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        Object[] unwrapped = new Object[args.length];
+        for (int index = 0; index < args.length; index++) {
+            Object arg = args[index];
+            if (arg != null && arg.getClass() == Object[].class) {
+                // executeScript(String, Object...) receives its arguments as one array
+                arg = unwrapAll((Object[]) arg);
+            }
+            unwrapped[index] = unwrap(arg);
+        }
+        return unwrapped;
+    }
+
+    private static Object unwrap(Object value) {
+        if (value != null && Proxy.isProxyClass(value.getClass())
+                && Proxy.getInvocationHandler(value) instanceof CommandTimingDecorator) {
+            return ((CommandTimingDecorator) Proxy.getInvocationHandler(value)).original;
+        }
+        return value;
+    }
+}
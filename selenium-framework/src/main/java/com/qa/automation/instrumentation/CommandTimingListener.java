@@ -0,0 +1,161 @@
+package com.qa.automation.instrumentation;
+
+import com.qa.automation.base.DriverFactory;
+import com.qa.automation.tracing.Span;
+import com.qa.automation.tracing.Tracer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * CommandTimingListener times every WebDriver call made through a decorated driver
+ * DriverFactory wraps each driver with instrument(); calls are recorded per command type into the
+ * metrics of the test that owns the driver, and merged into a run-wide aggregate when the test
+ * finishes (finishTest) or the driver is closed (release). As a WebDriverListener it can also be
+ * registered with Selenium's EventFiringDecorator
+ */
+public class CommandTimingListener implements WebDriverListener {
+
+    private static final Logger logger = LogManager.getLogger(CommandTimingListener.class);
+    private static final ThreadLocal<CommandTimingListener> current = new ThreadLocal<>();
+    private static final CommandMetrics runMetrics = new CommandMetrics();
+
+    private volatile CommandMetrics testMetrics = new CommandMetrics();
+    // Per calling thread; decorated calls can nest (e.g. a wait polling findElement)
+    private final ThreadLocal<Deque<Call>> calls = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private static final class Call {
+        private final String command;
+        private final long startedNanos = System.nanoTime();
+        private final DriverCommandEvent event = FlightEvents.commandStarted();
+        private final Span span;
+
+        Call(String command) {
+            this.command = command;
+            this.span = Tracer.commandStarted(command);
+        }
+    }
+
+    private CommandTimingListener() {
+    }
+
+    /**
+     * Checks if command timing is enabled (instrumentation.commandTimings, default true)
+     * @return true if drivers should be instrumented
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(DriverFactory.getProperty("instrumentation.commandTimings", "true"));
+    }
+
+    /**
+     * Wraps a driver so every call is timed, and makes it the current thread's instrumented driver
+     * The decorated driver implements the same public interfaces as the original (TakesScreenshot, HasDevTools, ...)
+     * @param driver Driver to instrument
+     * @return Decorated WebDriver
+     */
+    public static WebDriver instrument(WebDriver driver) {
+        release();
+        CommandTimingListener listener = new CommandTimingListener();
+        current.set(listener);
+        return CommandTimingDecorator.decorate(driver, listener);
+    }
+
+    /**
+     * Hands over the commands recorded for the current test and merges them into the run aggregate
+     * Commands issued afterwards (e.g. quit in teardown) count towards the run only
+     * @return Metrics of the finished test, or null if the thread has no instrumented driver
+     */
+    public static CommandMetrics finishTest() {
+        CommandTimingListener listener = current.get();
+        if (listener == null) {
+            return null;
+        }
+        CommandMetrics finished = listener.testMetrics;
+        listener.testMetrics = new CommandMetrics();
+        runMetrics.merge(finished);
+        return finished;
+    }
+
+    /**
+     * Merges whatever is left for the current thread's driver into the run aggregate and forgets it
+     * Call after the driver has quit
+     */
+    public static void release() {
+        CommandTimingListener listener = current.get();
+        if (listener != null) {
+            runMetrics.merge(listener.testMetrics);
+            current.remove();
+        }
+    }
+
+    /**
+     * Gets the aggregate of all finished tests and released drivers
+     * @return Run-wide command metrics
+     */
+    public static CommandMetrics getRunMetrics() {
+        return runMetrics;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        calls.get().push(new Call(commandName(target, method)));
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(method, null);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(method, e.getTargetException());
+    }
+
+    private void record(Method method, Throwable error) {
+        Call call = calls.get().poll();
+        if (call == null) {
+            logger.debug("No start time for {}", method.getName());
+            return;
+        }
+        long durationNanos = System.nanoTime() - call.startedNanos;
+        testMetrics.record(call.command, durationNanos, error != null);
+        FlightEvents.commandFinished(call.event, call.command, error != null);
+        Tracer.commandFinished(call.span, error);
+    }
+
+    /**
+     * Names a call after the object it was made on: driver.*, element.*, navigate.*, manage.*, ...
+     */
+    static String commandName(Object target, Method method) {
+        String owner;
+        if (target instanceof WebElement) {
+            owner = "element";
+        } else if (target instanceof WebDriver) {
+            owner = "driver";
+        } else {
+            switch (method.getDeclaringClass().getSimpleName()) {
+                case "Navigation":
+                    owner = "navigate";
+                    break;
+                case "Options":
+                    owner = "manage";
+                    break;
+                case "TargetLocator":
+                    owner = "switchTo";
+                    break;
+                default:
+                    String simpleName = method.getDeclaringClass().getSimpleName();
+                    owner = Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+                    break;
+            }
+        }
+        return owner + "." + method.getName();
+    }
+}
@@ -0,0 +1,27 @@
+package com.qa.automation.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one WebDriver call made through a driver instrumented by CommandTimingListener
+ */
+@Name("com.qa.automation.DriverCommand")
+@Label("WebDriver Command")
+@Category({"QA Automation", "WebDriver"})
+@Description("Call on a WebDriver, WebElement, Navigation, Options or Alert")
+@StackTrace(false)
+public class DriverCommandEvent extends jdk.jfr.Event {
+
+    @Label("Test Name")
+    String testName;
+
+    @Label("Command")
+    String command;
+
+    @Label("Failed")
+    boolean failed;
+}
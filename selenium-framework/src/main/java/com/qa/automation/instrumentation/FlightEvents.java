@@ -0,0 +1,122 @@
+package com.qa.automation.instrumentation;
+
+import java.util.function.Supplier;
+
+/**
+ * FlightEvents emits the framework's Java Flight Recorder events: tests, report steps, waits and
+ * WebDriver commands, each tagged with the name of the test running on the thread
+ * Events cost next to nothing unless a recording is running, e.g. mvn test -Pjfr
+ */
+public class FlightEvents {
+
+    private static final int MAX_MESSAGE_LENGTH = 512;
+    private static final ThreadLocal<TestEvent> currentTest = new ThreadLocal<>();
+
+    private FlightEvents() {
+    }
+
+    /**
+     * Begins the test event for the current thread
+     * @param testName Test method name
+     * @param description Test description, may be null
+     */
+    public static void testStarted(String testName, String description) {
+        TestEvent event = new TestEvent();
+        event.testName = testName;
+        event.description = description;
+        event.begin();
+        currentTest.set(event);
+    }
+
+    /**
+     * Ends and commits the current thread's test event
+     * A test skipped before it started gets an instant event
+     * @param testName Test method name
+     * @param status PASS, FAIL or SKIP
+     */
+    public static void testFinished(String testName, String status) {
+        TestEvent event = currentTest.get();
+        currentTest.remove();
+        if (event == null) {
+            event = new TestEvent();
+            event.testName = testName;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.status = status;
+            event.commit();
+        }
+    }
+
+    /**
+     * Commits an instant event for a report message
+     * @param status INFO, PASS, FAIL or SKIP
+     * @param message Logged message, truncated to 512 characters
+     */
+    public static void step(String status, String message) {
+        ReportStepEvent event = new ReportStepEvent();
+        if (event.isEnabled()) {
+            event.testName = currentTestName();
+            event.status = status;
+            event.message = message != null && message.length() > MAX_MESSAGE_LENGTH
+                    ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+            event.commit();
+        }
+    }
+
+    /**
+     * Runs a wait inside a wait event
+     * @param condition Condition waited for; String.valueOf is only called while recording
+     * @param wait The wait itself
+     * @return Value returned by the wait
+     */
+    public static <V> V waitFor(Object condition, Supplier<V> wait) {
+        WaitEvent event = new WaitEvent();
+        event.begin();
+        boolean satisfied = false;
+        try {
+            V value = wait.get();
+            satisfied = true;
+            return value;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.testName = currentTestName();
+                event.condition = String.valueOf(condition);
+                event.satisfied = satisfied;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Begins a WebDriver command event
+     * @return Event to pass to commandFinished
+     */
+    static DriverCommandEvent commandStarted() {
+        DriverCommandEvent event = new DriverCommandEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and commits a WebDriver command event
+     * @param event Event returned by commandStarted
+     * @param command Command name, e.g. "element.click"
+     * @param failed true if the command threw
+     */
+    static void commandFinished(DriverCommandEvent event, String command, boolean failed) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.testName = currentTestName();
+            event.command = command;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
+    private static String currentTestName() {
+        TestEvent test = currentTest.get();
+        return test != null ? test.testName : null;
+    }
+}
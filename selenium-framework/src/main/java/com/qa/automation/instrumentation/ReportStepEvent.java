@@ -0,0 +1,27 @@
+package com.qa.automation.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Instant JFR event for a message logged to the report through ExtentReportManager.log*
+ */
+@Name("com.qa.automation.ReportStep")
+@Label("Report Step")
+@Category({"QA Automation", "Steps"})
+@Description("Message logged to the current test's report node")
+@StackTrace(false)
+public class ReportStepEvent extends jdk.jfr.Event {
+
+    @Label("Test Name")
+    String testName;
+
+    @Label("Status")
+    String status;
+
+    @Label("Message")
+    String message;
+}
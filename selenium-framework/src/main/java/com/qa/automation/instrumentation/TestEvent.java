@@ -0,0 +1,27 @@
+package com.qa.automation.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one test method, from TestStatusListener.onTestStart to its pass/fail/skip callback
+ */
+@Name("com.qa.automation.Test")
+@Label("Test")
+@Category({"QA Automation", "Tests"})
+@Description("Execution of one test method")
+@StackTrace(false)
+public class TestEvent extends jdk.jfr.Event {
+
+    @Label("Test Name")
+    String testName;
+
+    @Label("Description")
+    String description;
+
+    @Label("Status")
+    String status;
+}
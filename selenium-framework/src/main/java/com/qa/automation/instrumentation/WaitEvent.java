@@ -0,0 +1,27 @@
+package com.qa.automation.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning an explicit wait (ElementUtil) or a page load (BasePage.navigateTo)
+ */
+@Name("com.qa.automation.Wait")
+@Label("Wait")
+@Category({"QA Automation", "Waits"})
+@Description("Explicit wait for a condition or page load")
+@StackTrace(false)
+public class WaitEvent extends jdk.jfr.Event {
+
+    @Label("Test Name")
+    String testName;
+
+    @Label("Condition")
+    String condition;
+
+    @Label("Satisfied")
+    boolean satisfied;
+}
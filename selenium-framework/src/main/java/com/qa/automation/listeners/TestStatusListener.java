@@ -1,26 +1,57 @@
 package com.qa.automation.listeners;
 
+import com.qa.automation.base.DriverFactory;
+import com.qa.automation.diagnostics.FailureBundle;
+import com.qa.automation.diagnostics.FailureBundleCollector;
+import com.qa.automation.instrumentation.CommandMetrics;
+import com.qa.automation.instrumentation.CommandReport;
+import com.qa.automation.instrumentation.CommandTimingListener;
+import com.qa.automation.instrumentation.FlightEvents;
+import com.qa.automation.tracing.Span;
+import com.qa.automation.tracing.Tracer;
 import com.qa.automation.utils.ExtentReportManager;
+import com.qa.automation.utils.ScreencastRecorder;
 import com.qa.automation.utils.ScreenshotUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * TestStatusListener implements ITestListener to handle test execution events
  * Automatically captures screenshots on test failure and attaches to ExtentReport
+ * As an ISuiteListener it also opens and closes the suite's root trace span
  */
-public class TestStatusListener implements ITestListener {
+public class TestStatusListener implements ITestListener, ISuiteListener {
 
     private static final Logger logger = LogManager.getLogger(TestStatusListener.class);
 
+    @Override
+    public void onStart(ISuite suite) {
+        Tracer.startSuite(suite.getName());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Tracer.endSuite();
+    }
+
     @Override
     public void onTestStart(ITestResult result) {
         try {
             String testName = result.getMethod().getMethodName();
             String testDescription = result.getMethod().getDescription();
+            FlightEvents.testStarted(testName, testDescription);
+            Span span = Tracer.startSpan(testName);
+            if (span != null) {
+                span.setAttribute("test.class", result.getTestClass().getName())
+                        .setAttribute("test.description", testDescription);
+            }
             
             // Create test in ExtentReport
             com.aventstack.extentreports.ExtentTest test;
@@ -76,25 +107,32 @@ public class TestStatusListener implements ITestListener {
                 ExtentReportManager.logInfo("End Time: " + endTime);
                 ExtentReportManager.logInfo("Duration: " + (duration / 1000.0) + " seconds");
                 ExtentReportManager.logInfo("✓ Test execution completed successfully");
+                logCommandTimings(result);
                 
-                // Capture screenshot on success for visual verification
-                String base64Screenshot = ScreenshotUtil.captureScreenshotAsBase64();
-                if (base64Screenshot != null && !base64Screenshot.isEmpty()) {
-                    ExtentReportManager.attachScreenshotBase64(base64Screenshot);
-                    logger.info("Success screenshot captured and attached as base64");
+                // Capture screenshot on success for visual verification; tests without a browser session get none
+                if (DriverFactory.hasDriver()) {
+                    String base64Screenshot = ScreenshotUtil.captureScreenshotAsBase64();
+                    if (base64Screenshot != null && !base64Screenshot.isEmpty()) {
+                        ExtentReportManager.attachScreenshotBase64(base64Screenshot);
+                        logger.info("Success screenshot captured and attached as base64");
+                    }
                 }
                 
                 // Mark test as passed - this is important for timeline and charts
-                test.pass("✅ TEST PASSED: " + testName);
+                // Goes through the manager so it lands after the queued log events
+                ExtentReportManager.logPass("✅ TEST PASSED: " + testName);
                 logger.info("Test marked as PASSED in ExtentReport: {}", testName);
             } else {
                 logger.warn("No ExtentTest instance found for test: {} - creating new test", testName);
                 // Try to create test if it doesn't exist
                 test = ExtentReportManager.createTest(testName, "Test passed");
                 if (test != null) {
-                    test.pass("✅ TEST PASSED: " + testName);
+                    ExtentReportManager.logPass("✅ TEST PASSED: " + testName);
                 }
             }
+            FlightEvents.testFinished(testName, "PASS");
+            Tracer.endCurrentSpan(Span.Status.OK, null);
+            ExtentReportManager.testFinished();
         } catch (Exception e) {
             logger.error("Error in onTestSuccess for test: {}. Error: {}", 
                     result.getMethod().getMethodName(), e.getMessage());
@@ -119,22 +157,15 @@ public class TestStatusListener implements ITestListener {
                 ExtentReportManager.logFail("❌ TEST FAILED: " + testName);
                 ExtentReportManager.logFail("Error Message: " + errorMessage);
                 
-                // Capture screenshot on failure
-                String screenshotPath = ScreenshotUtil.captureScreenshot(testName + "_failure");
-                if (screenshotPath != null) {
-                    ExtentReportManager.attachScreenshot(screenshotPath);
-                    logger.info("Screenshot captured and attached to ExtentReport: {}", screenshotPath);
+                // Browser artifacts only exist for tests that opened a session; asking for them would start one
+                if (DriverFactory.hasDriver()) {
+                    attachFailureArtifacts(testName);
                 } else {
-                    // Try base64 screenshot as fallback
-                    String base64Screenshot = ScreenshotUtil.captureScreenshotAsBase64();
-                    if (base64Screenshot != null) {
-                        ExtentReportManager.attachScreenshotBase64(base64Screenshot);
-                        logger.info("Base64 screenshot captured and attached to ExtentReport");
-                    } else {
-                        logger.warn("Failed to capture screenshot for failed test: {}", testName);
-                    }
+                    logger.info("No browser session for failed test: {} - skipping screenshot, bundle and recording", testName);
                 }
-                
+
+                logCommandTimings(result);
+
                 // Log stack trace if available
                 if (throwable != null) {
                     String stackTrace = getStackTrace(throwable);
@@ -142,11 +173,14 @@ public class TestStatusListener implements ITestListener {
                 }
                 
                 // Mark test as failed
-                test.fail("Test failed: " + errorMessage);
+                ExtentReportManager.logFail("Test failed: " + errorMessage);
                 ExtentReportManager.logFail("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
             } else {
                 logger.warn("No ExtentTest instance found for failed test: {}", testName);
             }
+            FlightEvents.testFinished(testName, "FAIL");
+            Tracer.endCurrentSpan(Span.Status.ERROR, errorMessage);
+            ExtentReportManager.testFinished();
         } catch (Exception e) {
             logger.error("Error in onTestFailure for test: {}. Error: {}", 
                     result.getMethod().getMethodName(), e.getMessage());
@@ -164,6 +198,11 @@ public class TestStatusListener implements ITestListener {
             logger.warn("Test skipped: {}. Reason: {}", testName, skipReason);
             ExtentReportManager.logSkip("Test skipped: " + testName);
             ExtentReportManager.logSkip("Reason: " + skipReason);
+            // Commands of a failed @BeforeMethod are reported here and must not carry over to the next test
+            logCommandTimings(result);
+            FlightEvents.testFinished(testName, "SKIP");
+            Tracer.endCurrentSpan(Span.Status.UNSET, null);
+            ExtentReportManager.testFinished();
         } catch (Exception e) {
             logger.error("Error in onTestSkipped for test: {}. Error: {}", 
                     result.getMethod().getMethodName(), e.getMessage());
@@ -194,6 +233,14 @@ public class TestStatusListener implements ITestListener {
             logger.info("Total tests run: {}, Passed: {}, Failed: {}, Skipped: {}", 
                     totalTests, passed, failed, skipped);
             
+            // Run-wide WebDriver command timings, rewritten after every <test> so the file stays cumulative
+            CommandMetrics runMetrics = CommandTimingListener.getRunMetrics();
+            if (!runMetrics.isEmpty()) {
+                logger.info("WebDriver command timings so far:\n{}", CommandReport.toText(runMetrics));
+                CommandReport.export(runMetrics, java.nio.file.Paths.get(
+                        DriverFactory.getProperty("instrumentation.outputFile", "test-output/command-timings.json")));
+            }
+
             // Don't remove test here - let it be removed after each test method
             // Just flush the report
             ExtentReportManager.flushReport();
@@ -204,6 +251,53 @@ public class TestStatusListener implements ITestListener {
         }
     }
 
+    /**
+     * Attaches the failure bundle, a screenshot and the session recording of the current thread's browser
+     * @param testName Name of the failed test, used for the file names
+     */
+    private void attachFailureArtifacts(String testName) {
+        // Collect the failure bundle (DOM, console, network, cookies, storage, screenshot) within its time budget
+        FailureBundle bundle = FailureBundleCollector.isEnabled() ? FailureBundleCollector.collect(testName) : null;
+
+        // Capture screenshot on failure, reusing the bundle's when it has one; the file is written in the background
+        // A screenshot that missed the bundle budget is not retried: the browser is stuck and a direct capture
+        // would block for the full WebDriver command timeout
+        byte[] screenshot = bundle != null ? bundle.getScreenshot() : null;
+        if (screenshot == null && bundle != null && bundle.isScreenshotTimedOut()) {
+            logger.warn("Screenshot timed out in the failure bundle for: {} - not retrying", testName);
+        } else {
+            if (screenshot == null) {
+                screenshot = ScreenshotUtil.captureScreenshotAsBytes();
+            }
+            if (screenshot != null) {
+                ExtentReportManager.attachScreenshot(ScreenshotUtil.saveScreenshotAsync(testName + "_failure", screenshot));
+                logger.info("Screenshot captured, saving in background for: {}", testName);
+            } else {
+                logger.warn("Failed to capture screenshot for failed test: {}", testName);
+            }
+        }
+
+        // Link the last seconds of the session, encoded in the background, when there is a recording
+        CompletableFuture<String> recording = ScreencastRecorder.saveRecording(testName + "_failure");
+        if (recording != null) {
+            ExtentReportManager.attachArtifact("Recording", recording);
+        }
+        if (bundle != null) {
+            ExtentReportManager.attachArtifact("Failure bundle (zip)", bundle.getArchive());
+        }
+    }
+
+    /**
+     * Logs the WebDriver command timings of the finished test as a table in its report node
+     * @param result Test result, used for the test duration
+     */
+    private void logCommandTimings(ITestResult result) {
+        CommandMetrics metrics = CommandTimingListener.finishTest();
+        if (metrics != null && !metrics.isEmpty()) {
+            ExtentReportManager.logInfo(CommandReport.toHtml(metrics, result.getEndMillis() - result.getStartMillis()));
+        }
+    }
+
     /**
      * Gets formatted stack trace from throwable
      * @param throwable Throwable object
@@ -0,0 +1,143 @@
+package com.qa.automation.load;
+
+import com.qa.automation.base.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * BrowserLoadRunner drives N concurrent browser sessions through a LoadScenario
+ * Users start evenly across the ramp-up, iterate through the steady state and stop
+ * one by one (last started, first stopped) across the ramp-down
+ * Each virtual user thread gets its own WebDriver through DriverFactory's ThreadLocal
+ */
+public class BrowserLoadRunner {
+
+    private static final Logger logger = LogManager.getLogger(BrowserLoadRunner.class);
+    private static final long SHUTDOWN_GRACE_SECONDS = 300;
+
+    private final LoadProfile profile;
+    private final LoadScenario scenario;
+
+    /**
+     * Creates a runner for the given profile and scenario
+     * @param profile Load shape
+     * @param scenario Work each virtual user performs
+     */
+    public BrowserLoadRunner(LoadProfile profile, LoadScenario scenario) {
+        this.profile = profile;
+        this.scenario = scenario;
+    }
+
+    /**
+     * Runs the load profile to completion
+     * @return Metrics collected across all virtual users
+     */
+    public LoadMetrics run() {
+        int users = profile.getVirtualUsers();
+        LoadMetrics metrics = new LoadMetrics();
+        logger.info("Starting browser load run: {}", profile);
+
+        long start = System.nanoTime();
+        long rampUpNanos = profile.getRampUp().toNanos();
+        long rampDownNanos = profile.getRampDown().toNanos();
+        long rampUpEnd = start + rampUpNanos;
+        long steadyEnd = rampUpEnd + profile.getSteadyState().toNanos();
+        metrics.markStarted();
+
+        AtomicInteger threadIds = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(users, runnable -> {
+            Thread thread = new Thread(runnable, "load-vu-" + threadIds.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            final int index = i;
+            long startAt = start + rampUpNanos * i / users;
+            long stopAt = steadyEnd + rampDownNanos * (users - i) / users;
+            futures.add(pool.submit(() -> runVirtualUser(index, startAt, stopAt, metrics, () -> {
+                long now = System.nanoTime();
+                if (now < rampUpEnd) {
+                    return LoadPhase.RAMP_UP;
+                }
+                return now < steadyEnd ? LoadPhase.STEADY_STATE : LoadPhase.RAMP_DOWN;
+            })));
+        }
+
+        long deadline = System.nanoTime() + profile.getTotalDuration().toNanos()
+                + TimeUnit.SECONDS.toNanos(SHUTDOWN_GRACE_SECONDS);
+        for (Future<?> future : futures) {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                logger.warn("Virtual user did not finish within the grace period, interrupting");
+                future.cancel(true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                logger.error("Virtual user terminated abnormally. Error: {}", e.getMessage());
+            }
+        }
+        pool.shutdownNow();
+        metrics.markFinished();
+
+        logger.info("Browser load run finished\n{}", LoadReport.toText(metrics));
+        return metrics;
+    }
+
+    private void runVirtualUser(int index, long startAt, long stopAt, LoadMetrics metrics,
+                                Supplier<LoadPhase> phaseSupplier) {
+        VirtualUser user = new VirtualUser(index, metrics, phaseSupplier);
+        try {
+            sleepUntil(startAt);
+            long sessionStart = System.nanoTime();
+            WebDriver driver = DriverFactory.getDriver();
+            if (driver == null) {
+                metrics.record(phaseSupplier.get(), "browser session", System.nanoTime() - sessionStart,
+                        new IllegalStateException("WebDriver could not be started"));
+                return;
+            }
+            metrics.record(phaseSupplier.get(), "browser session", System.nanoTime() - sessionStart, null);
+
+            scenario.prepare(user);
+            while (System.nanoTime() < stopAt && !Thread.currentThread().isInterrupted()) {
+                try {
+                    scenario.iterate(user);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception | AssertionError e) {
+                    logger.warn("Virtual user {} iteration failed. Error: {}", index, e.getMessage());
+                }
+                user.incrementIterations();
+                sleepUntil(Math.min(stopAt, System.nanoTime() + profile.getThinkTime().toNanos()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception | AssertionError e) {
+            logger.error("Virtual user {} stopped. Error: {}", index, e.getMessage());
+        } finally {
+            DriverFactory.closeDriver();
+            logger.info("Virtual user {} finished after {} iterations", index, user.getIterations());
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.qa.automation.load;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+/**
+ * HttpLoadEngine replays the signup, login and upload requests with an open workload model
+ * Sessions arrive on a schedule computed from HttpLoadProfile, regardless of how slowly the server answers;
+ * each session runs its three requests asynchronously on a shared non-blocking HttpClient, so thousands
+ * of virtual users can be in flight without a thread each
+ * Latency of the first request is measured from the scheduled arrival time, so a stalled server or a
+ * late scheduler shows up in the percentiles instead of being hidden (coordinated omission)
+ */
+public class HttpLoadEngine {
+
+    private static final Logger logger = LogManager.getLogger(HttpLoadEngine.class);
+    private static final String PASSWORD = "Test@123";
+    private static final long DRAIN_GRACE_SECONDS = 60;
+
+    private final HttpLoadProfile profile;
+    private final PortalHttpRequests requests;
+    private final HttpClient client;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    /**
+     * Creates an engine for the given profile and request builders
+     * @param profile Arrival profile
+     * @param requests Request builders for the target portal
+     */
+    public HttpLoadEngine(HttpLoadProfile profile, PortalHttpRequests requests) {
+        this.profile = profile;
+        this.requests = requests;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * Runs the profile to completion and waits for in-flight sessions to drain
+     * @return Run result with corrected and uncorrected latency metrics
+     * @throws IllegalStateException if sessions are still in flight after the drain grace period
+     */
+    public HttpLoadResult run() {
+        HttpLoadResult result = new HttpLoadResult();
+        Semaphore inFlight = new Semaphore(profile.getMaxInFlightSessions());
+        Phaser pending = new Phaser(1);
+        Random random = new Random(profile.getSeed());
+        logger.info("Starting HTTP load run: {} (expected {} sessions)", profile,
+                Math.round(profile.getExpectedArrivals()));
+
+        result.markStarted();
+        long start = System.nanoTime();
+        double cumulativeArrivals = 0;
+        long sessionIndex = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            cumulativeArrivals += profile.getArrivalPattern() == HttpLoadProfile.ArrivalPattern.POISSON
+                    ? -Math.log(1.0 - random.nextDouble()) : 1.0;
+            double offsetSeconds = profile.offsetForArrival(cumulativeArrivals);
+            if (offsetSeconds < 0) {
+                break;
+            }
+            long intendedStart = start + (long) (offsetSeconds * 1_000_000_000L);
+            parkUntil(intendedStart);
+            result.sessionScheduled();
+
+            LoadPhase phase = profile.phaseAt(offsetSeconds);
+            if (!inFlight.tryAcquire()) {
+                result.sessionRejected();
+                result.getResponseTimes().record(phase, "session", 0,
+                        new RejectedExecutionException("Max in-flight sessions reached"));
+                continue;
+            }
+            result.sessionStarted();
+            pending.register();
+            runSession(sessionIndex++, intendedStart, phase, result).whenComplete((ignored, error) -> {
+                if (error == null) {
+                    result.sessionCompleted();
+                } else {
+                    result.sessionErrored();
+                }
+                inFlight.release();
+                pending.arriveAndDeregister();
+            });
+        }
+
+        try {
+            pending.awaitAdvanceInterruptibly(pending.arrive(), DRAIN_GRACE_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            // Reported below from the session counters
+        }
+        result.markFinished();
+
+        logger.info("HTTP load run finished: {} sessions scheduled, {} started, {} completed, {} errored, "
+                + "{} rejected, achieved {} sessions/s", result.getSessionsScheduled(), result.getSessionsStarted(),
+                result.getSessionsCompleted(), result.getSessionsErrored(), result.getSessionsRejected(),
+                String.format(Locale.ROOT, "%.1f", result.getAchievedRatePerSecond()));
+        logger.info("Response time (from intended start)\n{}", LoadReport.toText(result.getResponseTimes()));
+        logger.info("Service time (from actual send)\n{}", LoadReport.toText(result.getServiceTimes()));
+        long undrained = result.getSessionsInFlight();
+        if (undrained > 0) {
+            // Their requests never finished, so the percentiles above leave out the slowest sessions
+            throw new IllegalStateException(undrained + " sessions still in flight after " + DRAIN_GRACE_SECONDS
+                    + "s drain");
+        }
+        return result;
+    }
+
+    private CompletableFuture<Void> runSession(long index, long intendedStart, LoadPhase phase, HttpLoadResult result) {
+        String email = "http_" + runId + "_" + index + "@test.com";
+        return send(result, phase, "signup", requests.signup(email, PASSWORD), intendedStart,
+                response -> response.statusCode() < 400)
+                .thenCompose(signup -> send(result, phase, "login", requests.login(email, PASSWORD), System.nanoTime(),
+                        response -> response.statusCode() < 400 && PortalHttpRequests.sessionCookie(response) != null))
+                .thenCompose(login -> send(result, phase, "upload",
+                        requests.upload(PortalHttpRequests.sessionCookie(login), "HTTP Load " + index),
+                        System.nanoTime(), response -> response.statusCode() < 300))
+                .thenApply(upload -> null);
+    }
+
+    private CompletableFuture<HttpResponse<Void>> send(HttpLoadResult result, LoadPhase phase, String step,
+                                                       HttpRequest request, long intendedStart,
+                                                       Predicate<HttpResponse<Void>> success) {
+        long sentAt = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).handle((response, error) -> {
+            long completedAt = System.nanoTime();
+            Throwable failure = error != null ? unwrap(error)
+                    : success.test(response) ? null : new IllegalStateException("HTTP " + response.statusCode());
+            result.getResponseTimes().record(phase, step, completedAt - intendedStart, failure);
+            result.getServiceTimes().record(phase, step, completedAt - sentAt, failure);
+            if (failure != null) {
+                throw new CompletionException(failure);
+            }
+            return response;
+        });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static void parkUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
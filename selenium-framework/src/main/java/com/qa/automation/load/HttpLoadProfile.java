@@ -0,0 +1,203 @@
+package com.qa.automation.load;
+
+import com.qa.automation.base.DriverFactory;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * HttpLoadProfile describes an open-model HTTP load run
+ * Sessions arrive at a target rate independent of response times; the rate ramps linearly
+ * from 0 to the target, holds through the steady state and ramps back to 0
+ * Defaults come from config.properties (httpload.* keys)
+ */
+public class HttpLoadProfile {
+
+    /**
+     * How inter-arrival gaps are spaced
+     */
+    public enum ArrivalPattern {
+        CONSTANT,
+        POISSON
+    }
+
+    private double targetRatePerSecond = 100.0;
+    private Duration rampUp = Duration.ofSeconds(10);
+    private Duration steadyState = Duration.ofSeconds(60);
+    private Duration rampDown = Duration.ofSeconds(5);
+    private ArrivalPattern arrivalPattern = ArrivalPattern.POISSON;
+    private int maxInFlightSessions = 5000;
+    private Duration requestTimeout = Duration.ofSeconds(30);
+    private double maxErrorRate = 0.01;
+    private long seed = 42L;
+
+    /**
+     * Builds a profile from the httpload.* configuration keys
+     * @return HttpLoadProfile populated from configuration
+     */
+    public static HttpLoadProfile fromConfig() {
+        return new HttpLoadProfile()
+                .withTargetRate(Double.parseDouble(DriverFactory.getProperty("httpload.ratePerSecond", "100")))
+                .withRampUp(Duration.ofSeconds(Long.parseLong(DriverFactory.getProperty("httpload.rampUpSeconds", "10"))))
+                .withSteadyState(Duration.ofSeconds(Long.parseLong(DriverFactory.getProperty("httpload.steadyStateSeconds", "60"))))
+                .withRampDown(Duration.ofSeconds(Long.parseLong(DriverFactory.getProperty("httpload.rampDownSeconds", "5"))))
+                .withArrivalPattern(ArrivalPattern.valueOf(DriverFactory.getProperty("httpload.arrivalPattern", "POISSON")
+                        .toUpperCase(Locale.ROOT)))
+                .withMaxInFlightSessions(Integer.parseInt(DriverFactory.getProperty("httpload.maxInFlightSessions", "5000")))
+                .withRequestTimeout(Duration.ofSeconds(Long.parseLong(DriverFactory.getProperty("httpload.requestTimeoutSeconds", "30"))))
+                .withMaxErrorRate(Double.parseDouble(DriverFactory.getProperty("httpload.maxErrorRate", "0.01")))
+                .withSeed(Long.parseLong(DriverFactory.getProperty("httpload.seed", "42")));
+    }
+
+    public HttpLoadProfile withTargetRate(double targetRatePerSecond) {
+        if (targetRatePerSecond <= 0) {
+            throw new IllegalArgumentException("targetRatePerSecond must be positive: " + targetRatePerSecond);
+        }
+        this.targetRatePerSecond = targetRatePerSecond;
+        return this;
+    }
+
+    public HttpLoadProfile withRampUp(Duration rampUp) {
+        this.rampUp = rampUp;
+        return this;
+    }
+
+    public HttpLoadProfile withSteadyState(Duration steadyState) {
+        this.steadyState = steadyState;
+        return this;
+    }
+
+    public HttpLoadProfile withRampDown(Duration rampDown) {
+        this.rampDown = rampDown;
+        return this;
+    }
+
+    public HttpLoadProfile withArrivalPattern(ArrivalPattern arrivalPattern) {
+        this.arrivalPattern = arrivalPattern;
+        return this;
+    }
+
+    public HttpLoadProfile withMaxInFlightSessions(int maxInFlightSessions) {
+        // HttpLoadEngine tracks in-flight sessions with a Phaser, which caps out at 65535 parties
+        if (maxInFlightSessions < 1 || maxInFlightSessions > 65535) {
+            throw new IllegalArgumentException("maxInFlightSessions must be between 1 and 65535: " + maxInFlightSessions);
+        }
+        this.maxInFlightSessions = maxInFlightSessions;
+        return this;
+    }
+
+    public HttpLoadProfile withRequestTimeout(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+        return this;
+    }
+
+    public HttpLoadProfile withMaxErrorRate(double maxErrorRate) {
+        this.maxErrorRate = maxErrorRate;
+        return this;
+    }
+
+    public HttpLoadProfile withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public double getTargetRatePerSecond() {
+        return targetRatePerSecond;
+    }
+
+    public Duration getRampUp() {
+        return rampUp;
+    }
+
+    public Duration getSteadyState() {
+        return steadyState;
+    }
+
+    public Duration getRampDown() {
+        return rampDown;
+    }
+
+    public ArrivalPattern getArrivalPattern() {
+        return arrivalPattern;
+    }
+
+    public int getMaxInFlightSessions() {
+        return maxInFlightSessions;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Duration getTotalDuration() {
+        return rampUp.plus(steadyState).plus(rampDown);
+    }
+
+    /**
+     * Gets the expected number of arrivals over the whole run
+     * @return Area under the rate curve
+     */
+    public double getExpectedArrivals() {
+        return targetRatePerSecond * (seconds(rampUp) / 2 + seconds(steadyState) + seconds(rampDown) / 2);
+    }
+
+    /**
+     * Solves the rate curve for the moment the cumulative arrival count reaches the given value
+     * Feeding whole numbers gives constant spacing; feeding a sum of Exp(1) draws gives a Poisson process
+     * @param cumulativeArrivals Cumulative expected arrivals
+     * @return Offset from the run start in seconds, or -1 when past the end of the run
+     */
+    public double offsetForArrival(double cumulativeArrivals) {
+        double rate = targetRatePerSecond;
+        double up = seconds(rampUp);
+        double steady = seconds(steadyState);
+        double down = seconds(rampDown);
+
+        double rampUpArrivals = rate * up / 2;
+        if (cumulativeArrivals <= rampUpArrivals) {
+            // N(t) = rate * t^2 / (2 * up)
+            return up == 0 ? 0 : Math.sqrt(2 * up * cumulativeArrivals / rate);
+        }
+        double steadyArrivals = rampUpArrivals + rate * steady;
+        if (cumulativeArrivals <= steadyArrivals) {
+            return up + (cumulativeArrivals - rampUpArrivals) / rate;
+        }
+        double remaining = cumulativeArrivals - steadyArrivals;
+        if (down == 0 || remaining > rate * down / 2) {
+            return -1;
+        }
+        // N(u) = rate * (u - u^2 / (2 * down)) for u into the ramp-down
+        return up + steady + down * (1 - Math.sqrt(1 - 2 * remaining / (rate * down)));
+    }
+
+    /**
+     * Gets the phase a given offset falls into
+     * @param offsetSeconds Offset from the run start
+     * @return Load phase
+     */
+    public LoadPhase phaseAt(double offsetSeconds) {
+        if (offsetSeconds < seconds(rampUp)) {
+            return LoadPhase.RAMP_UP;
+        }
+        return offsetSeconds < seconds(rampUp) + seconds(steadyState) ? LoadPhase.STEADY_STATE : LoadPhase.RAMP_DOWN;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%.1f sessions/s (%s), ramp-up %ds, steady %ds, ramp-down %ds, max in-flight %d",
+                targetRatePerSecond, arrivalPattern, rampUp.getSeconds(), steadyState.getSeconds(),
+                rampDown.getSeconds(), maxInFlightSessions);
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1_000_000_000.0;
+    }
+}
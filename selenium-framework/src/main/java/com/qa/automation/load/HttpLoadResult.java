@@ -0,0 +1,102 @@
+package com.qa.automation.load;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HttpLoadResult holds the outcome of an HttpLoadEngine run
+ * Response times are measured from each request's intended start (coordinated-omission corrected);
+ * service times are measured from the moment the request was actually sent
+ */
+public class HttpLoadResult {
+
+    private final LoadMetrics responseTimes = new LoadMetrics();
+    private final LoadMetrics serviceTimes = new LoadMetrics();
+    private final LongAdder sessionsScheduled = new LongAdder();
+    private final LongAdder sessionsStarted = new LongAdder();
+    private final LongAdder sessionsCompleted = new LongAdder();
+    private final LongAdder sessionsErrored = new LongAdder();
+    private final LongAdder sessionsRejected = new LongAdder();
+
+    public LoadMetrics getResponseTimes() {
+        return responseTimes;
+    }
+
+    public LoadMetrics getServiceTimes() {
+        return serviceTimes;
+    }
+
+    /**
+     * Gets the number of session arrivals the profile scheduled; each is either started or rejected
+     * @return Scheduled sessions
+     */
+    public long getSessionsScheduled() {
+        return sessionsScheduled.sum();
+    }
+
+    public long getSessionsStarted() {
+        return sessionsStarted.sum();
+    }
+
+    public long getSessionsCompleted() {
+        return sessionsCompleted.sum();
+    }
+
+    /**
+     * Gets the number of started sessions that ended with a failed request
+     * @return Errored sessions
+     */
+    public long getSessionsErrored() {
+        return sessionsErrored.sum();
+    }
+
+    /**
+     * Gets the number of started sessions that had neither completed nor errored when the run returned
+     * @return Sessions still in flight
+     */
+    public long getSessionsInFlight() {
+        return getSessionsStarted() - getSessionsCompleted() - getSessionsErrored();
+    }
+
+    public long getSessionsRejected() {
+        return sessionsRejected.sum();
+    }
+
+    /**
+     * Gets the achieved session arrival rate over the run
+     * @return Sessions started per second
+     */
+    public double getAchievedRatePerSecond() {
+        double seconds = responseTimes.getElapsedSeconds();
+        return seconds > 0 ? getSessionsStarted() / seconds : 0.0;
+    }
+
+    void sessionScheduled() {
+        sessionsScheduled.increment();
+    }
+
+    void sessionStarted() {
+        sessionsStarted.increment();
+    }
+
+    void sessionCompleted() {
+        sessionsCompleted.increment();
+    }
+
+    void sessionErrored() {
+        sessionsErrored.increment();
+    }
+
+    void sessionRejected() {
+        sessionsRejected.increment();
+    }
+
+    void markStarted() {
+        responseTimes.markStarted();
+        serviceTimes.markStarted();
+    }
+
+    void markFinished() {
+        responseTimes.markFinished();
+        serviceTimes.markFinished();
+    }
+}
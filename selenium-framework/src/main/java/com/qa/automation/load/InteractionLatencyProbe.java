@@ -0,0 +1,163 @@
+package com.qa.automation.load;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * InteractionLatencyProbe measures the time from the user's last input to the last DOM update of a results
+ * container, from the browser's own clock: a capturing input/change listener stamps each keystroke or
+ * selection (event.timeStamp) and a MutationObserver on the container stamps each update
+ * Usage per interaction: arm() on a loaded page, drive the page objects, then awaitResults(). Debounced and
+ * out-of-order responses are covered because the results count as rendered only once the container has been
+ * quiet for the settle time after the last input
+ */
+public class InteractionLatencyProbe {
+
+    private static final String ARM_SCRIPT =
+            "var container = document.querySelector(arguments[0]);"
+            + "if (!container) { return false; }"
+            + "window.__qaInteraction = {lastInput: -1, lastMutation: -1, inputs: 0, mutations: 0,"
+            + "  armedAt: performance.now()};"
+            + "if (window.__qaInteractionContainer !== container) {"
+            + "  window.__qaInteractionContainer = container;"
+            + "  new MutationObserver(function () {"
+            + "    var state = window.__qaInteraction;"
+            + "    state.lastMutation = performance.now();"
+            + "    state.mutations++;"
+            + "  }).observe(container, {childList: true, subtree: true, characterData: true});"
+            + "}"
+            + "if (!window.__qaInteractionListening) {"
+            + "  window.__qaInteractionListening = true;"
+            + "  var onInput = function (event) {"
+            + "    var state = window.__qaInteraction;"
+            + "    state.lastInput = event.timeStamp;"
+            + "    state.inputs++;"
+            + "  };"
+            + "  document.addEventListener('input', onInput, true);"
+            + "  document.addEventListener('change', onInput, true);"
+            + "}"
+            + "return true;";
+
+    private static final String STATE_SCRIPT =
+            "var state = window.__qaInteraction;"
+            + "if (!state) { return null; }"
+            + "var container = window.__qaInteractionContainer;"
+            + "return {lastInput: state.lastInput, lastMutation: state.lastMutation, inputs: state.inputs,"
+            + "  mutations: state.mutations, armedAt: state.armedAt, now: performance.now(),"
+            + "  items: container ? container.querySelectorAll(arguments[0]).length : 0};";
+
+    private final WebDriver driver;
+    private final String containerSelector;
+    private final String itemSelector;
+    private final Duration settleTime;
+
+    /**
+     * Creates a probe for a results container
+     * @param driver Driver showing the page
+     * @param containerSelector CSS selector of the element whose content shows the results
+     * @param itemSelector CSS selector of one result inside the container
+     * @param settleTime How long the container must stay unchanged before the results count as rendered
+     */
+    public InteractionLatencyProbe(WebDriver driver, String containerSelector, String itemSelector, Duration settleTime) {
+        this.driver = driver;
+        this.containerSelector = containerSelector;
+        this.itemSelector = itemSelector;
+        this.settleTime = settleTime;
+    }
+
+    /**
+     * Starts observing the container of the current page and waits until it stops changing,
+     * so updates from the page load itself are not taken for results
+     * @param timeout Maximum time to wait for the container and for it to settle
+     */
+    public void arm(Duration timeout) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        WebDriverWait wait = new WebDriverWait(driver, timeout, Duration.ofMillis(50));
+        wait.until(d -> Boolean.TRUE.equals(js.executeScript(ARM_SCRIPT, containerSelector)));
+        wait.until(d -> {
+            Map<String, Object> state = state(js);
+            return number(state, "now") - Math.max(number(state, "armedAt"), number(state, "lastMutation"))
+                    >= settleTime.toMillis();
+        });
+        js.executeScript(ARM_SCRIPT, containerSelector);
+    }
+
+    /**
+     * Waits until the container has changed after the last input and then stayed unchanged for the settle time
+     * @param timeout Maximum time to wait
+     * @return Latency and result count of the interaction
+     * @throws org.openqa.selenium.TimeoutException if no input was seen or the container did not change in time
+     */
+    public InteractionResult awaitResults(Duration timeout) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Map<String, Object> state = new WebDriverWait(driver, timeout, Duration.ofMillis(25))
+                .withMessage("results container " + containerSelector + " to change after the last input")
+                .until(d -> {
+                    Map<String, Object> current = state(js);
+                    double lastInput = number(current, "lastInput");
+                    double lastMutation = number(current, "lastMutation");
+                    double now = number(current, "now");
+                    boolean settled = number(current, "inputs") > 0 && lastMutation > lastInput
+                            && now - lastMutation >= settleTime.toMillis();
+                    return settled ? current : null;
+                });
+        return new InteractionResult(number(state, "lastMutation") - number(state, "lastInput"),
+                (long) number(state, "items"), (long) number(state, "inputs"), (long) number(state, "mutations"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> state(JavascriptExecutor js) {
+        Object state = js.executeScript(STATE_SCRIPT, itemSelector);
+        if (!(state instanceof Map)) {
+            throw new IllegalStateException("Probe is not armed on the current page");
+        }
+        return (Map<String, Object>) state;
+    }
+
+    private static double number(Map<String, Object> values, String key) {
+        Object value = values.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : -1;
+    }
+
+    /**
+     * Outcome of one interaction
+     */
+    public static class InteractionResult {
+
+        private final double latencyMillis;
+        private final long itemCount;
+        private final long inputEvents;
+        private final long mutations;
+
+        InteractionResult(double latencyMillis, long itemCount, long inputEvents, long mutations) {
+            this.latencyMillis = latencyMillis;
+            this.itemCount = itemCount;
+            this.inputEvents = inputEvents;
+            this.mutations = mutations;
+        }
+
+        /**
+         * Gets the time from the last input event to the last update of the container
+         * @return Milliseconds
+         */
+        public double getLatencyMillis() {
+            return latencyMillis;
+        }
+
+        public long getItemCount() {
+            return itemCount;
+        }
+
+        public long getInputEvents() {
+            return inputEvents;
+        }
+
+        public long getMutations() {
+            return mutations;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.qa.automation.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LoadMetrics collects per-phase, per-step latency histograms and error counts
+ * Recording is thread-safe and lock-free so many virtual users can share one instance
+ */
+public class LoadMetrics {
+
+    private static final int MAX_DISTINCT_ERRORS = 10;
+
+    private final Map<String, StepStats> steps = new ConcurrentHashMap<>();
+    private final List<StepStats> orderedSteps = new CopyOnWriteArrayList<>();
+    private volatile long startedAtNanos = System.nanoTime();
+    private volatile long finishedAtNanos;
+
+    /**
+     * Records one step execution
+     * @param phase Phase the step started in
+     * @param step Step name
+     * @param durationNanos Step duration in nanoseconds
+     * @param error Failure cause, or null if the step succeeded
+     */
+    public void record(LoadPhase phase, String step, long durationNanos, Throwable error) {
+        StepStats stats = steps.get(phase + "|" + step);
+        if (stats == null) {
+            stats = steps.computeIfAbsent(phase + "|" + step, key -> {
+                StepStats created = new StepStats(phase, step);
+                orderedSteps.add(created);
+                return created;
+            });
+        }
+        stats.record(durationNanos, error);
+    }
+
+    /**
+     * Marks the start of the measured window
+     */
+    public void markStarted() {
+        startedAtNanos = System.nanoTime();
+        finishedAtNanos = 0;
+    }
+
+    /**
+     * Marks the end of the measured window
+     */
+    public void markFinished() {
+        finishedAtNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets the measured window length
+     * @return Elapsed seconds between markStarted and markFinished (or now)
+     */
+    public double getElapsedSeconds() {
+        long end = finishedAtNanos != 0 ? finishedAtNanos : System.nanoTime();
+        return (end - startedAtNanos) / 1_000_000_000.0;
+    }
+
+    /**
+     * Gets step statistics in the order the steps were first recorded, grouped by phase
+     * @return Unmodifiable list of step statistics
+     */
+    public List<StepStats> getSteps() {
+        List<StepStats> sorted = new ArrayList<>(orderedSteps);
+        sorted.sort((first, second) -> first.getPhase().compareTo(second.getPhase()));
+        return Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Gets the total number of recorded step executions
+     * @return Total count including failures
+     */
+    public long getTotalCount() {
+        long total = 0;
+        for (StepStats stats : orderedSteps) {
+            total += stats.getCount();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the total number of failed step executions
+     * @return Total error count
+     */
+    public long getTotalErrors() {
+        long total = 0;
+        for (StepStats stats : orderedSteps) {
+            total += stats.getErrorCount();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the overall error rate
+     * @return Fraction of failed step executions (0.0 - 1.0)
+     */
+    public double getErrorRate() {
+        long total = getTotalCount();
+        return total == 0 ? 0.0 : (double) getTotalErrors() / total;
+    }
+
+    /**
+     * Latency and error statistics for one step in one phase
+     */
+    public static class StepStats {
+
+        private final LoadPhase phase;
+        private final String name;
+        private final Histogram latencyMicros = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+        private final Map<String, LongAdder> errorMessages = new ConcurrentHashMap<>();
+
+        StepStats(LoadPhase phase, String name) {
+            this.phase = phase;
+            this.name = name;
+        }
+
+        void record(long durationNanos, Throwable error) {
+            if (error == null) {
+                latencyMicros.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(durationNanos)));
+                return;
+            }
+            errors.increment();
+            String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+            LongAdder counter = errorMessages.get(message);
+            if (counter == null && errorMessages.size() < MAX_DISTINCT_ERRORS) {
+                counter = errorMessages.computeIfAbsent(message, key -> new LongAdder());
+            }
+            if (counter != null) {
+                counter.increment();
+            }
+        }
+
+        public LoadPhase getPhase() {
+            return phase;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the number of executions (successful and failed)
+         * @return Execution count
+         */
+        public long getCount() {
+            return latencyMicros.getTotalCount() + errors.sum();
+        }
+
+        public long getErrorCount() {
+            return errors.sum();
+        }
+
+        /**
+         * Gets the fraction of failed executions
+         * @return Error rate (0.0 - 1.0)
+         */
+        public double getErrorRate() {
+            long count = getCount();
+            return count == 0 ? 0.0 : (double) getErrorCount() / count;
+        }
+
+        /**
+         * Gets a latency percentile of successful executions
+         * @param percentile Percentile between 0 and 100
+         * @return Latency in milliseconds
+         */
+        public double getPercentileMillis(double percentile) {
+            return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        public double getMeanMillis() {
+            return latencyMicros.getMean() / 1000.0;
+        }
+
+        public double getMaxMillis() {
+            return latencyMicros.getMaxValue() / 1000.0;
+        }
+
+        /**
+         * Gets a sample of distinct error messages with their counts
+         * @return Map of error message to occurrence count
+         */
+        public Map<String, Long> getErrorSamples() {
+            Map<String, Long> samples = new LinkedHashMap<>();
+            errorMessages.forEach((message, counter) -> samples.put(message, counter.sum()));
+            return samples;
+        }
+    }
+}
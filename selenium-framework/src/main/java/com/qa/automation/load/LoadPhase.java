@@ -0,0 +1,24 @@
+package com.qa.automation.load;
+
+/**
+ * Phases of a load run in the order they occur
+ */
+public enum LoadPhase {
+    RAMP_UP("Ramp-up"),
+    STEADY_STATE("Steady state"),
+    RAMP_DOWN("Ramp-down");
+
+    private final String label;
+
+    LoadPhase(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the display label used in reports
+     * @return Phase label
+     */
+    public String getLabel() {
+        return label;
+    }
+}
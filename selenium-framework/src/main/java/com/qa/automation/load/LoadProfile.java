@@ -0,0 +1,104 @@
+package com.qa.automation.load;
+
+import com.qa.automation.base.DriverFactory;
+
+import java.time.Duration;
+
+/**
+ * LoadProfile holds the shape of a load run: number of virtual users and phase durations
+ * Defaults come from config.properties (load.* keys) and can be overridden with -Dload.*=value
+ */
+public class LoadProfile {
+
+    private int virtualUsers = 20;
+    private Duration rampUp = Duration.ofSeconds(30);
+    private Duration steadyState = Duration.ofSeconds(120);
+    private Duration rampDown = Duration.ofSeconds(15);
+    private Duration thinkTime = Duration.ofSeconds(1);
+    private double maxErrorRate = 0.05;
+
+    /**
+     * Builds a profile from the load.* configuration keys
+     * @return LoadProfile populated from configuration
+     */
+    public static LoadProfile fromConfig() {
+        return new LoadProfile()
+                .withVirtualUsers(Integer.parseInt(DriverFactory.getProperty("load.virtualUsers", "20")))
+                .withRampUp(Duration.ofSeconds(Long.parseLong(DriverFactory.getProperty("load.rampUpSeconds", "30"))))
+                .withSteadyState(Duration.ofSeconds(Long.parseLong(DriverFactory.getProperty("load.steadyStateSeconds", "120"))))
+                .withRampDown(Duration.ofSeconds(Long.parseLong(DriverFactory.getProperty("load.rampDownSeconds", "15"))))
+                .withThinkTime(Duration.ofMillis(Long.parseLong(DriverFactory.getProperty("load.thinkTimeMillis", "1000"))))
+                .withMaxErrorRate(Double.parseDouble(DriverFactory.getProperty("load.maxErrorRate", "0.05")));
+    }
+
+    public LoadProfile withVirtualUsers(int virtualUsers) {
+        if (virtualUsers < 1) {
+            throw new IllegalArgumentException("virtualUsers must be at least 1: " + virtualUsers);
+        }
+        this.virtualUsers = virtualUsers;
+        return this;
+    }
+
+    public LoadProfile withRampUp(Duration rampUp) {
+        this.rampUp = rampUp;
+        return this;
+    }
+
+    public LoadProfile withSteadyState(Duration steadyState) {
+        this.steadyState = steadyState;
+        return this;
+    }
+
+    public LoadProfile withRampDown(Duration rampDown) {
+        this.rampDown = rampDown;
+        return this;
+    }
+
+    public LoadProfile withThinkTime(Duration thinkTime) {
+        this.thinkTime = thinkTime;
+        return this;
+    }
+
+    public LoadProfile withMaxErrorRate(double maxErrorRate) {
+        this.maxErrorRate = maxErrorRate;
+        return this;
+    }
+
+    public int getVirtualUsers() {
+        return virtualUsers;
+    }
+
+    public Duration getRampUp() {
+        return rampUp;
+    }
+
+    public Duration getSteadyState() {
+        return steadyState;
+    }
+
+    public Duration getRampDown() {
+        return rampDown;
+    }
+
+    public Duration getThinkTime() {
+        return thinkTime;
+    }
+
+    public double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    /**
+     * Gets the planned duration of all three phases
+     * @return Ramp-up + steady state + ramp-down
+     */
+    public Duration getTotalDuration() {
+        return rampUp.plus(steadyState).plus(rampDown);
+    }
+
+    @Override
+    public String toString() {
+        return virtualUsers + " users, ramp-up " + rampUp.getSeconds() + "s, steady " + steadyState.getSeconds()
+                + "s, ramp-down " + rampDown.getSeconds() + "s, think time " + thinkTime.toMillis() + "ms";
+    }
+}
@@ -0,0 +1,86 @@
+package com.qa.automation.load;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * LoadReport renders LoadMetrics as a plain-text table for logs and an HTML table for ExtentReports
+ */
+public class LoadReport {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 95.0, 99.0};
+
+    private LoadReport() {
+    }
+
+    /**
+     * Renders the metrics as a fixed-width text table
+     * @param metrics Metrics to render
+     * @return Multi-line text table
+     */
+    public static String toText(LoadMetrics metrics) {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "%-13s %-22s %8s %7s %8s %9s %9s %9s %9s %9s %8s%n",
+                "Phase", "Step", "Count", "Errors", "Error%", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "Max ms", "Rate/s"));
+        for (LoadMetrics.StepStats stats : metrics.getSteps()) {
+            text.append(String.format(Locale.ROOT, "%-13s %-22s %8d %7d %7.2f%% ",
+                    stats.getPhase().getLabel(), stats.getName(), stats.getCount(), stats.getErrorCount(),
+                    stats.getErrorRate() * 100));
+            for (double percentile : PERCENTILES) {
+                text.append(String.format(Locale.ROOT, "%9.1f ", stats.getPercentileMillis(percentile)));
+            }
+            text.append(String.format(Locale.ROOT, "%9.1f %8.2f%n", stats.getMaxMillis(),
+                    throughput(stats, metrics)));
+        }
+        text.append(String.format(Locale.ROOT, "Total: %d step executions, %d errors (%.2f%%) in %.1f s",
+                metrics.getTotalCount(), metrics.getTotalErrors(), metrics.getErrorRate() * 100,
+                metrics.getElapsedSeconds()));
+        return text.toString();
+    }
+
+    /**
+     * Renders the metrics as an HTML table suitable for ExtentReportManager.logInfo
+     * @param metrics Metrics to render
+     * @return HTML fragment
+     */
+    public static String toHtml(LoadMetrics metrics) {
+        StringBuilder html = new StringBuilder();
+        html.append("<table class=\"table table-sm\"><thead><tr>")
+                .append("<th>Phase</th><th>Step</th><th>Count</th><th>Errors</th><th>Error %</th>");
+        for (double percentile : PERCENTILES) {
+            html.append("<th>p").append((int) percentile).append(" ms</th>");
+        }
+        html.append("<th>Max ms</th><th>Rate/s</th></tr></thead><tbody>");
+        for (LoadMetrics.StepStats stats : metrics.getSteps()) {
+            html.append("<tr><td>").append(stats.getPhase().getLabel()).append("</td><td>")
+                    .append(escape(stats.getName())).append("</td><td>").append(stats.getCount())
+                    .append("</td><td>").append(stats.getErrorCount()).append("</td><td>")
+                    .append(String.format(Locale.ROOT, "%.2f", stats.getErrorRate() * 100)).append("</td>");
+            for (double percentile : PERCENTILES) {
+                html.append("<td>").append(String.format(Locale.ROOT, "%.1f", stats.getPercentileMillis(percentile)))
+                        .append("</td>");
+            }
+            html.append("<td>").append(String.format(Locale.ROOT, "%.1f", stats.getMaxMillis())).append("</td><td>")
+                    .append(String.format(Locale.ROOT, "%.2f", throughput(stats, metrics))).append("</td></tr>");
+        }
+        html.append("</tbody></table>");
+
+        for (LoadMetrics.StepStats stats : metrics.getSteps()) {
+            for (Map.Entry<String, Long> error : stats.getErrorSamples().entrySet()) {
+                html.append("<br/>").append(escape(stats.getName())).append(" (")
+                        .append(stats.getPhase().getLabel()).append(") x").append(error.getValue()).append(": ")
+                        .append(escape(error.getKey()));
+            }
+        }
+        return html.toString();
+    }
+
+    private static double throughput(LoadMetrics.StepStats stats, LoadMetrics metrics) {
+        double seconds = metrics.getElapsedSeconds();
+        return seconds > 0 ? stats.getCount() / seconds : 0.0;
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
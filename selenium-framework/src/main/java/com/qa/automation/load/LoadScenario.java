@@ -0,0 +1,22 @@
+package com.qa.automation.load;
+
+/**
+ * LoadScenario describes what one virtual user does during a load run
+ * Each virtual user runs on its own thread with its own WebDriver
+ */
+public interface LoadScenario {
+
+    /**
+     * One-time setup for a virtual user (e.g. account provisioning)
+     * @param user Virtual user executing the scenario
+     * @throws Exception if setup fails; the virtual user is stopped
+     */
+    void prepare(VirtualUser user) throws Exception;
+
+    /**
+     * One iteration of the scenario, repeated until the user is ramped down
+     * @param user Virtual user executing the scenario
+     * @throws Exception if a step fails; the next iteration starts after think time
+     */
+    void iterate(VirtualUser user) throws Exception;
+}
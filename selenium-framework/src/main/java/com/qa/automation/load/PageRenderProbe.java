@@ -0,0 +1,225 @@
+package com.qa.automation.load;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * PageRenderProbe measures how long a page takes to render a list of items, from the browser's own clocks:
+ * Navigation Timing (first byte, DOM interactive, load), first contentful paint, and the times the first and
+ * the last list item were added to the DOM, plus the number of items and DOM elements on the page
+ * Item times come from a MutationObserver that CDP (Page.addScriptToEvaluateOnNewDocument) installs before any
+ * page script runs, so they cover server-rendered lists as the parser inserts them and client-rendered lists
+ * as scripts do. Without CDP (e.g. Firefox) the item times are reported as -1
+ * All times are milliseconds since the navigation started
+ */
+public class PageRenderProbe implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(PageRenderProbe.class);
+
+    private static final String OBSERVER_SCRIPT =
+            "(function () {"
+            + "  var selector = %s;"
+            + "  var state = window.__qaRender = {firstItem: -1, lastItem: -1};"
+            + "  new MutationObserver(function (mutations) {"
+            + "    var now = performance.now();"
+            + "    for (var i = 0; i < mutations.length; i++) {"
+            + "      var added = mutations[i].addedNodes;"
+            + "      for (var j = 0; j < added.length; j++) {"
+            + "        var node = added[j];"
+            + "        if (node.nodeType === 1 && (node.matches(selector) || node.querySelector(selector))) {"
+            + "          if (state.firstItem < 0) { state.firstItem = now; }"
+            + "          state.lastItem = now;"
+            + "        }"
+            + "      }"
+            + "    }"
+            + "  }).observe(document, {childList: true, subtree: true});"
+            + "})();";
+
+    private static final String COLLECT_SCRIPT =
+            "var nav = performance.getEntriesByType('navigation')[0];"
+            + "var paint = performance.getEntriesByName('first-contentful-paint')[0];"
+            + "var state = window.__qaRender || {firstItem: -1, lastItem: -1};"
+            + "return {responseStart: nav.responseStart, domInteractive: nav.domInteractive,"
+            + "  loadEventEnd: nav.loadEventEnd, htmlBytes: nav.decodedBodySize || 0,"
+            + "  firstContentfulPaint: paint ? paint.startTime : -1,"
+            + "  firstItem: state.firstItem, lastItem: state.lastItem, now: performance.now(),"
+            + "  items: document.querySelectorAll(arguments[0]).length,"
+            + "  domElements: document.getElementsByTagName('*').length};";
+
+    private final WebDriver driver;
+    private final String itemSelector;
+    private final Duration settleTime;
+    private DevTools devTools;
+    private String scriptId;
+
+    /**
+     * Creates a probe for the given driver and installs the item observer if the driver supports CDP
+     * @param driver Driver that loads the page
+     * @param itemSelector CSS selector of one list item, e.g. .record-card
+     * @param settleTime How long no item may be added before the list counts as complete
+     */
+    public PageRenderProbe(WebDriver driver, String itemSelector, Duration settleTime) {
+        this.driver = driver;
+        this.itemSelector = itemSelector;
+        this.settleTime = settleTime;
+        if (driver instanceof HasDevTools) {
+            try {
+                devTools = ((HasDevTools) driver).getDevTools();
+                devTools.createSessionIfThereIsNotOne();
+                Map<String, Object> params = new HashMap<>();
+                params.put("source", String.format(OBSERVER_SCRIPT, new Json().toJson(itemSelector)));
+                Map<String, Object> result = devTools.send(
+                        new Command<>("Page.addScriptToEvaluateOnNewDocument", params, Json.MAP_TYPE));
+                scriptId = String.valueOf(result.get("identifier"));
+            } catch (Exception e) {
+                devTools = null;
+                logger.warn("List item timing not available. Error: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Checks whether first and last item times are measured
+     * @return true if the item observer is installed
+     */
+    public boolean isObservingItems() {
+        return scriptId != null;
+    }
+
+    /**
+     * Loads the URL in a fresh navigation and measures it once the page has loaded and the list has settled
+     * @param url Page URL
+     * @param timeout Maximum time to wait for the load and the list
+     * @return Render sample of this navigation
+     */
+    @SuppressWarnings("unchecked")
+    public RenderSample measure(String url, Duration timeout) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        driver.navigate().to(url);
+        WebDriverWait wait = new WebDriverWait(driver, timeout, Duration.ofMillis(50));
+        wait.until(d -> Boolean.TRUE.equals(js.executeScript(
+                "var nav = performance.getEntriesByType('navigation')[0]; return !!nav && nav.loadEventEnd > 0;")));
+        // Client-rendered lists keep growing after load; wait until no item was added for the settle time
+        Map<String, Object> values = (Map<String, Object>) wait.until(d -> {
+            Map<String, Object> current = (Map<String, Object>) js.executeScript(COLLECT_SCRIPT, itemSelector);
+            double lastChange = Math.max(number(current, "loadEventEnd"), number(current, "lastItem"));
+            return number(current, "now") - lastChange >= settleTime.toMillis() ? current : null;
+        });
+        return new RenderSample(number(values, "responseStart"), number(values, "domInteractive"),
+                number(values, "loadEventEnd"), number(values, "firstContentfulPaint"), number(values, "firstItem"),
+                number(values, "lastItem"), (long) number(values, "items"), (long) number(values, "domElements"),
+                (long) number(values, "htmlBytes"));
+    }
+
+    /**
+     * Removes the item observer so later navigations of the driver are not instrumented
+     */
+    @Override
+    public void close() {
+        if (devTools == null || scriptId == null) {
+            return;
+        }
+        try {
+            devTools.send(new Command<>("Page.removeScriptToEvaluateOnNewDocument",
+                    Collections.singletonMap("identifier", scriptId)));
+        } catch (Exception e) {
+            logger.warn("Could not remove list item observer. Error: {}", e.getMessage());
+        }
+        scriptId = null;
+    }
+
+    private static double number(Map<String, Object> values, String key) {
+        Object value = values.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : -1;
+    }
+
+    /**
+     * Render timings and DOM size of one page load
+     */
+    public static class RenderSample {
+
+        private final double firstByteMillis;
+        private final double domInteractiveMillis;
+        private final double loadMillis;
+        private final double firstContentfulPaintMillis;
+        private final double firstItemMillis;
+        private final double lastItemMillis;
+        private final long itemCount;
+        private final long domElementCount;
+        private final long htmlBytes;
+
+        RenderSample(double firstByteMillis, double domInteractiveMillis, double loadMillis,
+                     double firstContentfulPaintMillis, double firstItemMillis, double lastItemMillis,
+                     long itemCount, long domElementCount, long htmlBytes) {
+            this.firstByteMillis = firstByteMillis;
+            this.domInteractiveMillis = domInteractiveMillis;
+            this.loadMillis = loadMillis;
+            this.firstContentfulPaintMillis = firstContentfulPaintMillis;
+            this.firstItemMillis = firstItemMillis;
+            this.lastItemMillis = lastItemMillis;
+            this.itemCount = itemCount;
+            this.domElementCount = domElementCount;
+            this.htmlBytes = htmlBytes;
+        }
+
+        public double getFirstByteMillis() {
+            return firstByteMillis;
+        }
+
+        public double getDomInteractiveMillis() {
+            return domInteractiveMillis;
+        }
+
+        public double getLoadMillis() {
+            return loadMillis;
+        }
+
+        /**
+         * Gets the first contentful paint
+         * @return Milliseconds, or -1 if the browser reports none
+         */
+        public double getFirstContentfulPaintMillis() {
+            return firstContentfulPaintMillis;
+        }
+
+        /**
+         * Gets when the first list item was added to the DOM
+         * @return Milliseconds, or -1 if no item appeared or items are not observed
+         */
+        public double getFirstItemMillis() {
+            return firstItemMillis;
+        }
+
+        /**
+         * Gets when the list was complete: the last item added, or the load event if that came later
+         * @return Milliseconds
+         */
+        public double getRenderMillis() {
+            return Math.max(loadMillis, lastItemMillis);
+        }
+
+        public long getItemCount() {
+            return itemCount;
+        }
+
+        public long getDomElementCount() {
+            return domElementCount;
+        }
+
+        public long getHtmlBytes() {
+            return htmlBytes;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.qa.automation.load;
+
+import com.qa.automation.base.DriverFactory;
+import com.qa.automation.pages.HomePage;
+import com.qa.automation.pages.LoginPage;
+import com.qa.automation.pages.MedicalRecordsPage;
+import com.qa.automation.pages.SignupPage;
+import com.qa.automation.utils.SyntheticFileGenerator;
+import com.qa.automation.utils.TestDataGenerator;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * PortalBrowserScenario drives a patient through the existing page objects:
+ * sign up once, then repeatedly log in, search doctors, upload a medical record and log out
+ * Step latencies include the fixed waits built into the page objects
+ */
+public class PortalBrowserScenario implements LoadScenario {
+
+    private static final String PASSWORD = "Test@123";
+    private static final By SEARCH_RESULTS_CONTAINER = By.xpath(
+            "//div[contains(@class,'doctor-list') or contains(@class,'search-results')]");
+    private static final DateTimeFormatter RECORD_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final String runId = String.valueOf(System.currentTimeMillis());
+    private final String uploadFilePath;
+    private final List<String> searchTerms;
+
+    /**
+     * Creates the scenario using load.uploadFile (a path or e.g. synthetic:pdf:5MB) and load.searchTerms from configuration
+     */
+    public PortalBrowserScenario() {
+        this(SyntheticFileGenerator.resolve(DriverFactory.getProperty("load.uploadFile",
+                        "test-data/medical-reports/Sample_Blood_Test_Report.pdf")).toString(),
+                Arrays.asList(DriverFactory.getProperty("load.searchTerms", "Jenny,Cardiology,Sara,Pediatrics").split(",")));
+    }
+
+    /**
+     * Creates the scenario with an explicit upload file and search terms
+     * @param uploadFilePath Absolute path of the file uploaded on each iteration
+     * @param searchTerms Terms cycled through the doctor search
+     */
+    public PortalBrowserScenario(String uploadFilePath, List<String> searchTerms) {
+        this.uploadFilePath = uploadFilePath;
+        this.searchTerms = searchTerms;
+    }
+
+    @Override
+    public void prepare(VirtualUser user) throws Exception {
+        String email = emailFor(user);
+        user.step("signup", () -> {
+            HomePage homePage = new HomePage();
+            homePage.navigateToHomePage().clickSignUpButton();
+            new SignupPage().selectRole("Patient")
+                    .enterFirstName("Load")
+                    .enterLastName("User" + user.getIndex())
+                    .enterEmail(email)
+                    .enterPassword(PASSWORD)
+                    .enterConfirmPassword(PASSWORD)
+                    .enterPhone(TestDataGenerator.generatePhoneNumber())
+                    .selectGender("Male")
+                    .clickCreateAccountButton();
+        });
+    }
+
+    @Override
+    public void iterate(VirtualUser user) throws Exception {
+        HomePage homePage = new HomePage();
+        LoginPage loginPage = new LoginPage();
+        MedicalRecordsPage medicalRecordsPage = new MedicalRecordsPage();
+        String email = emailFor(user);
+
+        user.step("login", () -> {
+            homePage.navigateToHomePage().clickLoginButton();
+            loginPage.login(email, PASSWORD);
+            String currentUrl = loginPage.getCurrentUrl();
+            if (!currentUrl.contains("/patient/")) {
+                throw new IllegalStateException("Login did not reach the patient area: " + currentUrl);
+            }
+        });
+
+        String searchTerm = searchTerms.get((int) (user.getIterations() % searchTerms.size())).trim();
+        user.step("search doctors", () -> {
+            homePage.clickFindDoctorsLink().enterSearchByNameOrSpecialty(searchTerm);
+            WebDriver driver = DriverFactory.getDriver();
+            new WebDriverWait(driver, Duration.ofSeconds(DriverFactory.getTimeout()))
+                    .until(ExpectedConditions.presenceOfElementLocated(SEARCH_RESULTS_CONTAINER));
+        });
+
+        String title = "Load Test " + user.getIndex() + "-" + user.getIterations();
+        user.step("upload record", () -> {
+            medicalRecordsPage.clickMedicalRecords()
+                    .clickUploadRecord()
+                    .selectRecordType("Lab Report")
+                    .enterReportTitle(title)
+                    .enterDate(LocalDate.now().format(RECORD_DATE))
+                    .enterDescription("Uploaded by browser load run " + runId)
+                    .uploadFile(uploadFilePath)
+                    .clickUpload();
+            if (!DriverFactory.getDriver().getPageSource().contains(title)) {
+                throw new IllegalStateException("Uploaded record not listed: " + title);
+            }
+        });
+
+        user.step("logout", homePage::clearBrowserCache);
+    }
+
+    private String emailFor(VirtualUser user) {
+        return "load_" + runId + "_vu" + user.getIndex() + "@test.com";
+    }
+}
@@ -0,0 +1,214 @@
+package com.qa.automation.load;
+
+import com.qa.automation.base.DriverFactory;
+import com.qa.automation.utils.SyntheticFileGenerator;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLConnection;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * PortalHttpRequests builds the HTTP requests submitted by the page-object forms:
+ * SignupPage.clickCreateAccountButton, LoginPage.clickLoginButton and MedicalRecordsPage.clickUpload
+ * Endpoint paths are configurable (httpload.*Path) so the same replay can target the real portal
+ */
+public class PortalHttpRequests {
+
+    private static final DateTimeFormatter RECORD_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final URI baseUri;
+    private final String signupPath;
+    private final String loginPath;
+    private final String uploadPath;
+    private final Duration timeout;
+    private final String uploadFileName;
+    private final String uploadContentType;
+    private final byte[] uploadFileBytes;
+
+    /**
+     * Creates request builders for the given portal using configured paths and upload file
+     * load.uploadFile is a path or a synthetic file spec such as synthetic:pdf:5MB (see SyntheticFileGenerator)
+     * @param baseUrl Portal base URL
+     * @param timeout Per-request timeout
+     * @throws IOException if the upload file cannot be read
+     */
+    public PortalHttpRequests(String baseUrl, Duration timeout) throws IOException {
+        this(baseUrl, timeout, SyntheticFileGenerator.resolve(DriverFactory.getProperty("load.uploadFile",
+                "test-data/medical-reports/Sample_Blood_Test_Report.pdf")));
+    }
+
+    /**
+     * Creates request builders for the given portal using configured paths and the given upload file
+     * @param baseUrl Portal base URL
+     * @param timeout Per-request timeout
+     * @param uploadFile File attached to every upload (read once and reused)
+     * @throws IOException if the upload file cannot be read
+     */
+    public PortalHttpRequests(String baseUrl, Duration timeout, Path uploadFile) throws IOException {
+        this(baseUrl, timeout,
+                DriverFactory.getProperty("httpload.signupPath", "/signup"),
+                DriverFactory.getProperty("httpload.loginPath", "/login"),
+                DriverFactory.getProperty("httpload.uploadPath", "/api/records"),
+                uploadFile);
+    }
+
+    /**
+     * Creates request builders with explicit endpoint paths and upload file
+     * @param baseUrl Portal base URL
+     * @param timeout Per-request timeout
+     * @param signupPath Path the signup form posts to
+     * @param loginPath Path the login form posts to
+     * @param uploadPath Path the record upload posts to
+     * @param uploadFile File attached to every upload (read once and reused)
+     * @throws IOException if the upload file cannot be read
+     */
+    public PortalHttpRequests(String baseUrl, Duration timeout, String signupPath, String loginPath,
+                              String uploadPath, Path uploadFile) throws IOException {
+        this.baseUri = URI.create(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/");
+        this.timeout = timeout;
+        this.signupPath = signupPath;
+        this.loginPath = loginPath;
+        this.uploadPath = uploadPath;
+        this.uploadFileName = uploadFile.getFileName().toString();
+        // Same part type a browser sends, e.g. application/pdf or image/png
+        String contentType = URLConnection.guessContentTypeFromName(uploadFileName);
+        this.uploadContentType = contentType != null ? contentType : "application/octet-stream";
+        this.uploadFileBytes = Files.readAllBytes(uploadFile);
+    }
+
+    /**
+     * Builds the patient signup form submission
+     * @param email Unique account email
+     * @param password Account password
+     * @return Signup request
+     */
+    public HttpRequest signup(String email, String password) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("role", "Patient");
+        form.put("firstName", "Load");
+        form.put("lastName", "User");
+        form.put("email", email);
+        form.put("password", password);
+        form.put("confirmPassword", password);
+        form.put("phone", "9876543210");
+        form.put("gender", "Male");
+        return formPost(signupPath, form);
+    }
+
+    /**
+     * Builds a signup form submission from a full set of form fields, e.g. a SyntheticDataGenerator row
+     * confirmPassword defaults to password when the row has none
+     * @param fields Signup form fields (role, firstName, email, password, specialty, ...)
+     * @return Signup request
+     */
+    public HttpRequest signup(Map<String, String> fields) {
+        Map<String, String> form = new LinkedHashMap<>(fields);
+        form.putIfAbsent("confirmPassword", form.getOrDefault("password", ""));
+        return formPost(signupPath, form);
+    }
+
+    /**
+     * Builds the login form submission
+     * @param email Account email
+     * @param password Account password
+     * @return Login request
+     */
+    public HttpRequest login(String email, String password) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("email", email);
+        form.put("password", password);
+        return formPost(loginPath, form);
+    }
+
+    /**
+     * Builds the multipart medical record upload for a logged-in session
+     * @param sessionCookie Cookie header value returned by login
+     * @param title Record title
+     * @return Upload request
+     */
+    public HttpRequest upload(String sessionCookie, String title) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("recordType", "Lab Report");
+        fields.put("title", title);
+        fields.put("date", LocalDate.now().format(RECORD_DATE));
+        fields.put("description", "Uploaded by HTTP load run");
+        return upload(sessionCookie, fields);
+    }
+
+    /**
+     * Builds the multipart medical record upload with the given form fields, e.g. a SyntheticDataGenerator record row
+     * @param sessionCookie Cookie header value returned by login
+     * @param fields Record form fields (recordType, title, date, description), sent in map order
+     * @return Upload request
+     */
+    public HttpRequest upload(String sessionCookie, Map<String, String> fields) {
+        String boundary = "----LoadBoundary" + UUID.randomUUID().toString().replace("-", "");
+        StringBuilder head = new StringBuilder();
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            head.append("--").append(boundary).append("\r\n")
+                    .append("Content-Disposition: form-data; name=\"").append(field.getKey()).append("\"\r\n\r\n")
+                    .append(field.getValue()).append("\r\n");
+        }
+        head.append("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"file\"; filename=\"").append(uploadFileName).append("\"\r\n")
+                .append("Content-Type: ").append(uploadContentType).append("\r\n\r\n");
+        byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(relative(uploadPath)))
+                .timeout(timeout)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArrays(Arrays.asList(
+                        head.toString().getBytes(StandardCharsets.UTF_8), uploadFileBytes, tail)));
+        if (sessionCookie != null) {
+            builder.header("Cookie", sessionCookie);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets the session cookie set by a login response
+     * @param response Login response
+     * @return Cookie header value (name=value), or null if the response set none
+     */
+    public static String sessionCookie(HttpResponse<?> response) {
+        for (String header : response.headers().allValues("Set-Cookie")) {
+            String cookie = header.split(";", 2)[0].trim();
+            // Skip cookies that are being cleared
+            if (!cookie.endsWith("=")) {
+                return cookie;
+            }
+        }
+        return null;
+    }
+
+    private HttpRequest formPost(String path, Map<String, String> form) {
+        StringJoiner body = new StringJoiner("&");
+        for (Map.Entry<String, String> field : form.entrySet()) {
+            body.add(URLEncoder.encode(field.getKey(), StandardCharsets.UTF_8) + "="
+                    + URLEncoder.encode(field.getValue(), StandardCharsets.UTF_8));
+        }
+        return HttpRequest.newBuilder(baseUri.resolve(relative(path)))
+                .timeout(timeout)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+    }
+
+    private static String relative(String path) {
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+}
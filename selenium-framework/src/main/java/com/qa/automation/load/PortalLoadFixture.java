@@ -0,0 +1,170 @@
+package com.qa.automation.load;
+
+import com.qa.automation.base.DriverFactory;
+import com.qa.automation.server.PortalStandInServer;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * PortalLoadFixture is the shared setup of the load benchmarks (TC031, TC032, TC033): the portal target,
+ * an HTTP client, synthetic accounts created over HTTP and a headless browser session
+ * With load.useStandIn=true (default) it starts and stops an embedded PortalStandInServer; otherwise it
+ * targets the configured url. The browser session is started and quit by inBrowser, so a benchmark never
+ * reuses a browser left on its thread or leaves one behind
+ */
+public class PortalLoadFixture implements AutoCloseable {
+
+    private final PortalStandInServer standInServer;
+    private final String baseUrl;
+    private final Duration timeout;
+    private final HttpClient client;
+
+    private PortalLoadFixture(PortalStandInServer standInServer, String baseUrl, Duration timeout) {
+        this.standInServer = standInServer;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    /**
+     * Starts the fixture from configuration (load.useStandIn, url, httpload.requestTimeoutSeconds)
+     * @return Started fixture; close it to stop the stand-in server
+     */
+    public static PortalLoadFixture start() {
+        Duration timeout = Duration.ofSeconds(Long.parseLong(DriverFactory.getProperty("httpload.requestTimeoutSeconds", "30")));
+        if (Boolean.parseBoolean(DriverFactory.getProperty("load.useStandIn", "true"))) {
+            PortalStandInServer server = PortalStandInServer.fromConfig().start();
+            return new PortalLoadFixture(server, server.getBaseUrl(), timeout);
+        }
+        return new PortalLoadFixture(null, DriverFactory.getUrl(), timeout);
+    }
+
+    /**
+     * Creates request builders for the target that attach the given file to uploads
+     * @param uploadFile File attached to every upload
+     * @return Request builders
+     * @throws IOException if the upload file cannot be read
+     */
+    public PortalHttpRequests requests(Path uploadFile) throws IOException {
+        return new PortalHttpRequests(baseUrl, timeout, uploadFile);
+    }
+
+    /**
+     * Signs up an account from a full set of signup form fields and logs it in over HTTP
+     * @param requests Request builders for the target
+     * @param fields Signup form fields, e.g. a SyntheticDataGenerator row (email and password are required)
+     * @return Logged-in account
+     * @throws IOException if a request cannot be sent
+     * @throws InterruptedException if interrupted while waiting for a response
+     * @throws IllegalStateException if signup fails or login returns no session cookie
+     */
+    public Account signUp(PortalHttpRequests requests, Map<String, String> fields) throws IOException, InterruptedException {
+        HttpResponse<Void> signup = client.send(requests.signup(fields), HttpResponse.BodyHandlers.discarding());
+        if (signup.statusCode() >= 400) {
+            throw new IllegalStateException("Signup of " + fields.get("email") + " failed with HTTP " + signup.statusCode());
+        }
+        HttpResponse<Void> login = client.send(requests.login(fields.get("email"), fields.get("password")),
+                HttpResponse.BodyHandlers.discarding());
+        String cookie = PortalHttpRequests.sessionCookie(login);
+        if (cookie == null) {
+            throw new IllegalStateException("Login of " + fields.get("email") + " returned no session cookie, HTTP "
+                    + login.statusCode());
+        }
+        return new Account(fields.get("email"), fields.get("password"), cookie);
+    }
+
+    /**
+     * Runs a browser task in a new headless session on the current thread, with url pointing at the target
+     * The session is quit and url restored afterwards, whether the task succeeds or not
+     * @param task Task driving the page objects; they use the session through DriverFactory.getDriver()
+     * @return Result of the task
+     * @throws Exception whatever the task throws
+     */
+    public <T> T inBrowser(BrowserTask<T> task) throws Exception {
+        String previousUrl = System.getProperty("url");
+        System.setProperty("url", baseUrl);
+        try {
+            return task.run(DriverFactory.startDriver(true));
+        } finally {
+            DriverFactory.closeDriver();
+            if (previousUrl == null) {
+                System.clearProperty("url");
+            } else {
+                System.setProperty("url", previousUrl);
+            }
+        }
+    }
+
+    /**
+     * Stops the stand-in server, if this fixture started one
+     */
+    @Override
+    public void close() {
+        if (standInServer != null) {
+            standInServer.stop();
+        }
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public HttpClient getClient() {
+        return client;
+    }
+
+    /**
+     * Work done in the fixture's browser session
+     * @param <T> Result type
+     */
+    @FunctionalInterface
+    public interface BrowserTask<T> {
+        T run(WebDriver driver) throws Exception;
+    }
+
+    /**
+     * Account signed up and logged in over HTTP
+     */
+    public static class Account {
+
+        private final String email;
+        private final String password;
+        private final String cookie;
+
+        Account(String email, String password, String cookie) {
+            this.email = email;
+            this.password = password;
+            this.cookie = cookie;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        /**
+         * Gets the session cookie of the HTTP login
+         * @return Cookie header value (name=value)
+         */
+        public String getCookie() {
+            return cookie;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.qa.automation.load;
+
+import com.qa.automation.tracing.Span;
+import com.qa.automation.tracing.Tracer;
+
+import java.util.function.Supplier;
+
+/**
+ * VirtualUser is the per-thread context handed to a LoadScenario
+ * Wraps scenario actions as timed steps that are recorded into LoadMetrics
+ */
+public class VirtualUser {
+
+    private final int index;
+    private final LoadMetrics metrics;
+    private final Supplier<LoadPhase> phaseSupplier;
+    private long iterations;
+
+    /**
+     * Functional step body that may throw
+     */
+    public interface Step {
+        void run() throws Exception;
+    }
+
+    /**
+     * Creates a virtual user context
+     * @param index Zero-based index of the virtual user
+     * @param metrics Metrics sink shared by all virtual users
+     * @param phaseSupplier Supplies the phase the run is currently in
+     */
+    public VirtualUser(int index, LoadMetrics metrics, Supplier<LoadPhase> phaseSupplier) {
+        this.index = index;
+        this.metrics = metrics;
+        this.phaseSupplier = phaseSupplier;
+    }
+
+    /**
+     * Runs and times a named step as a trace span; failures are recorded and rethrown
+     * @param name Step name used in the report
+     * @param step Step body
+     * @throws Exception the exception thrown by the step
+     */
+    public void step(String name, Step step) throws Exception {
+        LoadPhase phase = phaseSupplier.get();
+        Span span = Tracer.startSpan(name);
+        if (span != null) {
+            span.setAttribute("load.virtualUser", (long) index).setAttribute("load.phase", phase.getLabel());
+        }
+        long start = System.nanoTime();
+        try {
+            step.run();
+            metrics.record(phase, name, System.nanoTime() - start, null);
+            Tracer.endCurrentSpan(Span.Status.OK, null);
+        } catch (Exception | AssertionError e) {
+            metrics.record(phase, name, System.nanoTime() - start, e);
+            Tracer.endCurrentSpan(Span.Status.ERROR, e.getClass().getSimpleName() + ": " + e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the zero-based index of this virtual user
+     * @return Virtual user index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the number of completed iterations
+     * @return Iteration count
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    void incrementIterations() {
+        iterations++;
+    }
+}
@@ -1,6 +1,7 @@
 package com.qa.automation.pages;
 
 import com.qa.automation.base.DriverFactory;
+import com.qa.automation.instrumentation.FlightEvents;
 import com.qa.automation.utils.ElementUtil;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.PageFactory;
@@ -34,12 +35,15 @@ public class BasePage {
      * @return Current page instance for Fluent pattern
      */
     protected <T extends BasePage> T navigateTo(String url) {
-        driver.get(url);
-        // Wait for page to load completely
-        wait.until(webDriver -> {
-            String state = ((org.openqa.selenium.JavascriptExecutor) webDriver)
-                    .executeScript("return document.readyState").toString();
-            return state.equals("complete");
+        // Recorded as a JFR wait event covering the navigation and the load
+        FlightEvents.waitFor("page load of " + url, () -> {
+            driver.get(url);
+            // Wait for page to load completely
+            return wait.until(webDriver -> {
+                String state = ((org.openqa.selenium.JavascriptExecutor) webDriver)
+                        .executeScript("return document.readyState").toString();
+                return state.equals("complete");
+            });
         });
         return (T) this;
     }
@@ -13,7 +13,6 @@ import org.openqa.selenium.support.FindBy;
 public class HomePage extends BasePage {
 
     private static final Logger logger = LogManager.getLogger(HomePage.class);
-    private static final String HOME_PAGE_URL = DriverFactory.getUrl();
 
     // Page Elements using @FindBy annotations
     @FindBy(xpath = "//img[contains(@class,'logo') or contains(@alt,'logo') or contains(@src,'logo')] | //div[contains(@class,'logo')] | //a[contains(@class,'logo')]")
@@ -53,8 +52,10 @@ public class HomePage extends BasePage {
      */
     public HomePage navigateToHomePage() {
         try {
-            logger.info("Navigating to home page: {}", HOME_PAGE_URL);
-            navigateTo(HOME_PAGE_URL);
+            // Resolved per call so a stand-in server started at runtime can take over the URL
+            String homePageUrl = DriverFactory.getUrl();
+            logger.info("Navigating to home page: {}", homePageUrl);
+            navigateTo(homePageUrl);
             logger.info("Successfully navigated to home page");
         } catch (Exception e) {
             logger.error("Failed to navigate to home page. Error: {}", e.getMessage());
@@ -0,0 +1,130 @@
+package com.qa.automation.server;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * FormParser decodes url-encoded and multipart request bodies for the stand-in server
+ * File parts are reduced to their file name plus a "&lt;name&gt;.size" entry
+ */
+final class FormParser {
+
+    private static final Pattern NAME_PARAM = Pattern.compile("(?:^|[;\\s])name=\"([^\"]*)\"");
+    private static final Pattern FILENAME_PARAM = Pattern.compile("filename=\"([^\"]*)\"");
+    private static final byte[] HEADER_END = {'\r', '\n', '\r', '\n'};
+
+    private FormParser() {
+    }
+
+    /**
+     * Parses an application/x-www-form-urlencoded body or query string
+     * @param encoded Encoded form data, may be null
+     * @return Map of field names to decoded values
+     */
+    static Map<String, String> parseUrlEncoded(String encoded) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return fields;
+        }
+        for (String pair : encoded.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator >= 0 ? pair.substring(0, separator) : pair;
+            String value = separator >= 0 ? pair.substring(separator + 1) : "";
+            fields.put(decode(name), decode(value));
+        }
+        return fields;
+    }
+
+    /**
+     * Parses a multipart/form-data body
+     * @param body Raw request body
+     * @param contentType Content-Type header carrying the boundary
+     * @return Map of field names to values (file fields map to the file name)
+     */
+    static Map<String, String> parseMultipart(byte[] body, String contentType) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        String boundaryValue = extractBoundary(contentType);
+        if (boundaryValue == null) {
+            return fields;
+        }
+
+        byte[] boundary = ("--" + boundaryValue).getBytes(StandardCharsets.ISO_8859_1);
+        byte[] delimiter = ("\r\n--" + boundaryValue).getBytes(StandardCharsets.ISO_8859_1);
+        int position = indexOf(body, boundary, 0);
+        while (position >= 0) {
+            int partStart = position + boundary.length;
+            // "--" after the boundary marks the end of the body
+            if (partStart + 1 < body.length && body[partStart] == '-' && body[partStart + 1] == '-') {
+                break;
+            }
+            partStart += 2;
+            int headerEnd = indexOf(body, HEADER_END, partStart);
+            if (headerEnd < 0) {
+                break;
+            }
+            String headers = new String(body, partStart, headerEnd - partStart, StandardCharsets.UTF_8);
+            int contentStart = headerEnd + HEADER_END.length;
+            int contentEnd = indexOf(body, delimiter, contentStart);
+            if (contentEnd < 0) {
+                break;
+            }
+
+            String name = headerParam(NAME_PARAM, headers);
+            String fileName = headerParam(FILENAME_PARAM, headers);
+            if (name != null) {
+                if (fileName != null) {
+                    fields.put(name, fileName);
+                    fields.put(name + ".size", String.valueOf(contentEnd - contentStart));
+                } else {
+                    fields.put(name, new String(body, contentStart, contentEnd - contentStart, StandardCharsets.UTF_8));
+                }
+            }
+            position = contentEnd + 2;
+        }
+        return fields;
+    }
+
+    private static String extractBoundary(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        for (String part : contentType.split(";")) {
+            String trimmed = part.trim();
+            if (trimmed.startsWith("boundary=")) {
+                return trimmed.substring("boundary=".length()).replace("\"", "");
+            }
+        }
+        return null;
+    }
+
+    private static String headerParam(Pattern pattern, String headers) {
+        Matcher matcher = pattern.matcher(headers);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern, int from) {
+        outer:
+        for (int i = from; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.qa.automation.server;
+
+import com.qa.automation.base.DriverFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * LatencyInjector delays stand-in responses to imitate a remote server
+ * Each request waits a base delay plus a uniform jitter; path prefixes can override the default
+ * (longest matching prefix wins). Jitter comes from a seeded Random so runs are repeatable
+ */
+public class LatencyInjector {
+
+    private final Delay defaultDelay;
+    private final List<Route> routes = new ArrayList<>();
+    private final Random random;
+
+    private static final class Delay {
+        private final long baseMillis;
+        private final long jitterMillis;
+
+        Delay(long baseMillis, long jitterMillis) {
+            if (baseMillis < 0 || jitterMillis < 0) {
+                throw new IllegalArgumentException("Latency must not be negative: " + baseMillis + "+" + jitterMillis);
+            }
+            this.baseMillis = baseMillis;
+            this.jitterMillis = jitterMillis;
+        }
+    }
+
+    private static final class Route {
+        private final String pathPrefix;
+        private final Delay delay;
+
+        Route(String pathPrefix, Delay delay) {
+            this.pathPrefix = pathPrefix;
+            this.delay = delay;
+        }
+    }
+
+    /**
+     * Creates an injector
+     * @param baseMillis Delay added to every response
+     * @param jitterMillis Upper bound of the random extra delay
+     * @param seed Seed of the jitter sequence
+     */
+    public LatencyInjector(long baseMillis, long jitterMillis, long seed) {
+        this.defaultDelay = new Delay(baseMillis, jitterMillis);
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Builds an injector from standin.latencyMillis, standin.latencyJitterMillis, standin.latencySeed
+     * and standin.latencyRoutes (comma-separated prefix=base or prefix=base+jitter, e.g. "/api/=300+100,/static/=0")
+     * @return Configured injector
+     */
+    public static LatencyInjector fromConfig() {
+        LatencyInjector injector = new LatencyInjector(
+                Long.parseLong(DriverFactory.getProperty("standin.latencyMillis", "0")),
+                Long.parseLong(DriverFactory.getProperty("standin.latencyJitterMillis", "0")),
+                Long.parseLong(DriverFactory.getProperty("standin.latencySeed", "42")));
+        String routes = DriverFactory.getProperty("standin.latencyRoutes", "");
+        for (String route : routes.split(",")) {
+            if (route.trim().isEmpty()) {
+                continue;
+            }
+            String[] parts = route.trim().split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid standin.latencyRoutes entry: " + route);
+            }
+            String[] delay = parts[1].trim().split("\\+", 2);
+            injector.withRoute(parts[0].trim(), Long.parseLong(delay[0].trim()),
+                    delay.length > 1 ? Long.parseLong(delay[1].trim()) : 0);
+        }
+        return injector;
+    }
+
+    /**
+     * Overrides the delay for paths starting with a prefix
+     * @param pathPrefix Request path prefix, e.g. "/api/"
+     * @param baseMillis Delay added to matching responses
+     * @param jitterMillis Upper bound of the random extra delay
+     * @return LatencyInjector instance for Fluent pattern
+     */
+    public LatencyInjector withRoute(String pathPrefix, long baseMillis, long jitterMillis) {
+        synchronized (routes) {
+            routes.add(new Route(pathPrefix, new Delay(baseMillis, jitterMillis)));
+            routes.sort((first, second) -> second.pathPrefix.length() - first.pathPrefix.length());
+        }
+        return this;
+    }
+
+    /**
+     * Picks the delay for a request
+     * @param path Request path
+     * @return Delay in milliseconds
+     */
+    public long delayFor(String path) {
+        Delay delay = defaultDelay;
+        synchronized (routes) {
+            for (Route route : routes) {
+                if (path.startsWith(route.pathPrefix)) {
+                    delay = route.delay;
+                    break;
+                }
+            }
+        }
+        if (delay.jitterMillis == 0) {
+            return delay.baseMillis;
+        }
+        return delay.baseMillis + (long) (random.nextDouble() * (delay.jitterMillis + 1));
+    }
+
+    /**
+     * Sleeps for the delay of a request
+     * @param path Request path
+     */
+    public void apply(String path) throws InterruptedException {
+        long millis = delayFor(path);
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return defaultDelay.baseMillis + "+" + defaultDelay.jitterMillis + " ms, " + routes.size() + " route override(s)";
+    }
+}
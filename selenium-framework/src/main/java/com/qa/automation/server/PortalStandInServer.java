@@ -0,0 +1,712 @@
+package com.qa.automation.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qa.automation.base.DriverFactory;
+import com.qa.automation.utils.SyntheticDataGenerator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PortalStandInServer serves a local replica of the healthcare portal pages used by the page objects
+ * Markup mirrors the page-object locators so tests and load runs can execute without the remote server.
+ * An optional LatencyInjector delays every response to imitate the remote environment
+ */
+public class PortalStandInServer {
+
+    private static final Logger logger = LogManager.getLogger(PortalStandInServer.class);
+    private static final String TEMPLATE_DIR = "standin/";
+    private static final String SESSION_COOKIE = "sid";
+    private static final int BACKLOG = 1024;
+    private static final List<String> SPECIALTIES = SyntheticDataGenerator.SPECIALTIES;
+    private static final List<String> GENDERS = Arrays.asList("Male", "Female", "Other");
+    private static final List<String> PATIENT_PROFILE_FIELDS = Arrays.asList(
+            "firstName", "lastName", "phone", "gender", "dateOfBirth", "address", "city", "state", "zipCode");
+    private static final List<String> DOCTOR_PROFILE_FIELDS = Arrays.asList(
+            "firstName", "lastName", "phone", "gender", "specialty", "licenseNumber", "qualification", "experience",
+            "consultationFee", "city", "bio", "availableDays", "availableTimeStart", "availableTimeEnd");
+
+    private final int requestedPort;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Account> accounts = new ConcurrentHashMap<>();
+    private final Map<String, String> sessions = new ConcurrentHashMap<>();
+    private final Map<String, List<MedicalRecord>> records = new ConcurrentHashMap<>();
+    private final Map<String, String> templates = new ConcurrentHashMap<>();
+    private final AtomicLong recordIds = new AtomicLong();
+    private volatile LatencyInjector latency;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Creates a stand-in server bound to a free ephemeral port
+     */
+    public PortalStandInServer() {
+        this(0);
+    }
+
+    /**
+     * Creates a stand-in server bound to the given port
+     * @param port Port to listen on (0 picks a free port)
+     */
+    public PortalStandInServer(int port) {
+        this.requestedPort = port;
+        seedDoctors();
+    }
+
+    /**
+     * Creates a stand-in server from standin.port and the standin.latency* keys
+     * @return Unstarted PortalStandInServer
+     */
+    public static PortalStandInServer fromConfig() {
+        return new PortalStandInServer(Integer.parseInt(DriverFactory.getProperty("standin.port", "0")))
+                .withLatency(LatencyInjector.fromConfig());
+    }
+
+    /**
+     * Delays every response with the given injector
+     * @param latency Latency injector, or null for no delay
+     * @return PortalStandInServer instance for Fluent pattern
+     */
+    public PortalStandInServer withLatency(LatencyInjector latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Starts listening on localhost
+     * @return PortalStandInServer instance for Fluent pattern
+     */
+    public PortalStandInServer start() {
+        try {
+            // The JDK server writes headers and body separately; without TCP_NODELAY each exchange on a
+            // kept-alive connection stalls ~40 ms on the client's delayed ACK. Read once, by the first server
+            if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+                System.setProperty("sun.net.httpserver.nodelay", "true");
+            }
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", requestedPort), BACKLOG);
+            executor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "standin-http");
+                thread.setDaemon(true);
+                return thread;
+            });
+            server.setExecutor(executor);
+            server.createContext("/", this::handle);
+            server.start();
+            logger.info("Portal stand-in server started at {}{}", getBaseUrl(),
+                    latency != null ? " with latency " + latency : "");
+        } catch (IOException e) {
+            logger.error("Failed to start portal stand-in server. Error: {}", e.getMessage());
+            throw new RuntimeException("Failed to start portal stand-in server", e);
+        }
+        return this;
+    }
+
+    /**
+     * Stops the server and releases its threads
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            logger.info("Portal stand-in server stopped");
+            server = null;
+        }
+    }
+
+    /**
+     * Gets the port the server is bound to
+     * @return Bound port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Gets the base URL of the running server
+     * @return Base URL ending with "/"
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + getPort() + "/";
+    }
+
+    /**
+     * Gets the number of records stored for an account
+     * @param email Account email
+     * @return Number of uploaded records
+     */
+    public int getRecordCount(String email) {
+        return records.getOrDefault(email, Collections.emptyList()).size();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            String traceparent = exchange.getRequestHeaders().getFirst("traceparent");
+            if (traceparent != null) {
+                logger.debug("{} {} traceparent={}", method, path, traceparent);
+            }
+            if (latency != null) {
+                latency.apply(path);
+            }
+            Account account = currentAccount(exchange);
+
+            switch (method + " " + path) {
+                case "GET /":
+                    sendPage(exchange, "HealthCare Portal", account, render("home.html", Collections.emptyMap()));
+                    break;
+                case "GET /login":
+                    sendLoginPage(exchange, "registered".equals(query(exchange).get("status"))
+                            ? message("Account created successfully. Please login.", false) : "");
+                    break;
+                case "POST /login":
+                    handleLogin(exchange);
+                    break;
+                case "GET /signup":
+                    sendSignupPage(exchange, "");
+                    break;
+                case "POST /signup":
+                    handleSignup(exchange);
+                    break;
+                case "GET /logout":
+                    removeSession(exchange);
+                    redirect(exchange, "/");
+                    break;
+                case "GET /patient/dashboard":
+                    if (requireRole(exchange, account, "Patient")) {
+                        Map<String, String> values = new HashMap<>();
+                        values.put("firstName", escape(account.get("firstName")));
+                        values.put("lastName", escape(account.get("lastName")));
+                        values.put("recordCount", String.valueOf(getRecordCount(account.email)));
+                        sendPage(exchange, "Patient Dashboard - HealthCare Portal", account,
+                                render("patient-dashboard.html", values));
+                    }
+                    break;
+                case "GET /doctor/dashboard":
+                    if (requireRole(exchange, account, "Doctor")) {
+                        Map<String, String> values = new HashMap<>();
+                        values.put("firstName", escape(account.get("firstName")));
+                        values.put("lastName", escape(account.get("lastName")));
+                        sendPage(exchange, "Doctor Dashboard - HealthCare Portal", account,
+                                render("doctor-dashboard.html", values));
+                    }
+                    break;
+                case "GET /profile":
+                    if (requireLogin(exchange, account)) {
+                        sendProfilePage(exchange, account, "updated".equals(query(exchange).get("status"))
+                                ? message("Profile updated successfully", false) : "");
+                    }
+                    break;
+                case "POST /profile":
+                    if (requireLogin(exchange, account)) {
+                        handleProfileUpdate(exchange, account);
+                    }
+                    break;
+                case "GET /change-password":
+                    if (requireLogin(exchange, account)) {
+                        sendChangePasswordPage(exchange, account, "");
+                    }
+                    break;
+                case "POST /change-password":
+                    if (requireLogin(exchange, account)) {
+                        handleChangePassword(exchange, account);
+                    }
+                    break;
+                case "GET /patient/records":
+                    if (requireRole(exchange, account, "Patient")) {
+                        sendPage(exchange, "Medical Records - HealthCare Portal", account,
+                                render("records.html", Collections.singletonMap("recordCards", recordCards(account))));
+                    }
+                    break;
+                case "POST /api/records":
+                    handleRecordUpload(exchange, account);
+                    break;
+                case "GET /doctors":
+                    sendDoctorsPage(exchange, account);
+                    break;
+                case "GET /api/doctors":
+                    Map<String, String> params = query(exchange);
+                    sendJson(exchange, 200, findDoctors(params.getOrDefault("q", ""),
+                            params.getOrDefault("specialty", ""), params.getOrDefault("city", "")));
+                    break;
+                default:
+                    if ("GET".equals(method) && path.startsWith("/static/")) {
+                        sendStatic(exchange, path.substring("/static/".length()));
+                    } else {
+                        send(exchange, 404, "text/plain", "Not Found".getBytes(StandardCharsets.UTF_8));
+                    }
+            }
+        } catch (Exception e) {
+            logger.error("Stand-in server failed to handle {}. Error: {}", exchange.getRequestURI(), e.getMessage());
+            try {
+                send(exchange, 500, "text/plain", "Internal Server Error".getBytes(StandardCharsets.UTF_8));
+            } catch (IOException | IllegalStateException ignored) {
+                // Response headers were already sent
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleLogin(HttpExchange exchange) throws IOException {
+        Map<String, String> form = FormParser.parseUrlEncoded(readBody(exchange, StandardCharsets.UTF_8));
+        Account account = accounts.get(form.getOrDefault("email", "").toLowerCase(Locale.ROOT));
+        if (account == null || !account.password.equals(form.get("password"))) {
+            sendLoginPage(exchange, message("Invalid email or password", true));
+            return;
+        }
+        String sessionId = UUID.randomUUID().toString();
+        sessions.put(sessionId, account.email);
+        exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + sessionId + "; Path=/; HttpOnly");
+        redirect(exchange, "Doctor".equals(account.role) ? "/doctor/dashboard" : "/patient/dashboard");
+    }
+
+    private void handleSignup(HttpExchange exchange) throws IOException {
+        Map<String, String> form = FormParser.parseUrlEncoded(readBody(exchange, StandardCharsets.UTF_8));
+        String email = form.getOrDefault("email", "").trim().toLowerCase(Locale.ROOT);
+        String role = form.getOrDefault("role", "");
+        String password = form.getOrDefault("password", "");
+
+        String error = null;
+        if (!"Patient".equals(role) && !"Doctor".equals(role)) {
+            error = "Please select a role";
+        } else if (email.isEmpty() || password.isEmpty()) {
+            error = "Email and password are required";
+        } else if (!password.equals(form.get("confirmPassword"))) {
+            error = "Passwords do not match";
+        }
+
+        if (error == null) {
+            Account account = new Account(email, password, role);
+            for (String field : "Doctor".equals(role) ? DOCTOR_PROFILE_FIELDS : PATIENT_PROFILE_FIELDS) {
+                account.profile.put(field, form.getOrDefault(field, "").trim());
+            }
+            if (accounts.putIfAbsent(email, account) != null) {
+                error = "An account with this email already exists";
+            }
+        }
+
+        if (error != null) {
+            sendSignupPage(exchange, message(error, true));
+        } else {
+            redirect(exchange, "/login?status=registered");
+        }
+    }
+
+    private void handleProfileUpdate(HttpExchange exchange, Account account) throws IOException {
+        Map<String, String> form = FormParser.parseUrlEncoded(readBody(exchange, StandardCharsets.UTF_8));
+        // Only fields the form submitted change; disabled inputs are not posted
+        for (String field : profileFields(account)) {
+            if (form.containsKey(field)) {
+                account.profile.put(field, form.get(field).trim());
+            }
+        }
+        redirect(exchange, "/profile?status=updated");
+    }
+
+    private void handleChangePassword(HttpExchange exchange, Account account) throws IOException {
+        Map<String, String> form = FormParser.parseUrlEncoded(readBody(exchange, StandardCharsets.UTF_8));
+        String newPassword = form.getOrDefault("newPassword", "");
+        String error = null;
+        if (!account.password.equals(form.get("currentPassword"))) {
+            error = "Current password is incorrect";
+        } else if (newPassword.isEmpty()) {
+            error = "New password is required";
+        } else if (!newPassword.equals(form.get("confirmPassword"))) {
+            error = "Passwords do not match";
+        } else if (newPassword.equals(account.password)) {
+            error = "New password must be different from the current password";
+        }
+
+        if (error != null) {
+            sendChangePasswordPage(exchange, account, message(error, true));
+        } else {
+            account.password = newPassword;
+            sendChangePasswordPage(exchange, account, message("Password changed successfully", false));
+        }
+    }
+
+    private void handleRecordUpload(HttpExchange exchange, Account account) throws IOException {
+        if (account == null) {
+            sendJson(exchange, 401, result(false, "Please login to upload records"));
+            return;
+        }
+        byte[] body = readBytes(exchange.getRequestBody());
+        Map<String, String> form = FormParser.parseMultipart(body,
+                exchange.getRequestHeaders().getFirst("Content-Type"));
+        String title = form.getOrDefault("title", "").trim();
+        if (title.isEmpty() || form.getOrDefault("file", "").isEmpty()) {
+            sendJson(exchange, 400, result(false, "Title and file are required"));
+            return;
+        }
+
+        MedicalRecord record = new MedicalRecord(recordIds.incrementAndGet(), title,
+                form.getOrDefault("recordType", "Other"), form.getOrDefault("date", ""),
+                form.getOrDefault("description", ""), form.get("file"),
+                Long.parseLong(form.getOrDefault("file.size", "0")));
+        records.computeIfAbsent(account.email, key -> new CopyOnWriteArrayList<>()).add(record);
+        Map<String, Object> response = result(true, "Record uploaded successfully");
+        response.put("id", record.id);
+        sendJson(exchange, 201, response);
+    }
+
+    private List<Map<String, String>> findDoctors(String queryText, String specialty, String city) {
+        String query = queryText.trim().toLowerCase(Locale.ROOT);
+        String cityFilter = city.trim().toLowerCase(Locale.ROOT);
+        List<Map<String, String>> matches = new ArrayList<>();
+        for (Account account : accounts.values()) {
+            if (!"Doctor".equals(account.role)) {
+                continue;
+            }
+            String name = account.get("firstName") + " " + account.get("lastName");
+            String doctorSpecialty = account.get("specialty");
+            String doctorCity = account.get("city");
+            boolean queryMatch = query.isEmpty() || name.toLowerCase(Locale.ROOT).contains(query)
+                    || doctorSpecialty.toLowerCase(Locale.ROOT).contains(query);
+            boolean specialtyMatch = specialty.isEmpty() || doctorSpecialty.equalsIgnoreCase(specialty);
+            boolean cityMatch = cityFilter.isEmpty() || doctorCity.toLowerCase(Locale.ROOT).contains(cityFilter);
+            if (queryMatch && specialtyMatch && cityMatch) {
+                Map<String, String> doctor = new LinkedHashMap<>();
+                doctor.put("name", name);
+                doctor.put("specialty", doctorSpecialty);
+                doctor.put("city", doctorCity);
+                doctor.put("fee", account.get("consultationFee"));
+                matches.add(doctor);
+            }
+        }
+        matches.sort((first, second) -> first.get("name").compareTo(second.get("name")));
+        return matches;
+    }
+
+    private void seedDoctors() {
+        String[][] seed = {
+                {"Jenny", "Wilson", "Gynecology", "Faridabad", "500"},
+                {"Arjun", "Mehta", "Cardiology", "Delhi", "800"},
+                {"Sara", "Khan", "Dermatology", "Mumbai", "600"},
+                {"Rahul", "Verma", "Orthopedics", "Pune", "700"},
+                {"Priya", "Nair", "Pediatrics", "Bengaluru", "550"}
+        };
+        for (String[] doctor : seed) {
+            String email = doctor[0].toLowerCase(Locale.ROOT) + "." + doctor[1].toLowerCase(Locale.ROOT) + "@standin.local";
+            Account account = new Account(email, "Test@123", "Doctor");
+            account.profile.put("firstName", doctor[0]);
+            account.profile.put("lastName", doctor[1]);
+            account.profile.put("specialty", doctor[2]);
+            account.profile.put("city", doctor[3]);
+            account.profile.put("consultationFee", doctor[4]);
+            accounts.put(email, account);
+        }
+    }
+
+    private String recordCards(Account account) {
+        StringBuilder cards = new StringBuilder();
+        for (MedicalRecord record : records.getOrDefault(account.email, Collections.emptyList())) {
+            cards.append("<div class=\"record-card\"><h3>").append(escape(record.title)).append("</h3>")
+                    .append("<p>").append(escape(record.type)).append(" | ").append(escape(record.date)).append("</p>")
+                    .append("<p>").append(escape(record.description)).append("</p>")
+                    .append("<a class=\"file-link\" href=\"#\">File attached: ").append(escape(record.fileName))
+                    .append(" (").append(Math.max(1, record.fileSize / 1024)).append(" KB)</a></div>\n");
+        }
+        return cards.length() > 0 ? cards.toString() : "<p class=\"empty\">No medical records yet</p>";
+    }
+
+    private String doctorCards(List<Map<String, String>> doctors) {
+        StringBuilder cards = new StringBuilder();
+        for (Map<String, String> doctor : doctors) {
+            cards.append("<div class=\"doctor-card\"><h3>Dr. ").append(escape(doctor.get("name"))).append("</h3>")
+                    .append("<p>").append(escape(doctor.get("specialty"))).append("</p>")
+                    .append("<p>").append(escape(doctor.get("city"))).append("</p>")
+                    .append("<p>Fee: ").append(escape(doctor.get("fee"))).append("</p></div>\n");
+        }
+        return cards.toString();
+    }
+
+    private String specialtyOptions() {
+        return options(SPECIALTIES, "");
+    }
+
+    private static String options(List<String> values, String selected) {
+        StringBuilder options = new StringBuilder();
+        if (selected.isEmpty()) {
+            options.append("<option value=\"\">Select</option>\n");
+        }
+        for (String value : values) {
+            options.append("<option value=\"").append(escape(value)).append('"')
+                    .append(value.equals(selected) ? " selected" : "").append('>')
+                    .append(escape(value)).append("</option>\n");
+        }
+        return options.toString();
+    }
+
+    private static List<String> profileFields(Account account) {
+        return "Doctor".equals(account.role) ? DOCTOR_PROFILE_FIELDS : PATIENT_PROFILE_FIELDS;
+    }
+
+    private String navigation(Account account) {
+        if (account == null) {
+            return "<a href=\"/doctors\">Find Doctors</a>\n<a href=\"/login\">Login</a>\n<a href=\"/signup\">Sign Up</a>";
+        }
+        String home = "Doctor".equals(account.role) ? "/doctor" : "/patient";
+        StringBuilder nav = new StringBuilder();
+        nav.append("<a href=\"").append(home).append("/dashboard\">Dashboard</a>\n");
+        nav.append("<a href=\"/doctors\">Find Doctors</a>\n");
+        if ("Patient".equals(account.role)) {
+            nav.append("<a href=\"/patient/records\">Medical Records</a>\n");
+        }
+        nav.append("<a href=\"/profile\">My Profile</a>\n");
+        nav.append("<a href=\"/logout\">Logout</a>");
+        return nav.toString();
+    }
+
+    private boolean requireLogin(HttpExchange exchange, Account account) throws IOException {
+        if (account == null) {
+            redirect(exchange, "/login");
+            return false;
+        }
+        return true;
+    }
+
+    private boolean requireRole(HttpExchange exchange, Account account, String role) throws IOException {
+        if (account == null) {
+            redirect(exchange, "/login");
+            return false;
+        }
+        if (!role.equals(account.role)) {
+            redirect(exchange, "Doctor".equals(account.role) ? "/doctor/dashboard" : "/patient/dashboard");
+            return false;
+        }
+        return true;
+    }
+
+    private Account currentAccount(HttpExchange exchange) {
+        String sessionId = sessionId(exchange);
+        String email = sessionId != null ? sessions.get(sessionId) : null;
+        return email != null ? accounts.get(email) : null;
+    }
+
+    private void removeSession(HttpExchange exchange) {
+        String sessionId = sessionId(exchange);
+        if (sessionId != null) {
+            sessions.remove(sessionId);
+        }
+        exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=; Path=/; Max-Age=0");
+    }
+
+    private String sessionId(HttpExchange exchange) {
+        List<String> cookieHeaders = exchange.getRequestHeaders().get("Cookie");
+        if (cookieHeaders == null) {
+            return null;
+        }
+        for (String header : cookieHeaders) {
+            for (String cookie : header.split(";")) {
+                String trimmed = cookie.trim();
+                if (trimmed.startsWith(SESSION_COOKIE + "=")) {
+                    return trimmed.substring(SESSION_COOKIE.length() + 1);
+                }
+            }
+        }
+        return null;
+    }
+
+    private void sendLoginPage(HttpExchange exchange, String message) throws IOException {
+        sendPage(exchange, "Login - HealthCare Portal", null,
+                render("login.html", Collections.singletonMap("message", message)));
+    }
+
+    private void sendSignupPage(HttpExchange exchange, String message) throws IOException {
+        Map<String, String> values = new HashMap<>();
+        values.put("message", message);
+        values.put("specialtyOptions", specialtyOptions());
+        sendPage(exchange, "Sign Up - HealthCare Portal", null, render("signup.html", values));
+    }
+
+    private void sendProfilePage(HttpExchange exchange, Account account, String message) throws IOException {
+        Map<String, String> values = new HashMap<>();
+        for (String field : profileFields(account)) {
+            values.put(field, escape(account.get(field)));
+        }
+        values.put("email", escape(account.email));
+        values.put("genderOptions", options(GENDERS, account.get("gender")));
+        values.put("specialtyOptions", options(SPECIALTIES, account.get("specialty")));
+        values.put("message", message);
+        values.put("profileScript", template("profile-script.html"));
+        sendPage(exchange, "My Profile - HealthCare Portal", account,
+                render("Doctor".equals(account.role) ? "doctor-profile.html" : "patient-profile.html", values));
+    }
+
+    private void sendChangePasswordPage(HttpExchange exchange, Account account, String message) throws IOException {
+        sendPage(exchange, "Change Password - HealthCare Portal", account,
+                render("change-password.html", Collections.singletonMap("message", message)));
+    }
+
+    private void sendDoctorsPage(HttpExchange exchange, Account account) throws IOException {
+        Map<String, String> values = new HashMap<>();
+        values.put("specialtyOptions", specialtyOptions());
+        values.put("doctorCards", doctorCards(findDoctors("", "", "")));
+        sendPage(exchange, "Find Doctors - HealthCare Portal", account, render("doctors.html", values));
+    }
+
+    private void sendPage(HttpExchange exchange, String title, Account account, String content) throws IOException {
+        Map<String, String> values = new HashMap<>();
+        values.put("title", title);
+        values.put("nav", navigation(account));
+        values.put("content", content);
+        send(exchange, 200, "text/html; charset=UTF-8", render("layout.html", values).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void sendStatic(HttpExchange exchange, String name) throws IOException {
+        if (name.contains("..") || !(name.endsWith(".css") || name.endsWith(".svg"))) {
+            send(exchange, 404, "text/plain", "Not Found".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        String contentType = name.endsWith(".css") ? "text/css" : "image/svg+xml";
+        send(exchange, 200, contentType, template(name).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void sendJson(HttpExchange exchange, int status, Object payload) throws IOException {
+        send(exchange, status, "application/json", objectMapper.writeValueAsBytes(payload));
+    }
+
+    private void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+    }
+
+    private void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private String render(String templateName, Map<String, String> values) {
+        String content = template(templateName);
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            content = content.replace("{{" + entry.getKey() + "}}", entry.getValue());
+        }
+        return content;
+    }
+
+    private String template(String name) {
+        return templates.computeIfAbsent(name, key -> {
+            try (InputStream is = PortalStandInServer.class.getClassLoader().getResourceAsStream(TEMPLATE_DIR + key)) {
+                if (is == null) {
+                    throw new IllegalStateException("Stand-in template not found: " + key);
+                }
+                return new String(readBytes(is), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read stand-in template: " + key, e);
+            }
+        });
+    }
+
+    private static Map<String, Object> result(boolean success, String message) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("success", success);
+        result.put("message", message);
+        return result;
+    }
+
+    private static String message(String text, boolean error) {
+        return "<p class=\"message" + (error ? " error" : "") + "\">" + escape(text) + "</p>";
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        return FormParser.parseUrlEncoded(exchange.getRequestURI().getRawQuery());
+    }
+
+    private static String readBody(HttpExchange exchange, Charset charset) throws IOException {
+        return new String(readBytes(exchange.getRequestBody()), charset);
+    }
+
+    private static byte[] readBytes(InputStream is) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = is.read(chunk)) != -1) {
+            buffer.write(chunk, 0, read);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    /**
+     * Registered portal account; profile fields and the password can be edited
+     */
+    private static final class Account {
+        private final String email;
+        private final String role;
+        private final Map<String, String> profile = new ConcurrentHashMap<>();
+        private volatile String password;
+
+        private Account(String email, String password, String role) {
+            this.email = email;
+            this.password = password;
+            this.role = role;
+        }
+
+        private String get(String field) {
+            return profile.getOrDefault(field, "");
+        }
+    }
+
+    /**
+     * Uploaded medical record metadata (file contents are not retained)
+     */
+    private static final class MedicalRecord {
+        private final long id;
+        private final String title;
+        private final String type;
+        private final String date;
+        private final String description;
+        private final String fileName;
+        private final long fileSize;
+
+        private MedicalRecord(long id, String title, String type, String date, String description,
+                              String fileName, long fileSize) {
+            this.id = id;
+            this.title = title;
+            this.type = type;
+            this.date = date;
+            this.description = description;
+            this.fileName = fileName;
+            this.fileSize = fileSize;
+        }
+    }
+}
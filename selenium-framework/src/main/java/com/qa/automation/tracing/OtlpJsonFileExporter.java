@@ -0,0 +1,131 @@
+package com.qa.automation.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * OtlpJsonFileExporter writes finished spans to a local file in the OTLP file exporter format:
+ * JSON lines, each line one ExportTraceServiceRequest. No collector is needed; the file can be
+ * replayed into one later or opened with tools that read OTLP JSON
+ */
+public class OtlpJsonFileExporter {
+
+    private static final Logger logger = LogManager.getLogger(OtlpJsonFileExporter.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path file;
+    private final String serviceName;
+    private final Queue<Span> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates an exporter appending to a file
+     * @param file Target .jsonl file; parent directories are created on first write
+     * @param serviceName Value of the service.name resource attribute
+     */
+    public OtlpJsonFileExporter(Path file, String serviceName) {
+        this.file = file;
+        this.serviceName = serviceName;
+    }
+
+    /**
+     * Queues a finished span for the next flush
+     * @param span Ended span
+     */
+    public void add(Span span) {
+        pending.add(span);
+    }
+
+    /**
+     * Writes all queued spans as one line
+     */
+    public synchronized void flush() {
+        List<Span> batch = new ArrayList<>();
+        for (Span span = pending.poll(); span != null; span = pending.poll()) {
+            batch.add(span);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(MAPPER.writeValueAsString(toRequest(batch)));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            logger.error("Failed to export {} spans to {}. Error: {}", batch.size(), file, e.getMessage());
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    private ObjectNode toRequest(List<Span> batch) {
+        ObjectNode request = MAPPER.createObjectNode();
+        ObjectNode resourceSpans = request.putArray("resourceSpans").addObject();
+        ArrayNode resourceAttributes = resourceSpans.putObject("resource").putArray("attributes");
+        addAttribute(resourceAttributes, "service.name", serviceName);
+        addAttribute(resourceAttributes, "telemetry.sdk.name", "selenium-framework");
+        addAttribute(resourceAttributes, "process.runtime.version", System.getProperty("java.version"));
+        ObjectNode scopeSpans = resourceSpans.putArray("scopeSpans").addObject();
+        scopeSpans.putObject("scope").put("name", "com.qa.automation.tracing");
+        ArrayNode spans = scopeSpans.putArray("spans");
+        for (Span span : batch) {
+            ObjectNode node = spans.addObject();
+            node.put("traceId", span.getTraceId());
+            node.put("spanId", span.getSpanId());
+            if (span.getParentSpanId() != null) {
+                node.put("parentSpanId", span.getParentSpanId());
+            }
+            node.put("name", span.getName());
+            node.put("kind", span.getKind().getCode());
+            // uint64 fields are strings in the OTLP JSON mapping
+            node.put("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+            node.put("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+            ArrayNode attributes = node.putArray("attributes");
+            for (Map.Entry<String, Object> attribute : span.getAttributes().entrySet()) {
+                addAttribute(attributes, attribute.getKey(), attribute.getValue());
+            }
+            if (span.getStatus() != Span.Status.UNSET) {
+                ObjectNode status = node.putObject("status");
+                status.put("code", span.getStatus().getCode());
+                if (span.getStatusMessage() != null) {
+                    status.put("message", span.getStatusMessage());
+                }
+            }
+        }
+        return request;
+    }
+
+    private static void addAttribute(ArrayNode attributes, String key, Object value) {
+        ObjectNode attribute = attributes.addObject();
+        attribute.put("key", key);
+        ObjectNode anyValue = attribute.putObject("value");
+        if (value instanceof Boolean) {
+            anyValue.put("boolValue", (Boolean) value);
+        } else if (value instanceof Integer || value instanceof Long) {
+            anyValue.put("intValue", value.toString());
+        } else if (value instanceof Double || value instanceof Float) {
+            anyValue.put("doubleValue", ((Number) value).doubleValue());
+        } else {
+            anyValue.put("stringValue", String.valueOf(value));
+        }
+    }
+}
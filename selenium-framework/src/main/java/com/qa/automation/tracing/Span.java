@@ -0,0 +1,161 @@
+package com.qa.automation.tracing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Span is one timed operation of a trace: the suite, a test, a page-object method or a WebDriver command
+ * Identifiers and fields follow the OpenTelemetry data model so spans export as OTLP JSON
+ */
+public class Span {
+
+    /**
+     * OTLP span kinds used by the framework
+     */
+    public enum Kind {
+        INTERNAL(1), CLIENT(3);
+
+        private final int code;
+
+        Kind(int code) {
+            this.code = code;
+        }
+
+        int getCode() {
+            return code;
+        }
+    }
+
+    /**
+     * OTLP status codes
+     */
+    public enum Status {
+        UNSET(0), OK(1), ERROR(2);
+
+        private final int code;
+
+        Status(int code) {
+            this.code = code;
+        }
+
+        int getCode() {
+            return code;
+        }
+    }
+
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final String name;
+    private final Kind kind;
+    private final long startEpochNanos;
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+    private volatile long endEpochNanos;
+    private volatile Status status = Status.UNSET;
+    private volatile String statusMessage;
+
+    Span(String traceId, String parentSpanId, String name, Kind kind, long startEpochNanos) {
+        this.traceId = traceId;
+        this.spanId = TraceIds.newSpanId();
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        this.startEpochNanos = startEpochNanos;
+    }
+
+    /**
+     * Adds an attribute
+     * @param key Attribute key, e.g. "test.name"
+     * @param value String, Boolean, Long/Integer or Double value
+     * @return Span instance for Fluent pattern
+     */
+    public Span setAttribute(String key, Object value) {
+        if (value != null) {
+            synchronized (attributes) {
+                attributes.put(key, value);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Sets the span status
+     * @param status OK or ERROR
+     * @param message Description for ERROR, may be null
+     * @return Span instance for Fluent pattern
+     */
+    public Span setStatus(Status status, String message) {
+        this.status = status;
+        this.statusMessage = message;
+        return this;
+    }
+
+    /**
+     * Ends the span now; it is exported with the next batch
+     */
+    public void end() {
+        Tracer.end(this);
+    }
+
+    /**
+     * Builds the W3C trace context header value pointing at this span
+     * @return traceparent header value
+     */
+    public String getTraceparent() {
+        return "00-" + traceId + "-" + spanId + "-01";
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    public long getEndEpochNanos() {
+        return endEpochNanos;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getStatusMessage() {
+        return statusMessage;
+    }
+
+    /**
+     * Copies the attributes
+     * @return Attributes in insertion order
+     */
+    public Map<String, Object> getAttributes() {
+        synchronized (attributes) {
+            return new LinkedHashMap<>(attributes);
+        }
+    }
+
+    boolean isEnded() {
+        return endEpochNanos != 0;
+    }
+
+    void markEnded(long epochNanos) {
+        this.endEpochNanos = Math.max(epochNanos, startEpochNanos);
+    }
+}
@@ -0,0 +1,53 @@
+package com.qa.automation.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TraceIds generates W3C trace and span identifiers and epoch timestamps with nanosecond resolution
+ */
+final class TraceIds {
+
+    private static final long EPOCH_ANCHOR_NANOS = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    private static final long NANO_ANCHOR = System.nanoTime();
+
+    private TraceIds() {
+    }
+
+    /**
+     * Generates a random, non-zero 16-byte trace id
+     * @return 32 lowercase hex characters
+     */
+    static String newTraceId() {
+        return hex(nonZero()) + hex(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Generates a random, non-zero 8-byte span id
+     * @return 16 lowercase hex characters
+     */
+    static String newSpanId() {
+        return hex(nonZero());
+    }
+
+    /**
+     * Gets the current time as nanoseconds since the epoch, monotonic within the run
+     * @return Epoch nanoseconds
+     */
+    static long nowEpochNanos() {
+        return EPOCH_ANCHOR_NANOS + (System.nanoTime() - NANO_ANCHOR);
+    }
+
+    private static long nonZero() {
+        long value;
+        do {
+            value = ThreadLocalRandom.current().nextLong();
+        } while (value == 0);
+        return value;
+    }
+
+    private static String hex(long value) {
+        String digits = Long.toHexString(value);
+        return "0000000000000000".substring(digits.length()) + digits;
+    }
+}
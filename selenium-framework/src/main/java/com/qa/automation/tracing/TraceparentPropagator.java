@@ -0,0 +1,72 @@
+package com.qa.automation.tracing;
+
+import com.qa.automation.base.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * TraceparentPropagator adds a W3C traceparent header to every request the browser sends, through
+ * CDP Network.setExtraHTTPHeaders, so backend logs can be joined with the UI span that caused them
+ * Off by default (tracing.propagateTraceparent): cross-origin requests carrying an extra header need
+ * a CORS preflight that the backend has to allow
+ */
+public class TraceparentPropagator implements Consumer<String> {
+
+    private static final Logger logger = LogManager.getLogger(TraceparentPropagator.class);
+
+    private final DevTools devTools;
+    private boolean enabled;
+    private boolean failed;
+
+    private TraceparentPropagator(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * Creates a propagator for a Chromium driver
+     * @param driver Undecorated driver, so header updates are not traced as commands themselves
+     * @return Propagator, or null if propagation is disabled or the driver has no CDP access
+     */
+    public static TraceparentPropagator forDriver(WebDriver driver) {
+        if (!Boolean.parseBoolean(DriverFactory.getProperty("tracing.propagateTraceparent", "false"))
+                || !(driver instanceof HasDevTools)) {
+            return null;
+        }
+        try {
+            return new TraceparentPropagator(((HasDevTools) driver).getDevTools());
+        } catch (Exception e) {
+            logger.warn("Traceparent propagation not available. Error: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void accept(String traceparent) {
+        if (failed) {
+            return;
+        }
+        try {
+            if (!enabled) {
+                devTools.createSessionIfThereIsNotOne();
+                devTools.send(new Command<>("Network.enable", new HashMap<>()));
+                enabled = true;
+            }
+            Map<String, Object> params = new HashMap<>();
+            params.put("headers", Collections.singletonMap("traceparent", traceparent));
+            devTools.send(new Command<>("Network.setExtraHTTPHeaders", params));
+        } catch (Exception e) {
+            // One warning per driver; the test carries on without propagation
+            failed = true;
+            logger.warn("Stopped propagating traceparent. Error: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.qa.automation.tracing;
+
+import com.qa.automation.base.DriverFactory;
+import com.qa.automation.pages.BasePage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Tracer records each run as one trace: the suite is the root span, tests (and load steps) are
+ * child spans, then page-object methods, then WebDriver commands
+ * Page-object spans need no code in the page classes: when a WebDriver command starts, the BasePage
+ * subclass frames on the calling stack become the open page spans. A page span starts with its first
+ * command and ends with its last, so time spent before the first command is not attributed to it.
+ * Finished spans are written to tracing.outputDir as OTLP JSON lines
+ */
+public class Tracer {
+
+    private static final Logger logger = LogManager.getLogger(Tracer.class);
+    private static final int MAX_STACK_DEPTH = 256;
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final ThreadLocal<ThreadTrace> threads = ThreadLocal.withInitial(ThreadTrace::new);
+
+    private static volatile Span suiteSpan;
+    private static volatile OtlpJsonFileExporter exporter;
+
+    private static final class PageSpan {
+        private final String key;
+        private final Span span;
+        private long lastActivityEpochNanos;
+
+        PageSpan(String key, Span span) {
+            this.key = key;
+            this.span = span;
+            this.lastActivityEpochNanos = span.getStartEpochNanos();
+        }
+    }
+
+    /**
+     * Spans opened on one thread; only that thread touches it
+     */
+    private static final class ThreadTrace {
+        private final Deque<Span> scopes = new ArrayDeque<>();
+        private final List<PageSpan> pageSpans = new ArrayList<>();
+        private Consumer<String> propagator;
+        private String propagated;
+    }
+
+    /**
+     * A BasePage method on the stack; the key includes the caller's bytecode index so two
+     * consecutive calls of the same method from different lines are separate spans
+     */
+    private static final class PageFrame {
+        private final String key;
+        private final String className;
+        private final String methodName;
+
+        PageFrame(StackWalker.StackFrame frame, int callerBci) {
+            this.className = frame.getDeclaringClass().getSimpleName();
+            this.methodName = frame.getMethodName();
+            this.key = frame.getClassName() + "." + methodName + "@" + callerBci;
+        }
+    }
+
+    private Tracer() {
+    }
+
+    /**
+     * Checks if tracing is enabled (tracing.enabled, default true)
+     * @return true if spans are recorded
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(DriverFactory.getProperty("tracing.enabled", "true"));
+    }
+
+    /**
+     * Starts the root span of the run, with a new trace id
+     * @param suiteName Suite name
+     * @return Root span, or null when tracing is disabled
+     */
+    public static synchronized Span startSuite(String suiteName) {
+        if (!isEnabled()) {
+            return null;
+        }
+        if (suiteSpan == null) {
+            suiteSpan = new Span(TraceIds.newTraceId(), null, suiteName, Span.Kind.INTERNAL, TraceIds.nowEpochNanos())
+                    .setAttribute("test.suite", suiteName);
+            logger.info("Tracing suite {} as trace {}", suiteName, suiteSpan.getTraceId());
+        }
+        return suiteSpan;
+    }
+
+    /**
+     * Ends the root span and writes everything that is still queued
+     */
+    public static synchronized void endSuite() {
+        Span suite = suiteSpan;
+        if (suite == null) {
+            return;
+        }
+        suiteSpan = null;
+        suite.markEnded(TraceIds.nowEpochNanos());
+        OtlpJsonFileExporter target = exporter();
+        target.add(suite);
+        target.flush();
+        logger.info("Trace {} written to {}", suite.getTraceId(), target.getFile());
+    }
+
+    /**
+     * Starts a span on the current thread as a child of the thread's current span (or the root span)
+     * End it with span.end() or endCurrentSpan on the same thread
+     * @param name Span name, e.g. the test method
+     * @return Started span, or null when tracing is disabled
+     */
+    public static Span startSpan(String name) {
+        if (!isEnabled()) {
+            return null;
+        }
+        ThreadTrace thread = threads.get();
+        closePageSpans(thread, 0);
+        Span parent = thread.scopes.isEmpty() ? startSuite("test run") : thread.scopes.peek();
+        Span span = new Span(parent.getTraceId(), parent.getSpanId(), name, Span.Kind.INTERNAL, TraceIds.nowEpochNanos());
+        thread.scopes.push(span);
+        propagate(thread, span);
+        return span;
+    }
+
+    /**
+     * Ends the innermost span started on the current thread
+     * @param status Final status
+     * @param message Error description, may be null
+     */
+    public static void endCurrentSpan(Span.Status status, String message) {
+        Span span = threads.get().scopes.peek();
+        if (span != null) {
+            span.setStatus(status, message).end();
+        }
+    }
+
+    /**
+     * Gets the innermost open span of the current thread: a page-object method or a started span
+     * @return Current span, or null if none is open
+     */
+    public static Span currentSpan() {
+        ThreadTrace thread = threads.get();
+        if (!thread.pageSpans.isEmpty()) {
+            return thread.pageSpans.get(thread.pageSpans.size() - 1).span;
+        }
+        return thread.scopes.peek();
+    }
+
+    /**
+     * Sends the traceparent of the current thread's span to a consumer whenever that span changes,
+     * e.g. to set it as an extra HTTP header in the browser
+     * @param propagator Receives traceparent values; null stops propagation
+     */
+    public static void setPropagator(Consumer<String> propagator) {
+        ThreadTrace thread = threads.get();
+        thread.propagator = propagator;
+        thread.propagated = null;
+    }
+
+    static void end(Span span) {
+        if (span.isEnded()) {
+            return;
+        }
+        if (span == suiteSpan) {
+            endSuite();
+            return;
+        }
+        ThreadTrace thread = threads.get();
+        long now = TraceIds.nowEpochNanos();
+        if (thread.scopes.contains(span)) {
+            closePageSpans(thread, 0);
+            // Spans started inside this one and left open end with it
+            while (!thread.scopes.isEmpty() && thread.scopes.peek() != span) {
+                Span inner = thread.scopes.pop();
+                inner.markEnded(now);
+                exporter().add(inner);
+            }
+            thread.scopes.pop();
+        }
+        span.markEnded(now);
+        exporter().add(span);
+        if (thread.scopes.isEmpty()) {
+            exporter().flush();
+        } else {
+            propagate(thread, thread.scopes.peek());
+        }
+    }
+
+    /**
+     * Starts a WebDriver command span under the page-object method that issued it
+     * Commands on threads without an open span (driver setup, teardown, background threads) are not traced
+     * @param command Command name, e.g. "element.click"
+     * @return Command span, or null if the command is not traced
+     */
+    public static Span commandStarted(String command) {
+        ThreadTrace thread = threads.get();
+        if (thread.scopes.isEmpty()) {
+            return null;
+        }
+        Span parent = syncPageSpans(thread);
+        propagate(thread, parent);
+        return new Span(parent.getTraceId(), parent.getSpanId(), command, Span.Kind.CLIENT, TraceIds.nowEpochNanos())
+                .setAttribute("webdriver.command", command);
+    }
+
+    /**
+     * Ends a WebDriver command span
+     * @param span Span returned by commandStarted, may be null
+     * @param error Failure cause, or null if the command succeeded
+     */
+    public static void commandFinished(Span span, Throwable error) {
+        if (span == null) {
+            return;
+        }
+        long now = TraceIds.nowEpochNanos();
+        if (error != null) {
+            span.setStatus(Span.Status.ERROR, error.getClass().getSimpleName() + ": " + error.getMessage());
+        }
+        span.markEnded(now);
+        exporter().add(span);
+        for (PageSpan pageSpan : threads.get().pageSpans) {
+            pageSpan.lastActivityEpochNanos = now;
+        }
+    }
+
+    private static Span syncPageSpans(ThreadTrace thread) {
+        List<PageFrame> path = pageFrames();
+        List<PageSpan> open = thread.pageSpans;
+        int common = 0;
+        while (common < open.size() && common < path.size() && open.get(common).key.equals(path.get(common).key)) {
+            common++;
+        }
+        closePageSpans(thread, common);
+        Span parent = common > 0 ? open.get(common - 1).span : thread.scopes.peek();
+        for (int index = common; index < path.size(); index++) {
+            PageFrame frame = path.get(index);
+            Span span = new Span(parent.getTraceId(), parent.getSpanId(), frame.className + "." + frame.methodName,
+                    Span.Kind.INTERNAL, TraceIds.nowEpochNanos())
+                    .setAttribute("code.namespace", frame.className)
+                    .setAttribute("code.function", frame.methodName);
+            open.add(new PageSpan(frame.key, span));
+            parent = span;
+        }
+        return parent;
+    }
+
+    private static void closePageSpans(ThreadTrace thread, int keep) {
+        for (int index = thread.pageSpans.size() - 1; index >= keep; index--) {
+            PageSpan pageSpan = thread.pageSpans.remove(index);
+            pageSpan.span.markEnded(pageSpan.lastActivityEpochNanos);
+            exporter().add(pageSpan.span);
+        }
+    }
+
+    /**
+     * Collects the BasePage methods on the current stack, outermost first
+     */
+    private static List<PageFrame> pageFrames() {
+        return WALKER.walk(frames -> {
+            List<PageFrame> path = new ArrayList<>();
+            StackWalker.StackFrame[] pending = new StackWalker.StackFrame[1];
+            frames.limit(MAX_STACK_DEPTH).forEachOrdered(frame -> {
+                if (pending[0] != null) {
+                    path.add(new PageFrame(pending[0], frame.getByteCodeIndex()));
+                    pending[0] = null;
+                }
+                if (BasePage.class.isAssignableFrom(frame.getDeclaringClass())
+                        && !frame.getMethodName().startsWith("lambda$") && !frame.getMethodName().equals("<init>")) {
+                    pending[0] = frame;
+                }
+            });
+            if (pending[0] != null) {
+                path.add(new PageFrame(pending[0], -1));
+            }
+            Collections.reverse(path);
+            return path;
+        });
+    }
+
+    private static void propagate(ThreadTrace thread, Span span) {
+        if (thread.propagator == null || span == null) {
+            return;
+        }
+        String traceparent = span.getTraceparent();
+        if (!traceparent.equals(thread.propagated)) {
+            thread.propagated = traceparent;
+            thread.propagator.accept(traceparent);
+        }
+    }
+
+    private static OtlpJsonFileExporter exporter() {
+        OtlpJsonFileExporter current = exporter;
+        if (current == null) {
+            synchronized (Tracer.class) {
+                if (exporter == null) {
+                    String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+                    exporter = new OtlpJsonFileExporter(
+                            Paths.get(DriverFactory.getProperty("tracing.outputDir", "test-output/traces"),
+                                    "trace_" + timestamp + ".jsonl"),
+                            DriverFactory.getProperty("tracing.serviceName", "selenium-framework"));
+                }
+                current = exporter;
+            }
+        }
+        return current;
+    }
+}
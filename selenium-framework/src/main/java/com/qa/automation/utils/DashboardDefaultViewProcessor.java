@@ -0,0 +1,166 @@
+package com.qa.automation.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * DashboardDefaultViewProcessor injects a script before the closing body tag of a Spark report
+ * so the dashboard view is shown when the report opens
+ * The report is streamed: only the bytes after the latest "&lt;/body&gt;" are held back, up to a fixed bound
+ */
+public class DashboardDefaultViewProcessor implements ReportPostProcessor {
+
+    private static final byte[] BODY_END = "</body>".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SPARK_SCRIPT = "spark-script.js".getBytes(StandardCharsets.US_ASCII);
+    // The real closing tag is followed only by "</html>"; anything longer was a tag inside report content
+    private static final int MAX_HELD_BYTES = 64 * 1024;
+    private static final byte[] DASHBOARD_SCRIPT = ("<script type=\"text/javascript\">" +
+            "window.addEventListener('load', function() {" +
+            "  setTimeout(function() {" +
+            "    try {" +
+            "      if (typeof toggleView === 'function') {" +
+            "        toggleView('dashboard-view');" +
+            "        var navDashboard = document.getElementById('nav-dashboard');" +
+            "        var navTest = document.getElementById('nav-test');" +
+            "        if (navDashboard) navDashboard.classList.add('active');" +
+            "        if (navTest) navTest.classList.remove('active');" +
+            "      }" +
+            "    } catch(e) { console.error('Error setting dashboard view:', e); }" +
+            "  }, 300);" +
+            "});" +
+            "</script>").getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public OutputStream wrap(OutputStream downstream) {
+        return new InjectingStream(downstream);
+    }
+
+    private static final class InjectingStream extends FilterOutputStream {
+
+        private final ByteArrayOutputStream held = new ByteArrayOutputStream();
+        private final Matcher bodyEnd = new Matcher(BODY_END);
+        private final Matcher sparkScript = new Matcher(SPARK_SCRIPT);
+        private boolean holding;
+        private boolean sawSparkScript;
+
+        InjectingStream(OutputStream downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            // Bytes of a partial "</body>" match are withheld until the match completes or breaks;
+            // withheld bytes always equal a prefix of the tag, everything else is passed on in whole runs
+            int withheld = bodyEnd.matched;
+            int next = off;
+            for (int i = off; i < off + len; i++) {
+                byte value = b[i];
+                if (!sawSparkScript && sparkScript.advance(value) == SPARK_SCRIPT.length) {
+                    sawSparkScript = true;
+                }
+                if (bodyEnd.advance(value) == BODY_END.length) {
+                    // A newer closing tag: everything before it belongs before the held bytes
+                    release(b, withheld, next, i + 1, BODY_END.length);
+                    writeHeld();
+                    held.write(BODY_END, 0, BODY_END.length);
+                    holding = true;
+                    bodyEnd.matched = 0;
+                    withheld = 0;
+                    next = i + 1;
+                }
+            }
+            release(b, withheld, next, off + len, bodyEnd.matched);
+        }
+
+        @Override
+        public void close() throws IOException {
+            emit(BODY_END, 0, bodyEnd.matched);
+            bodyEnd.matched = 0;
+            if (holding && sawSparkScript) {
+                out.write(DASHBOARD_SCRIPT);
+            }
+            writeHeld();
+            super.close();
+        }
+
+        /**
+         * Emits the withheld tag prefix followed by b[next, end), except for the last keep bytes
+         */
+        private void release(byte[] b, int withheld, int next, int end, int keep) throws IOException {
+            int count = withheld + end - next - keep;
+            int fromPrefix = Math.min(count, withheld);
+            emit(BODY_END, 0, fromPrefix);
+            emit(b, next, count - fromPrefix);
+        }
+
+        private void emit(byte[] b, int off, int len) throws IOException {
+            if (len <= 0) {
+                return;
+            }
+            if (holding) {
+                held.write(b, off, len);
+                if (held.size() > MAX_HELD_BYTES) {
+                    writeHeld();
+                }
+            } else {
+                out.write(b, off, len);
+            }
+        }
+
+        private void writeHeld() throws IOException {
+            held.writeTo(out);
+            held.reset();
+            holding = false;
+        }
+    }
+
+    /**
+     * Incremental Knuth-Morris-Pratt matcher over a byte stream
+     */
+    private static final class Matcher {
+
+        private final byte[] needle;
+        private final int[] fallback;
+        private int matched;
+
+        Matcher(byte[] needle) {
+            this.needle = needle;
+            this.fallback = new int[needle.length];
+            for (int i = 1, k = 0; i < needle.length; i++) {
+                while (k > 0 && needle[i] != needle[k]) {
+                    k = fallback[k - 1];
+                }
+                if (needle[i] == needle[k]) {
+                    k++;
+                }
+                fallback[i] = k;
+            }
+        }
+
+        /**
+         * Consumes one byte
+         * @param b Next byte
+         * @return Length of the needle prefix matched so far (needle length on a full match)
+         */
+        int advance(byte b) {
+            if (matched == needle.length) {
+                matched = fallback[matched - 1];
+            }
+            while (matched > 0 && needle[matched] != b) {
+                matched = fallback[matched - 1];
+            }
+            if (needle[matched] == b) {
+                matched++;
+            }
+            return matched;
+        }
+    }
+}
@@ -4,16 +4,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * DataUtil class provides methods to read test data from JSON and Excel files
@@ -25,52 +20,35 @@ public class DataUtil {
 
     /**
      * Reads data from a JSON file and returns as JsonNode
+     * The file is parsed once and cached by JsonDataRepository; the result is a copy the caller may modify
      * @param filePath Path to the JSON file
      * @return JsonNode containing the JSON data, or null if failed
      */
     public static JsonNode readJsonFile(String filePath) {
-        try {
-            logger.info("Reading JSON file: {}", filePath);
-            File file = new File(filePath);
-            if (!file.exists()) {
-                logger.error("JSON file not found: {}", filePath);
-                return null;
-            }
-            JsonNode jsonNode = objectMapper.readTree(file);
-            logger.info("Successfully read JSON file: {}", filePath);
-            return jsonNode;
-        } catch (IOException e) {
-            logger.error("Failed to read JSON file: {}. Error: {}", filePath, e.getMessage());
+        logger.info("Reading JSON file: {}", filePath);
+        JsonNode tree = JsonDataRepository.getTree(filePath);
+        if (tree == null) {
             return null;
         }
+        logger.info("Successfully read JSON file: {}", filePath);
+        return tree.deepCopy();
     }
 
     /**
-     * Gets a value from JSON file using a JSON path (e.g., "user.name")
+     * Gets a value from JSON file using a JSON path (e.g., "user.name", "users[0].email" or "/users/0/email")
+     * Lookups are served from the cached tree with the path compiled once into a JsonPointer
      * @param filePath Path to the JSON file
-     * @param jsonPath Path to the value in JSON (dot-separated)
+     * @param jsonPath Path to the value in JSON (dot-separated with optional [index], or a JSON Pointer)
      * @return Value as String, or null if not found
      */
     public static String getJsonValue(String filePath, String jsonPath) {
         try {
-            JsonNode jsonNode = readJsonFile(filePath);
-            if (jsonNode == null) {
+            JsonNode node = JsonDataRepository.getNode(filePath, jsonPath);
+            if (node == null) {
+                logger.warn("JSON path not found: {} in file: {}", jsonPath, filePath);
                 return null;
             }
-
-            String[] pathParts = jsonPath.split("\\.");
-            JsonNode currentNode = jsonNode;
-
-            for (String part : pathParts) {
-                if (currentNode.has(part)) {
-                    currentNode = currentNode.get(part);
-                } else {
-                    logger.warn("JSON path not found: {} in file: {}", jsonPath, filePath);
-                    return null;
-                }
-            }
-
-            String value = currentNode.asText();
+            String value = node.asText();
             logger.info("Retrieved JSON value: {} = {}", jsonPath, value);
             return value;
         } catch (Exception e) {
@@ -88,15 +66,14 @@ public class DataUtil {
     public static Map<String, Object> getJsonDataAsMap(String filePath) {
         try {
             logger.info("Reading JSON file as Map: {}", filePath);
-            File file = new File(filePath);
-            if (!file.exists()) {
-                logger.error("JSON file not found: {}", filePath);
+            JsonNode tree = JsonDataRepository.getTree(filePath);
+            if (tree == null) {
                 return null;
             }
-            Map<String, Object> dataMap = objectMapper.readValue(file, Map.class);
+            Map<String, Object> dataMap = objectMapper.convertValue(tree, Map.class);
             logger.info("Successfully read JSON file as Map: {}", filePath);
             return dataMap;
-        } catch (IOException e) {
+        } catch (IllegalArgumentException e) {
             logger.error("Failed to read JSON file as Map: {}. Error: {}", filePath, e.getMessage());
             return null;
         }
@@ -104,67 +81,20 @@ public class DataUtil {
 
     /**
      * Reads data from an Excel file and returns as List of Maps
-     * Each row becomes a Map with column headers as keys
+     * Each row becomes a Map with column headers as keys. The file is parsed once and served from
+     * ExcelDataRepository until it changes on disk, so the rows are read-only
      * @param filePath Path to the Excel file
      * @param sheetName Name of the sheet to read
      * @return List of Maps containing row data, or empty list if failed
      */
     public static List<Map<String, String>> readExcelFile(String filePath, String sheetName) {
-        List<Map<String, String>> dataList = new ArrayList<>();
-        
-        try {
-            logger.info("Reading Excel file: {} from sheet: {}", filePath, sheetName);
-            FileInputStream fis = new FileInputStream(new File(filePath));
-            Workbook workbook = new XSSFWorkbook(fis);
-            Sheet sheet = workbook.getSheet(sheetName);
-
-            if (sheet == null) {
-                logger.error("Sheet not found: {} in file: {}", sheetName, filePath);
-                workbook.close();
-                fis.close();
-                return dataList;
-            }
-
-            // Get header row
-            Row headerRow = sheet.getRow(0);
-            if (headerRow == null) {
-                logger.error("Header row not found in sheet: {}", sheetName);
-                workbook.close();
-                fis.close();
-                return dataList;
-            }
-
-            List<String> headers = new ArrayList<>();
-            for (Cell cell : headerRow) {
-                headers.add(getCellValueAsString(cell));
-            }
-
-            // Read data rows
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null) {
-                    continue;
-                }
-
-                Map<String, String> rowData = new HashMap<>();
-                for (int j = 0; j < headers.size(); j++) {
-                    Cell cell = row.getCell(j);
-                    String cellValue = getCellValueAsString(cell);
-                    rowData.put(headers.get(j), cellValue);
-                }
-                dataList.add(rowData);
-            }
-
-            workbook.close();
-            fis.close();
-            logger.info("Successfully read {} rows from Excel file: {}", dataList.size(), filePath);
-        } catch (IOException e) {
-            logger.error("Failed to read Excel file: {}. Error: {}", filePath, e.getMessage());
-        } catch (Exception e) {
-            logger.error("Unexpected error while reading Excel file: {}. Error: {}", filePath, e.getMessage());
+        logger.info("Reading Excel file: {} from sheet: {}", filePath, sheetName);
+        ExcelSheetData sheet = ExcelDataRepository.getSheet(filePath, sheetName);
+        if (sheet == null) {
+            return new ArrayList<>();
         }
-
-        return dataList;
+        logger.info("Successfully read {} rows from Excel file: {}", sheet.getRowCount(), filePath);
+        return sheet.getRows();
     }
 
     /**
@@ -173,17 +103,18 @@ public class DataUtil {
      * @return List of Maps containing row data, or empty list if failed
      */
     public static List<Map<String, String>> readExcelFile(String filePath) {
-        try {
-            FileInputStream fis = new FileInputStream(new File(filePath));
-            Workbook workbook = new XSSFWorkbook(fis);
-            String firstSheetName = workbook.getSheetAt(0).getSheetName();
-            workbook.close();
-            fis.close();
-            return readExcelFile(filePath, firstSheetName);
-        } catch (Exception e) {
-            logger.error("Failed to read Excel file: {}. Error: {}", filePath, e.getMessage());
-            return new ArrayList<>();
-        }
+        ExcelSheetData sheet = ExcelDataRepository.getFirstSheet(filePath);
+        return sheet == null ? new ArrayList<>() : sheet.getRows();
+    }
+
+    /**
+     * Streams the rows of a large Excel sheet without loading the workbook; see ExcelStreamReader
+     * @param filePath Path to the Excel file
+     * @param sheetName Name of the sheet, or null for the first sheet
+     * @return Lazy stream of read-only row maps; close it (try-with-resources) if not fully consumed
+     */
+    public static Stream<Map<String, String>> streamExcelFile(String filePath, String sheetName) {
+        return ExcelStreamReader.stream(filePath, sheetName);
     }
 
     /**
@@ -191,23 +122,20 @@ public class DataUtil {
      * @param filePath Path to the Excel file
      * @param sheetName Name of the sheet
      * @param rowIndex Index of the row (0-based, excluding header)
-     * @return Map containing row data, or null if not found
+     * @return Read-only Map containing row data, or null if not found
      */
     public static Map<String, String> getExcelRow(String filePath, String sheetName, int rowIndex) {
-        try {
-            List<Map<String, String>> dataList = readExcelFile(filePath, sheetName);
-            if (rowIndex >= 0 && rowIndex < dataList.size()) {
-                logger.info("Retrieved row {} from Excel file: {}", rowIndex, filePath);
-                return dataList.get(rowIndex);
-            } else {
-                logger.warn("Row index {} out of bounds in Excel file: {}", rowIndex, filePath);
-                return null;
-            }
-        } catch (Exception e) {
-            logger.error("Failed to get Excel row: {} from file: {}. Error: {}", 
-                    rowIndex, filePath, e.getMessage());
+        ExcelSheetData sheet = ExcelDataRepository.getSheet(filePath, sheetName);
+        if (sheet == null) {
             return null;
         }
+        Map<String, String> row = sheet.getRow(rowIndex);
+        if (row != null) {
+            logger.info("Retrieved row {} from Excel file: {}", rowIndex, filePath);
+        } else {
+            logger.warn("Row index {} out of bounds in Excel file: {}", rowIndex, filePath);
+        }
+        return row;
     }
 
     /**
@@ -219,62 +147,16 @@ public class DataUtil {
      * @return Cell value as String, or null if not found
      */
     public static String getExcelCellValue(String filePath, String sheetName, int rowIndex, String columnName) {
-        try {
-            Map<String, String> rowData = getExcelRow(filePath, sheetName, rowIndex);
-            if (rowData != null && rowData.containsKey(columnName)) {
-                String value = rowData.get(columnName);
-                logger.info("Retrieved Excel cell value: {} = {}", columnName, value);
-                return value;
-            } else {
-                logger.warn("Column not found: {} in row {} of Excel file: {}", columnName, rowIndex, filePath);
-                return null;
-            }
-        } catch (Exception e) {
-            logger.error("Failed to get Excel cell value: {} from file: {}. Error: {}", 
-                    columnName, filePath, e.getMessage());
+        ExcelSheetData sheet = ExcelDataRepository.getSheet(filePath, sheetName);
+        if (sheet == null) {
             return null;
         }
-    }
-
-    /**
-     * Converts a cell value to String regardless of cell type
-     * @param cell Cell object
-     * @return String value of the cell
-     */
-    private static String getCellValueAsString(Cell cell) {
-        if (cell == null) {
-            return "";
-        }
-
-        try {
-            switch (cell.getCellType()) {
-                case STRING:
-                    return cell.getStringCellValue();
-                case NUMERIC:
-                    if (DateUtil.isCellDateFormatted(cell)) {
-                        return cell.getDateCellValue().toString();
-                    } else {
-                        // Remove decimal if it's a whole number
-                        double numericValue = cell.getNumericCellValue();
-                        if (numericValue == (long) numericValue) {
-                            return String.valueOf((long) numericValue);
-                        } else {
-                            return String.valueOf(numericValue);
-                        }
-                    }
-                case BOOLEAN:
-                    return String.valueOf(cell.getBooleanCellValue());
-                case FORMULA:
-                    return cell.getCellFormula();
-                case BLANK:
-                    return "";
-                default:
-                    return "";
-            }
-        } catch (Exception e) {
-            logger.warn("Error converting cell value to string. Error: {}", e.getMessage());
-            return "";
+        String value = sheet.getValue(rowIndex, columnName);
+        if (value != null) {
+            logger.info("Retrieved Excel cell value: {} = {}", columnName, value);
+        } else {
+            logger.warn("Column not found: {} in row {} of Excel file: {}", columnName, rowIndex, filePath);
         }
+        return value;
     }
 }
-
@@ -1,11 +1,13 @@
 package com.qa.automation.utils;
 
 import com.qa.automation.base.DriverFactory;
+import com.qa.automation.instrumentation.FlightEvents;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -24,7 +26,15 @@ public class ElementUtil {
     private WebDriverWait wait;
 
     public ElementUtil() {
-        this.driver = DriverFactory.getDriver();
+        this(DriverFactory.getDriver());
+    }
+
+    /**
+     * Creates the wrappers for a specific driver, e.g. a stub driver in benchmarks
+     * @param driver WebDriver to act on
+     */
+    public ElementUtil(WebDriver driver) {
+        this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(DriverFactory.getTimeout()));
     }
 
@@ -36,7 +46,7 @@ public class ElementUtil {
     public boolean doClick(By locator) {
         try {
             logger.info("Attempting to click element: {}", locator);
-            WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
+            WebElement element = until(ExpectedConditions.elementToBeClickable(locator));
             element.click();
             logger.info("Successfully clicked element: {}", locator);
             return true;
@@ -54,7 +64,7 @@ public class ElementUtil {
     public boolean doClick(WebElement element) {
         try {
             logger.info("Attempting to click element: {}", element);
-            WebElement clickableElement = wait.until(ExpectedConditions.elementToBeClickable(element));
+            WebElement clickableElement = until(ExpectedConditions.elementToBeClickable(element));
             clickableElement.click();
             logger.info("Successfully clicked element");
             return true;
@@ -73,7 +83,7 @@ public class ElementUtil {
     public boolean doSendKeys(By locator, String text) {
         try {
             logger.info("Attempting to send keys to element: {} with text: {}", locator, text);
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = until(ExpectedConditions.visibilityOfElementLocated(locator));
             element.clear();
             element.sendKeys(text);
             logger.info("Successfully sent keys to element: {}", locator);
@@ -93,7 +103,7 @@ public class ElementUtil {
     public boolean doSendKeys(WebElement element, String text) {
         try {
             logger.info("Attempting to send keys to element with text: {}", text);
-            WebElement visibleElement = wait.until(ExpectedConditions.visibilityOf(element));
+            WebElement visibleElement = until(ExpectedConditions.visibilityOf(element));
             visibleElement.clear();
             visibleElement.sendKeys(text);
             logger.info("Successfully sent keys to element");
@@ -112,7 +122,7 @@ public class ElementUtil {
     public String doGetText(By locator) {
         try {
             logger.info("Attempting to get text from element: {}", locator);
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = until(ExpectedConditions.visibilityOfElementLocated(locator));
             String text = element.getText();
             logger.info("Successfully retrieved text from element: {}. Text: {}", locator, text);
             return text;
@@ -130,7 +140,7 @@ public class ElementUtil {
     public String doGetText(WebElement element) {
         try {
             logger.info("Attempting to get text from element");
-            WebElement visibleElement = wait.until(ExpectedConditions.visibilityOf(element));
+            WebElement visibleElement = until(ExpectedConditions.visibilityOf(element));
             String text = visibleElement.getText();
             logger.info("Successfully retrieved text from element. Text: {}", text);
             return text;
@@ -148,7 +158,7 @@ public class ElementUtil {
     public WebElement waitForElementVisible(By locator) {
         try {
             logger.info("Waiting for element to be visible: {}", locator);
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = until(ExpectedConditions.visibilityOfElementLocated(locator));
             logger.info("Element is now visible: {}", locator);
             return element;
         } catch (Exception e) {
@@ -165,7 +175,7 @@ public class ElementUtil {
     public WebElement waitForElementPresent(By locator) {
         try {
             logger.info("Waiting for element to be present: {}", locator);
-            WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            WebElement element = until(ExpectedConditions.presenceOfElementLocated(locator));
             logger.info("Element is now present: {}", locator);
             return element;
         } catch (Exception e) {
@@ -182,7 +192,7 @@ public class ElementUtil {
     public boolean isElementDisplayed(By locator) {
         try {
             logger.info("Checking if element is displayed: {}", locator);
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = until(ExpectedConditions.visibilityOfElementLocated(locator));
             boolean isDisplayed = element.isDisplayed();
             logger.info("Element display status: {} for locator: {}", isDisplayed, locator);
             return isDisplayed;
@@ -201,7 +211,7 @@ public class ElementUtil {
     public boolean doSelectByVisibleText(WebElement element, String visibleText) {
         try {
             logger.info("Attempting to select dropdown option by visible text: {}", visibleText);
-            WebElement visibleElement = wait.until(ExpectedConditions.visibilityOf(element));
+            WebElement visibleElement = until(ExpectedConditions.visibilityOf(element));
             Select select = new Select(visibleElement);
             select.selectByVisibleText(visibleText);
             logger.info("Successfully selected dropdown option: {}", visibleText);
@@ -211,5 +221,13 @@ public class ElementUtil {
             return false;
         }
     }
-}
 
+    /**
+     * Waits for a condition, recorded as a JFR wait event
+     * @param condition Condition to wait for
+     * @return Value returned by the condition
+     */
+    private <V> V until(ExpectedCondition<V> condition) {
+        return FlightEvents.waitFor(condition, () -> wait.until(condition));
+    }
+}
@@ -0,0 +1,242 @@
+package com.qa.automation.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExcelDataRepository parses each Excel file once per JVM and keeps every sheet as immutable
+ * ExcelSheetData, so repeated row and cell lookups do not reopen the workbook
+ * A file is parsed again when its modification time or size changes, checked at most every 500 ms.
+ * Any number of test threads can read at once; when several ask for the same file that is not cached
+ * yet, only one of them parses it. A compiled fixture (FixtureStore) is loaded instead of the workbook
+ * when it is up to date
+ */
+public final class ExcelDataRepository {
+
+    private static final Logger logger = LogManager.getLogger(ExcelDataRepository.class);
+    private static final Map<Path, CachedWorkbook> cache = new ConcurrentHashMap<>();
+    // Lookups within this interval of the last check skip the file stat
+    private static final long RECHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    /**
+     * Parsed sheets of one file, together with the file state they were read from
+     */
+    private static final class CachedWorkbook {
+        private final long lastModifiedMillis;
+        private final long size;
+        private final Map<String, ExcelSheetData> sheets;
+        private final String firstSheetName;
+        private volatile long checkedNanos = System.nanoTime();
+
+        CachedWorkbook(BasicFileAttributes attributes, Map<String, ExcelSheetData> sheets, String firstSheetName) {
+            this.lastModifiedMillis = attributes.lastModifiedTime().toMillis();
+            this.size = attributes.size();
+            this.sheets = sheets;
+            this.firstSheetName = firstSheetName;
+        }
+
+        boolean isRecentlyChecked() {
+            return System.nanoTime() - checkedNanos < RECHECK_INTERVAL_NANOS;
+        }
+
+        boolean isCurrent(BasicFileAttributes attributes) {
+            checkedNanos = System.nanoTime();
+            return lastModifiedMillis == attributes.lastModifiedTime().toMillis() && size == attributes.size();
+        }
+    }
+
+    private ExcelDataRepository() {
+    }
+
+    /**
+     * Gets a sheet, parsing the file if it is not cached or changed on disk
+     * @param filePath Path to the Excel file
+     * @param sheetName Name of the sheet
+     * @return Sheet data, or null if the file or sheet cannot be read
+     */
+    public static ExcelSheetData getSheet(String filePath, String sheetName) {
+        CachedWorkbook workbook = load(filePath);
+        if (workbook == null) {
+            return null;
+        }
+        ExcelSheetData sheet = workbook.sheets.get(sheetName);
+        if (sheet == null) {
+            logger.error("Sheet not found: {} in file: {}", sheetName, filePath);
+        }
+        return sheet;
+    }
+
+    /**
+     * Gets the first sheet of a file
+     * @param filePath Path to the Excel file
+     * @return Sheet data, or null if the file cannot be read or has no sheets
+     */
+    public static ExcelSheetData getFirstSheet(String filePath) {
+        CachedWorkbook workbook = load(filePath);
+        if (workbook == null || workbook.firstSheetName == null) {
+            return null;
+        }
+        return workbook.sheets.get(workbook.firstSheetName);
+    }
+
+    /**
+     * Drops a file from the cache so the next lookup parses it again
+     * @param filePath Path to the Excel file
+     */
+    public static void invalidate(String filePath) {
+        cache.remove(key(filePath));
+    }
+
+    /**
+     * Drops all cached files
+     */
+    public static void clear() {
+        cache.clear();
+    }
+
+    private static CachedWorkbook load(String filePath) {
+        Path path = key(filePath);
+        CachedWorkbook recent = cache.get(path);
+        if (recent != null && recent.isRecentlyChecked()) {
+            return recent;
+        }
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            cache.remove(path);
+            logger.error("Excel file not found: {}. Error: {}", filePath, e.getMessage());
+            return null;
+        }
+        if (recent != null && recent.isCurrent(attributes)) {
+            return recent;
+        }
+        // compute() serializes parsing per file; a failed parse leaves no entry so the next call retries
+        return cache.compute(path, (ignored, current) ->
+                current != null && current.isCurrent(attributes) ? current : parse(path, attributes));
+    }
+
+    private static CachedWorkbook parse(Path path, BasicFileAttributes attributes) {
+        long started = System.nanoTime();
+        try {
+            Map<String, ExcelSheetData> sheets = FixtureStore.isEnabled() ? FixtureStore.readExcel(path, attributes) : null;
+            if (sheets == null) {
+                sheets = readWorkbook(path);
+                logger.info("Parsed Excel file: {} ({} sheets) in {} ms", path, sheets.size(),
+                        (System.nanoTime() - started) / 1_000_000);
+            }
+            String firstSheetName = sheets.isEmpty() ? null : sheets.keySet().iterator().next();
+            return new CachedWorkbook(attributes, Collections.unmodifiableMap(sheets), firstSheetName);
+        } catch (IOException e) {
+            logger.error("Failed to read Excel file: {}. Error: {}", path, e.getMessage());
+        } catch (Exception e) {
+            logger.error("Unexpected error while reading Excel file: {}. Error: {}", path, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Parses every sheet of a workbook
+     * @param path Excel file
+     * @return Sheets in workbook order
+     */
+    static Map<String, ExcelSheetData> readWorkbook(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path); Workbook workbook = new XSSFWorkbook(in)) {
+            Map<String, ExcelSheetData> sheets = new LinkedHashMap<>();
+            for (Sheet sheet : workbook) {
+                sheets.put(sheet.getSheetName(), toSheetData(sheet));
+            }
+            return sheets;
+        }
+    }
+
+    private static ExcelSheetData toSheetData(Sheet sheet) {
+        List<String> headers = new ArrayList<>();
+        List<String[]> rows = new ArrayList<>();
+        Row headerRow = sheet.getRow(0);
+        if (headerRow == null) {
+            logger.warn("Header row not found in sheet: {}", sheet.getSheetName());
+            return new ExcelSheetData(sheet.getSheetName(), headers, rows);
+        }
+        for (int column = 0; column < headerRow.getLastCellNum(); column++) {
+            headers.add(getCellValueAsString(headerRow.getCell(column)));
+        }
+        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+            Row row = sheet.getRow(i);
+            if (row == null) {
+                continue;
+            }
+            String[] values = new String[headers.size()];
+            for (int column = 0; column < values.length; column++) {
+                values[column] = getCellValueAsString(row.getCell(column));
+            }
+            rows.add(values);
+        }
+        return new ExcelSheetData(sheet.getSheetName(), headers, rows);
+    }
+
+    private static Path key(String filePath) {
+        return Paths.get(filePath).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Converts a cell value to String regardless of cell type
+     * @param cell Cell object
+     * @return String value of the cell
+     */
+    static String getCellValueAsString(Cell cell) {
+        if (cell == null) {
+            return "";
+        }
+
+        try {
+            switch (cell.getCellType()) {
+                case STRING:
+                    return cell.getStringCellValue();
+                case NUMERIC:
+                    if (DateUtil.isCellDateFormatted(cell)) {
+                        return cell.getDateCellValue().toString();
+                    } else {
+                        // Remove decimal if it's a whole number
+                        double numericValue = cell.getNumericCellValue();
+                        if (numericValue == (long) numericValue) {
+                            return String.valueOf((long) numericValue);
+                        } else {
+                            return String.valueOf(numericValue);
+                        }
+                    }
+                case BOOLEAN:
+                    return String.valueOf(cell.getBooleanCellValue());
+                case FORMULA:
+                    return cell.getCellFormula();
+                case BLANK:
+                    return "";
+                default:
+                    return "";
+            }
+        } catch (Exception e) {
+            logger.warn("Error converting cell value to string. Error: {}", e.getMessage());
+            return "";
+        }
+    }
+}
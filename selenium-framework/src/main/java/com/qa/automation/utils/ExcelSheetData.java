@@ -0,0 +1,188 @@
+package com.qa.automation.utils;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * ExcelSheetData is an immutable, column-indexed copy of one sheet: a header row and the data rows as
+ * string arrays. Lookups by row and column name are O(1) and instances can be shared between threads
+ */
+public final class ExcelSheetData {
+
+    private final String name;
+    private final List<String> headers;
+    private final Map<String, Integer> columnIndex;
+    private final String[][] rows;
+
+    /**
+     * Creates the sheet data
+     * @param name Sheet name
+     * @param headers Header row, one entry per column
+     * @param rows Data rows; each row has exactly headers.size() values
+     */
+    ExcelSheetData(String name, List<String> headers, List<String[]> rows) {
+        this.name = name;
+        this.headers = Collections.unmodifiableList(Arrays.asList(headers.toArray(new String[0])));
+        Map<String, Integer> index = new HashMap<>();
+        for (int column = 0; column < headers.size(); column++) {
+            // A repeated header resolves to its last column, as the old per-row HashMap did
+            index.put(headers.get(column), column);
+        }
+        this.columnIndex = Collections.unmodifiableMap(index);
+        this.rows = rows.toArray(new String[0][]);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Gets the number of data rows (excluding the header)
+     * @return Row count
+     */
+    public int getRowCount() {
+        return rows.length;
+    }
+
+    /**
+     * Gets the position of a column
+     * @param columnName Header text
+     * @return 0-based column index, or -1 if the sheet has no such column
+     */
+    public int getColumnIndex(String columnName) {
+        Integer column = columnIndex.get(columnName);
+        return column == null ? -1 : column;
+    }
+
+    /**
+     * Checks if a data row exists
+     * @param rowIndex Index of the row (0-based, excluding header)
+     * @return true if the row exists
+     */
+    public boolean hasRow(int rowIndex) {
+        return rowIndex >= 0 && rowIndex < rows.length;
+    }
+
+    /**
+     * Gets a cell value by column position
+     * @param rowIndex Index of the row (0-based, excluding header)
+     * @param column 0-based column index
+     * @return Cell value ("" for empty cells), or null if the row or column does not exist
+     */
+    public String getValue(int rowIndex, int column) {
+        if (!hasRow(rowIndex) || column < 0 || column >= headers.size()) {
+            return null;
+        }
+        return rows[rowIndex][column];
+    }
+
+    /**
+     * Gets a cell value by column name
+     * @param rowIndex Index of the row (0-based, excluding header)
+     * @param columnName Header text
+     * @return Cell value ("" for empty cells), or null if the row or column does not exist
+     */
+    public String getValue(int rowIndex, String columnName) {
+        return getValue(rowIndex, getColumnIndex(columnName));
+    }
+
+    /**
+     * Gets a row as a read-only map keyed by column name; the map is a view, nothing is copied
+     * @param rowIndex Index of the row (0-based, excluding header)
+     * @return Row map, or null if the row does not exist
+     */
+    public Map<String, String> getRow(int rowIndex) {
+        return hasRow(rowIndex) ? new RowMap(rows[rowIndex]) : null;
+    }
+
+    /**
+     * Gets all rows as read-only maps keyed by column name
+     * @return Read-only list of row views
+     */
+    public List<Map<String, String>> getRows() {
+        return new AbstractList<Map<String, String>>() {
+            @Override
+            public Map<String, String> get(int index) {
+                if (!hasRow(index)) {
+                    throw new IndexOutOfBoundsException("Row " + index + " of " + rows.length);
+                }
+                return new RowMap(rows[index]);
+            }
+
+            @Override
+            public int size() {
+                return rows.length;
+            }
+        };
+    }
+
+    /**
+     * Read-only map view of one row, backed by the shared column index
+     */
+    private final class RowMap extends AbstractMap<String, String> {
+        private final String[] values;
+
+        RowMap(String[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public String get(Object key) {
+            Integer column = columnIndex.get(key);
+            return column == null ? null : values[column];
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return columnIndex.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return columnIndex.size();
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    Iterator<Entry<String, Integer>> columns = columnIndex.entrySet().iterator();
+                    return new Iterator<Entry<String, String>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return columns.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (!columns.hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, Integer> column = columns.next();
+                            return new SimpleImmutableEntry<>(column.getKey(), values[column.getValue()]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return columnIndex.size();
+                }
+            };
+        }
+    }
+}
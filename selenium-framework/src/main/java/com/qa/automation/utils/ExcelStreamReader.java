@@ -0,0 +1,356 @@
+package com.qa.automation.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * ExcelStreamReader reads one sheet row by row without building the workbook in memory, for data
+ * sheets too large for DataUtil.readExcelFile. The sheet XML is pulled through StAX, so only the current
+ * row is held; the shared strings table is the one part loaded up front
+ * Rows have the same shape and cell formatting as DataUtil.readExcelFile: column headers as keys, empty
+ * cells as "". Always close the reader, or use stream() / dataProvider() which close it for you
+ */
+public class ExcelStreamReader implements Iterator<Map<String, String>>, AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(ExcelStreamReader.class);
+
+    private final String filePath;
+    private final OPCPackage excelPackage;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final StylesTable styles;
+    private final InputStream sheetStream;
+    private final XMLStreamReader xml;
+    private final List<String> headers;
+    private Map<String, String> nextRow;
+    private int rowIndex = -1;
+    private int rowsRead;
+    private boolean closed;
+
+    private ExcelStreamReader(String filePath, String sheetName) throws IOException {
+        this.filePath = filePath;
+        this.excelPackage = openPackage(filePath);
+        InputStream sheet = null;
+        XMLStreamReader reader = null;
+        try {
+            XSSFReader xssfReader = new XSSFReader(excelPackage);
+            this.sharedStrings = new ReadOnlySharedStringsTable(excelPackage, false);
+            this.styles = xssfReader.getStylesTable();
+            sheet = findSheet(xssfReader, sheetName);
+            if (sheet == null) {
+                throw new IOException("Sheet not found: " + sheetName + " in file: " + filePath);
+            }
+            reader = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheet);
+            this.sheetStream = sheet;
+            this.xml = reader;
+            this.headers = readHeaders();
+            this.nextRow = readRow();
+        } catch (Exception e) {
+            closeQuietly(reader, sheet);
+            excelPackage.revert();
+            throw e instanceof IOException ? (IOException) e : new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Opens a sheet for streaming
+     * @param filePath Path to the Excel file (.xlsx)
+     * @param sheetName Name of the sheet, or null for the first sheet
+     * @return Reader positioned before the first data row; close it when done
+     * @throws IOException if the file or sheet cannot be opened
+     */
+    public static ExcelStreamReader open(String filePath, String sheetName) throws IOException {
+        logger.info("Streaming Excel file: {} from sheet: {}", filePath, sheetName == null ? "<first>" : sheetName);
+        return new ExcelStreamReader(filePath, sheetName);
+    }
+
+    /**
+     * Streams the data rows of a sheet; the file is closed when the stream is closed
+     * @param filePath Path to the Excel file (.xlsx)
+     * @param sheetName Name of the sheet, or null for the first sheet
+     * @return Lazy, sequential stream of read-only row maps; use it in try-with-resources
+     */
+    public static Stream<Map<String, String>> stream(String filePath, String sheetName) {
+        ExcelStreamReader reader;
+        try {
+            reader = open(filePath, sheetName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(reader,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(reader::close);
+    }
+
+    /**
+     * Adapts a sheet to a TestNG data provider: return it from a @DataProvider method and every row
+     * becomes one invocation with the row map as its single argument. Rows are read as TestNG asks for
+     * them, and the file is closed after the last row
+     * @param filePath Path to the Excel file (.xlsx)
+     * @param sheetName Name of the sheet, or null for the first sheet
+     * @return Lazy iterator of one-element parameter arrays
+     */
+    public static Iterator<Object[]> dataProvider(String filePath, String sheetName) {
+        ExcelStreamReader reader;
+        try {
+            reader = open(filePath, sheetName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return reader.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return new Object[]{reader.next()};
+            }
+        };
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Gets the number of data rows returned so far
+     * @return Rows read
+     */
+    public int getRowsRead() {
+        return rowsRead;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextRow != null;
+    }
+
+    @Override
+    public Map<String, String> next() {
+        if (nextRow == null) {
+            throw new NoSuchElementException("No more rows in " + filePath);
+        }
+        Map<String, String> row = nextRow;
+        rowsRead++;
+        try {
+            nextRow = readRow();
+        } catch (XMLStreamException e) {
+            close();
+            throw new IllegalStateException("Failed to read Excel file: " + filePath + ". Error: " + e.getMessage(), e);
+        }
+        if (nextRow == null) {
+            logger.info("Streamed {} rows from Excel file: {}", rowsRead, filePath);
+            close();
+        }
+        return row;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        nextRow = null;
+        closeQuietly(xml, sheetStream);
+        // Read-only package: revert releases the file without trying to save it
+        excelPackage.revert();
+    }
+
+    private static OPCPackage openPackage(String filePath) throws IOException {
+        try {
+            return OPCPackage.open(filePath, PackageAccess.READ);
+        } catch (Exception e) {
+            throw new IOException("Failed to open Excel file: " + filePath + ". Error: " + e.getMessage(), e);
+        }
+    }
+
+    private static InputStream findSheet(XSSFReader xssfReader, String sheetName) throws Exception {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+        while (sheets.hasNext()) {
+            InputStream sheet = sheets.next();
+            if (sheetName == null || sheetName.equals(sheets.getSheetName())) {
+                return sheet;
+            }
+            sheet.close();
+        }
+        return null;
+    }
+
+    /**
+     * Reads the header row (row 1); a sheet that does not start with it has no headers and no data
+     */
+    private List<String> readHeaders() throws XMLStreamException {
+        List<String> row = readCells();
+        if (row == null || rowIndex != 0) {
+            logger.error("Header row not found in Excel file: {}", filePath);
+            row = null;
+        }
+        return row == null ? Collections.emptyList() : Collections.unmodifiableList(row);
+    }
+
+    private Map<String, String> readRow() throws XMLStreamException {
+        if (headers.isEmpty()) {
+            return null;
+        }
+        List<String> cells = readCells();
+        if (cells == null) {
+            return null;
+        }
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int column = 0; column < headers.size(); column++) {
+            row.put(headers.get(column), column < cells.size() ? cells.get(column) : "");
+        }
+        return Collections.unmodifiableMap(row);
+    }
+
+    /**
+     * Pulls the next <row> element and returns its cell values by column position
+     * @return Cell values, or null at the end of the sheet
+     */
+    private List<String> readCells() throws XMLStreamException {
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                String rowNumber = xml.getAttributeValue(null, "r");
+                rowIndex = rowNumber == null ? rowIndex + 1 : Integer.parseInt(rowNumber) - 1;
+                return readRowCells();
+            }
+        }
+        return null;
+    }
+
+    private List<String> readRowCells() throws XMLStreamException {
+        List<String> cells = new ArrayList<>();
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                return cells;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+                String reference = xml.getAttributeValue(null, "r");
+                int column = reference == null ? cells.size() : new CellReference(reference).getCol();
+                String value = readCell();
+                while (cells.size() < column) {
+                    cells.add("");
+                }
+                if (column < cells.size()) {
+                    cells.set(column, value);
+                } else {
+                    cells.add(value);
+                }
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Converts the current <c> element the same way DataUtil converts a cell: shared and inline strings
+     * as text, whole numbers without a decimal, date-formatted numbers as dates, formulas as their text
+     */
+    private String readCell() throws XMLStreamException {
+        String type = xml.getAttributeValue(null, "t");
+        String style = xml.getAttributeValue(null, "s");
+        String value = null;
+        String formula = null;
+        StringBuilder inline = null;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            String element = xml.getLocalName();
+            if ("v".equals(element)) {
+                value = xml.getElementText();
+            } else if ("f".equals(element)) {
+                formula = xml.getElementText();
+            } else if ("t".equals(element)) {
+                // Text runs of an inline string
+                inline = inline == null ? new StringBuilder() : inline;
+                inline.append(xml.getElementText());
+            }
+        }
+        if (formula != null && !formula.isEmpty()) {
+            return formula;
+        }
+        if ("inlineStr".equals(type)) {
+            return inline == null ? "" : inline.toString();
+        }
+        if (value == null) {
+            return "";
+        }
+        try {
+            if ("s".equals(type)) {
+                return sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+            }
+            if ("b".equals(type)) {
+                return String.valueOf("1".equals(value));
+            }
+            if ("str".equals(type) || "e".equals(type)) {
+                return value;
+            }
+            return formatNumber(Double.parseDouble(value), style);
+        } catch (Exception e) {
+            logger.warn("Error converting cell value to string. Error: {}", e.getMessage());
+            return "";
+        }
+    }
+
+    private String formatNumber(double numericValue, String style) {
+        if (style != null && styles != null) {
+            XSSFCellStyle cellStyle = styles.getStyleAt(Integer.parseInt(style));
+            if (cellStyle != null && DateUtil.isValidExcelDate(numericValue)
+                    && DateUtil.isADateFormat(cellStyle.getDataFormat(), cellStyle.getDataFormatString())) {
+                return DateUtil.getJavaDate(numericValue).toString();
+            }
+        }
+        // Remove decimal if it's a whole number
+        if (numericValue == (long) numericValue) {
+            return String.valueOf((long) numericValue);
+        }
+        return String.valueOf(numericValue);
+    }
+
+    private static void closeQuietly(XMLStreamReader reader, InputStream stream) {
+        try {
+            if (reader != null) {
+                reader.close();
+            }
+            if (stream != null) {
+                stream.close();
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to close Excel sheet stream. Error: {}", e.getMessage());
+        }
+    }
+}
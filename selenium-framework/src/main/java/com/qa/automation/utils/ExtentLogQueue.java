@@ -0,0 +1,148 @@
+package com.qa.automation.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ExtentLogQueue moves ExtentReports writes off the test threads
+ * Test threads enqueue immutable events on a lock-free queue and a single writer thread applies them in
+ * arrival order, so events of one test keep the order in which the test logged them
+ * The queue is bounded: when it is full, producers either wait for space (BLOCK) or drop the event (DROP)
+ */
+final class ExtentLogQueue {
+
+    private static final Logger logger = LogManager.getLogger(ExtentLogQueue.class);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int MAX_BATCH = 256;
+
+    /**
+     * What producers do when the queue is at capacity
+     */
+    enum OverflowPolicy {
+        BLOCK, DROP
+    }
+
+    private final Queue<Runnable> events = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Object applyLock;
+    private final Thread writer;
+    private volatile boolean writerIdle;
+
+    /**
+     * Creates the queue and starts its writer thread
+     * @param capacity Maximum number of pending events
+     * @param overflowPolicy Behaviour when the queue is full
+     * @param applyLock Lock held while events are applied, shared with other report mutations
+     */
+    ExtentLogQueue(int capacity, OverflowPolicy overflowPolicy, Object applyLock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.applyLock = applyLock;
+        this.writer = new Thread(this::drainLoop, "extent-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Enqueues an event; never throws and never runs the event on the caller thread
+     * @param event Report mutation to apply on the writer thread
+     * @return true if the event was queued, false if it was dropped
+     */
+    boolean submit(Runnable event) {
+        while (true) {
+            int current = size.get();
+            if (current < capacity) {
+                if (size.compareAndSet(current, current + 1)) {
+                    break;
+                }
+                continue;
+            }
+            if (overflowPolicy == OverflowPolicy.DROP || Thread.currentThread() == writer) {
+                long total = dropped.incrementAndGet();
+                if (total == 1 || total % 1000 == 0) {
+                    logger.warn("ExtentReports log queue full ({} events), {} events dropped so far", capacity, total);
+                }
+                return false;
+            }
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        events.offer(event);
+        if (writerIdle) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    /**
+     * Waits until every event submitted before this call has been applied
+     * @param timeout Maximum time to wait
+     * @param unit Unit of the timeout
+     * @return true if the queue drained in time
+     */
+    boolean awaitDrained(long timeout, TimeUnit unit) {
+        if (Thread.currentThread() == writer) {
+            return true;
+        }
+        CountDownLatch drained = new CountDownLatch(1);
+        // The barrier bypasses the capacity check so a flush cannot be dropped or blocked by a full queue
+        size.incrementAndGet();
+        events.offer(drained::countDown);
+        LockSupport.unpark(writer);
+        try {
+            return drained.await(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Gets the number of events dropped because the queue was full
+     * @return Dropped event count
+     */
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void drainLoop() {
+        while (true) {
+            Runnable event = events.poll();
+            if (event == null) {
+                writerIdle = true;
+                // Re-check after publishing the idle flag so a concurrent submit cannot be missed; producers
+                // unpark the writer, so an idle writer sleeps until there is work
+                if (events.isEmpty()) {
+                    LockSupport.park(this);
+                }
+                writerIdle = false;
+                continue;
+            }
+            // Batches are bounded so createTest/flush on test threads are not starved of the lock
+            synchronized (applyLock) {
+                int applied = 0;
+                do {
+                    size.decrementAndGet();
+                    try {
+                        event.run();
+                    } catch (Exception e) {
+                        logger.error("Failed to apply ExtentReports log event. Error: {}", e.getMessage());
+                    }
+                } while (++applied < MAX_BATCH && (event = events.poll()) != null);
+            }
+        }
+    }
+}
@@ -5,26 +5,63 @@ import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 import com.qa.automation.base.DriverFactory;
+import com.qa.automation.instrumentation.FlightEvents;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * ExtentReportManager class manages ExtentReports instance and test reporting
+ * Log and screenshot calls are queued and applied by a background writer (report.asyncLogging=true),
+ * so test threads do not wait on ExtentReports; flushReport drains the queue first
+ * The report is also flushed incrementally (every report.flushEveryTests finished tests and every
+ * report.flushIntervalSeconds) into a staging file that is renamed over the published report,
+ * so a killed run always leaves the last complete snapshot behind
  */
 public class ExtentReportManager {
 
     private static final Logger logger = LogManager.getLogger(ExtentReportManager.class);
     private static ExtentReports extentReports;
     private static ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
+    private static final Object REPORT_LOCK = new Object();
+    private static final long DRAIN_TIMEOUT_SECONDS = 30;
+    private static volatile ExtentLogQueue logQueue;
+    private static final Object FLUSH_LOCK = new Object();
+    private static final AtomicInteger finishedSinceFlush = new AtomicInteger();
+    private static final AtomicBoolean flushRequested = new AtomicBoolean();
+    // Background attaches of the current test, and finished tests whose results line waits for them
+    private static final ThreadLocal<List<CompletableFuture<Void>>> pendingAttaches = ThreadLocal.withInitial(ArrayList::new);
+    private static final Set<CompletableFuture<Void>> pendingFinishes = ConcurrentHashMap.newKeySet();
+    private static java.nio.file.Path reportFile;
+    private static java.nio.file.Path stagingFile;
+    private static TestResultStream resultStream;
+    private static ScheduledExecutorService flushScheduler;
+    // Shows the dashboard by default once the ExtentReports scripts have loaded
+    private static final ReportPostProcessingPipeline postProcessors = new ReportPostProcessingPipeline()
+            .add(new DashboardDefaultViewProcessor());
 
     /**
      * Initializes ExtentReports with HTML reporter
      * @return ExtentReports instance
      */
-    public static ExtentReports getExtentReports() {
+    public static synchronized ExtentReports getExtentReports() {
         if (extentReports == null) {
             try {
                 String reportPath = DriverFactory.getReportPath();
@@ -47,8 +84,14 @@ public class ExtentReportManager {
                     logger.info("Created report directory: {}", reportPath);
                 }
 
+                // Spark writes into a staging file; each flush renames it over the published report
+                reportFile = java.nio.file.Paths.get(reportFilePath);
+                java.nio.file.Path stagingDir = reportDir.resolve(".staging");
+                java.nio.file.Files.createDirectories(stagingDir);
+                stagingFile = stagingDir.resolve(reportFileName);
+
                 extentReports = new ExtentReports();
-                ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportFilePath);
+                ExtentSparkReporter sparkReporter = new ExtentSparkReporter(stagingFile.toFile());
                 
                 // Configure report appearance
                 sparkReporter.config().setTheme(Theme.DARK);
@@ -80,6 +123,12 @@ public class ExtentReportManager {
                 extentReports.setSystemInfo("OS", System.getProperty("os.name"));
                 extentReports.setSystemInfo("Java Version", System.getProperty("java.version"));
                 
+                if (Boolean.parseBoolean(DriverFactory.getProperty("report.resultsJsonl", "true"))) {
+                    resultStream = new TestResultStream(reportDir.resolve("ExtentReport_" + timestamp + ".jsonl"));
+                    logger.info("Streaming finished tests to: {}", resultStream.getFile());
+                }
+                startIncrementalFlush();
+
                 logger.info("ExtentReports initialized successfully. Report path: {}", reportFilePath);
             } catch (Exception e) {
                 logger.error("Failed to initialize ExtentReports. Error: {}", e.getMessage());
@@ -96,12 +145,15 @@ public class ExtentReportManager {
      */
     public static ExtentTest createTest(String testName) {
         try {
-            ExtentTest test = getExtentReports().createTest(testName);
+            ExtentReports reports = getExtentReports();
+            ExtentTest test;
+            synchronized (REPORT_LOCK) {
+                test = reports.createTest(testName);
+                // Add test category for better organization
+                test.assignCategory("Sanity Tests");
+            }
             extentTest.set(test);
             
-            // Add test category for better organization
-            test.assignCategory("Sanity Tests");
-            
             logger.info("Created test in ExtentReport: {}", testName);
             return test;
         } catch (Exception e) {
@@ -118,12 +170,15 @@ public class ExtentReportManager {
      */
     public static ExtentTest createTest(String testName, String description) {
         try {
-            ExtentTest test = getExtentReports().createTest(testName, description);
+            ExtentReports reports = getExtentReports();
+            ExtentTest test;
+            synchronized (REPORT_LOCK) {
+                test = reports.createTest(testName, description);
+                // Add test category for better organization
+                test.assignCategory("Sanity Tests");
+            }
             extentTest.set(test);
             
-            // Add test category for better organization
-            test.assignCategory("Sanity Tests");
-            
             logger.info("Created test in ExtentReport: {} with description: {}", testName, description);
             return test;
         } catch (Exception e) {
@@ -164,6 +219,7 @@ public class ExtentReportManager {
      * @param message Message to log
      */
     public static void logInfo(String message) {
+        FlightEvents.step("INFO", message);
         try {
             ExtentTest test = getTest();
             if (test == null) {
@@ -173,7 +229,7 @@ public class ExtentReportManager {
                 // Don't create test here as it should be created in onTestStart
                 return;
             }
-            test.info(message);
+            submit(() -> test.info(message));
             logger.debug("ExtentReport Info logged: {}", message);
         } catch (Exception e) {
             logger.error("Failed to log info to ExtentReport. Error: {}", e.getMessage());
@@ -185,10 +241,11 @@ public class ExtentReportManager {
      * @param message Message to log
      */
     public static void logPass(String message) {
+        FlightEvents.step("PASS", message);
         try {
             ExtentTest test = getTest();
             if (test != null) {
-                test.pass(message);
+                submit(() -> test.pass(message));
                 logger.info("ExtentReport Pass: {}", message);
             } else {
                 logger.warn("No active test found to log pass: {}", message);
@@ -203,9 +260,11 @@ public class ExtentReportManager {
      * @param message Message to log
      */
     public static void logFail(String message) {
+        FlightEvents.step("FAIL", message);
         try {
-            if (getTest() != null) {
-                getTest().fail(message);
+            ExtentTest test = getTest();
+            if (test != null) {
+                submit(() -> test.fail(message));
                 logger.error("ExtentReport Fail: {}", message);
             }
         } catch (Exception e) {
@@ -218,9 +277,11 @@ public class ExtentReportManager {
      * @param message Message to log
      */
     public static void logSkip(String message) {
+        FlightEvents.step("SKIP", message);
         try {
-            if (getTest() != null) {
-                getTest().skip(message);
+            ExtentTest test = getTest();
+            if (test != null) {
+                submit(() -> test.skip(message));
                 logger.warn("ExtentReport Skip: {}", message);
             }
         } catch (Exception e) {
@@ -236,25 +297,8 @@ public class ExtentReportManager {
         try {
             ExtentTest test = getTest();
             if (test != null && screenshotPath != null) {
-                // Convert to absolute path if relative
-                java.io.File screenshotFile = new java.io.File(screenshotPath);
-                String absolutePath;
-                if (screenshotFile.isAbsolute()) {
-                    absolutePath = screenshotPath;
-                } else {
-                    String userDir = System.getProperty("user.dir");
-                    absolutePath = userDir + "/" + screenshotPath;
-                }
-                
-                // Verify file exists
-                if (new java.io.File(absolutePath).exists()) {
-                    test.addScreenCaptureFromPath(absolutePath);
-                    logger.info("Screenshot attached to ExtentReport: {}", absolutePath);
-                } else {
-                    logger.warn("Screenshot file not found: {}. Trying relative path.", absolutePath);
-                    // Try relative path as fallback
-                    test.addScreenCaptureFromPath(screenshotPath);
-                }
+                // Path resolution and the existence check run on the report writer, not the test thread
+                submit(() -> addScreenCaptureFromPath(test, screenshotPath));
             } else {
                 logger.warn("Cannot attach screenshot - Test: {}, Path: {}", test != null ? "EXISTS" : "NULL", screenshotPath);
             }
@@ -264,14 +308,83 @@ public class ExtentReportManager {
         }
     }
 
+    /**
+     * Attaches a screenshot that is still being written in the background
+     * The attach is queued when the file is ready, so the report writer never waits for it;
+     * a failed save is logged as a warning on the test
+     * @param screenshotPath Future of the screenshot path from ScreenshotUtil.captureScreenshotAsync
+     */
+    public static void attachScreenshot(CompletableFuture<String> screenshotPath) {
+        ExtentTest test = getTest();
+        if (test == null || screenshotPath == null) {
+            logger.warn("Cannot attach screenshot - Test: {}", test != null ? "EXISTS" : "NULL");
+            return;
+        }
+        attachWhenReady(test, "screenshot", screenshotPath, path -> addScreenCaptureFromPath(test, path));
+    }
+
+    /**
+     * Queues an attach event once a background file completes, or a warning entry if it failed
+     */
+    private static void attachWhenReady(ExtentTest test, String label, CompletableFuture<String> file,
+                                        Consumer<String> attach) {
+        CompletableFuture<Void> attached = file.handle((path, error) -> {
+            if (error == null && path != null) {
+                submit(() -> attach.accept(path));
+                return null;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            String reason = cause != null ? cause.getMessage() : "nothing was written";
+            logger.error("Failed to attach background {} to ExtentReport. Error: {}", label, reason);
+            submit(() -> test.warning("Could not attach " + label + ": " + reason));
+            return null;
+        });
+        // testFinished waits for it, so the attach lands before the results line and eviction
+        pendingAttaches.get().add(attached);
+    }
+
+    private static void addScreenCaptureFromPath(ExtentTest test, String screenshotPath) {
+        // Convert to absolute path if relative
+        java.io.File screenshotFile = new java.io.File(screenshotPath);
+        String absolutePath;
+        if (screenshotFile.isAbsolute()) {
+            absolutePath = screenshotPath;
+        } else {
+            String userDir = System.getProperty("user.dir");
+            absolutePath = userDir + "/" + screenshotPath;
+        }
+
+        // Link the full image behind its thumbnail so the report does not load full-size frames
+        String thumbnailPath = ScreenshotUtil.getThumbnailPath(screenshotPath);
+        if (thumbnailPath != null) {
+            String thumbnail = new java.io.File(thumbnailPath).isAbsolute() ? thumbnailPath
+                    : System.getProperty("user.dir") + "/" + thumbnailPath;
+            test.info("<a href=\"" + absolutePath + "\" target=\"_blank\"><img src=\"" + thumbnail
+                    + "\" class=\"r-img\" alt=\"screenshot\"/></a>");
+            logger.info("Screenshot thumbnail attached to ExtentReport: {}", thumbnail);
+            return;
+        }
+
+        // Verify file exists
+        if (new java.io.File(absolutePath).exists()) {
+            test.addScreenCaptureFromPath(absolutePath);
+            logger.info("Screenshot attached to ExtentReport: {}", absolutePath);
+        } else {
+            logger.warn("Screenshot file not found: {}. Trying relative path.", absolutePath);
+            // Try relative path as fallback
+            test.addScreenCaptureFromPath(screenshotPath);
+        }
+    }
+
     /**
      * Attaches a base64 screenshot to the current test
      * @param base64Screenshot Base64 encoded screenshot string
      */
     public static void attachScreenshotBase64(String base64Screenshot) {
         try {
-            if (getTest() != null && base64Screenshot != null) {
-                getTest().addScreenCaptureFromBase64String(base64Screenshot);
+            ExtentTest test = getTest();
+            if (test != null && base64Screenshot != null) {
+                submit(() -> test.addScreenCaptureFromBase64String(base64Screenshot));
                 logger.info("Base64 screenshot attached to ExtentReport");
             }
         } catch (Exception e) {
@@ -279,89 +392,233 @@ public class ExtentReportManager {
         }
     }
 
+    /**
+     * Links a file that is still being written in the background, e.g. a failure bundle
+     * Like a background screenshot, the link is queued when the file is ready
+     * @param label Link text
+     * @param artifactPath Future of the relative or absolute path of the file
+     */
+    public static void attachArtifact(String label, CompletableFuture<String> artifactPath) {
+        ExtentTest test = getTest();
+        if (test == null || artifactPath == null) {
+            logger.warn("Cannot attach artifact - Test: {}", test != null ? "EXISTS" : "NULL");
+            return;
+        }
+        attachWhenReady(test, label, artifactPath, path -> {
+            String absolutePath = new java.io.File(path).isAbsolute() ? path
+                    : System.getProperty("user.dir") + "/" + path;
+            test.info("<a href=\"" + absolutePath + "\" target=\"_blank\">" + label + "</a>");
+        });
+    }
+
     /**
      * Flushes the ExtentReports instance
      */
     public static void flushReport() {
-        try {
-            if (extentReports != null) {
-                extentReports.flush();
-                logger.info("ExtentReports flushed successfully");
-                
-                // Add script to show dashboard by default - after ExtentReports scripts load
-                setDashboardAsDefault();
+        synchronized (FLUSH_LOCK) {
+            try {
+                if (extentReports != null) {
+                    drainLogQueue();
+                    synchronized (REPORT_LOCK) {
+                        extentReports.flush();
+                    }
+                    publishSnapshot();
+                    finishedSinceFlush.set(0);
+                    logger.info("ExtentReports flushed successfully");
+                }
+            } catch (Exception e) {
+                logger.error("Failed to flush ExtentReports. Error: {}", e.getMessage());
             }
-        } catch (Exception e) {
-            logger.error("Failed to flush ExtentReports. Error: {}", e.getMessage());
         }
     }
 
     /**
-     * Sets dashboard as default view by adding a script after ExtentReports scripts
+     * Marks the current test as finished: streams it to the JSON-lines results file and
+     * requests a background flush once report.flushEveryTests tests have finished since the last flush
+     * Call after the final pass/fail/skip status has been logged
+     * The results line waits for the test's background attaches (screenshots, bundles, recordings)
+     */
+    public static void testFinished() {
+        ExtentTest test = extentTest.get();
+        List<CompletableFuture<Void>> attaches = pendingAttaches.get();
+        CompletableFuture<?>[] pending = attaches.toArray(new CompletableFuture<?>[0]);
+        attaches.clear();
+        if (test != null && resultStream != null) {
+            TestResultStream stream = resultStream;
+            boolean evict = Boolean.parseBoolean(DriverFactory.getProperty("report.evictFinishedTests", "false"));
+            // Queued behind the test's own log events and attaches, so the line contains all of them
+            Runnable finish = () -> submit(() -> {
+                stream.append(test);
+                if (evict) {
+                    extentReports.removeTest(test);
+                }
+            });
+            if (pending.length == 0) {
+                finish.run();
+            } else {
+                CompletableFuture<Void> finished = CompletableFuture.allOf(pending)
+                        .orTimeout(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                        .handle((ignored, error) -> {
+                            if (error != null) {
+                                logger.warn("Background attachments of {} not ready within {} seconds",
+                                        test.getModel().getName(), DRAIN_TIMEOUT_SECONDS);
+                            }
+                            finish.run();
+                            return null;
+                        });
+                pendingFinishes.add(finished);
+                finished.whenComplete((ignored, error) -> pendingFinishes.remove(finished));
+            }
+        }
+        int flushEvery = Integer.parseInt(DriverFactory.getProperty("report.flushEveryTests", "10"));
+        if (flushEvery > 0 && finishedSinceFlush.incrementAndGet() >= flushEvery) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * Hands a flush to the report flush thread so the finishing test does not wait for it;
+     * requests made while one is pending are coalesced
+     */
+    private static void requestFlush() {
+        ScheduledExecutorService scheduler = flushScheduler;
+        if (scheduler == null) {
+            flushReport();
+            return;
+        }
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> {
+                    flushRequested.set(false);
+                    flushReport();
+                });
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+                logger.warn("Report flush thread is not accepting work. Error: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Registers an additional post-processing stage applied to every published snapshot
+     * @param processor Streaming post-processor
+     */
+    public static void addPostProcessor(ReportPostProcessor processor) {
+        postProcessors.add(processor);
+    }
+
+    /**
+     * Gets the path of the published HTML report
+     * @return Report path, or null before the report is initialized
+     */
+    public static java.nio.file.Path getReportFile() {
+        return reportFile;
+    }
+
+    /**
+     * Streams the freshly flushed staging file through the post-processors and atomically
+     * replaces the published report with the result
+     */
+    private static void publishSnapshot() throws java.io.IOException {
+        if (stagingFile == null || !java.nio.file.Files.exists(stagingFile)) {
+            return;
+        }
+        postProcessors.publish(stagingFile, reportFile);
+    }
+
+    /**
+     * Starts the flush thread for time-based and test-count flushes and registers a shutdown hook
+     * so a terminated JVM still writes a snapshot
+     */
+    private static void startIncrementalFlush() {
+        long interval = Long.parseLong(DriverFactory.getProperty("report.flushIntervalSeconds", "30"));
+        int flushEvery = Integer.parseInt(DriverFactory.getProperty("report.flushEveryTests", "10"));
+        if (interval > 0 || flushEvery > 0) {
+            flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "extent-report-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        if (interval > 0) {
+            flushScheduler.scheduleWithFixedDelay(ExtentReportManager::flushReport, interval, interval, TimeUnit.SECONDS);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            flushReport();
+            if (resultStream != null) {
+                resultStream.close();
+            }
+        }, "extent-report-shutdown"));
+    }
+
+    /**
+     * Waits until all queued log events have been applied to the report
+     * @return true if the queue drained within the timeout (or async logging is off)
+     */
+    public static boolean drainLogQueue() {
+        awaitPendingFinishes();
+        ExtentLogQueue queue = logQueue;
+        if (queue == null) {
+            return true;
+        }
+        boolean drained = queue.awaitDrained(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (!drained) {
+            logger.warn("ExtentReports log queue did not drain within {} seconds", DRAIN_TIMEOUT_SECONDS);
+        }
+        if (queue.getDroppedCount() > 0) {
+            logger.warn("{} ExtentReports log events were dropped because the queue was full", queue.getDroppedCount());
+        }
+        return drained;
+    }
+
+    /**
+     * Waits until finished tests whose results line waits for background attaches have been queued
      */
-    private static void setDashboardAsDefault() {
+    private static void awaitPendingFinishes() {
+        if (pendingFinishes.isEmpty()) {
+            return;
+        }
         try {
-            String reportPath = DriverFactory.getReportPath();
-            java.io.File reportPathFile = new java.io.File(reportPath);
-            if (!reportPathFile.isAbsolute()) {
-                String userDir = System.getProperty("user.dir");
-                reportPath = userDir + "/" + reportPath;
+            CompletableFuture.allOf(pendingFinishes.toArray(new CompletableFuture<?>[0]))
+                    .get(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("Finished tests still waiting for background attachments. Error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Applies a report mutation on the background writer, or inline when async logging is disabled
+     * @param event Report mutation
+     */
+    private static void submit(Runnable event) {
+        ExtentLogQueue queue = getLogQueue();
+        if (queue != null) {
+            queue.submit(event);
+        } else {
+            synchronized (REPORT_LOCK) {
+                event.run();
             }
-            
-            java.io.File reportDir = new java.io.File(reportPath);
-            if (reportDir.exists() && reportDir.isDirectory()) {
-                java.io.File[] reportFiles = reportDir.listFiles((dir, name) -> 
-                    name.startsWith("ExtentReport_") && name.endsWith(".html"));
-                
-                if (reportFiles != null && reportFiles.length > 0) {
-                    java.util.Arrays.sort(reportFiles, (f1, f2) -> 
-                        Long.compare(f2.lastModified(), f1.lastModified()));
-                    java.io.File latestReport = reportFiles[0];
-                    
-                    String content = new String(java.nio.file.Files.readAllBytes(latestReport.toPath()), 
-                            java.nio.charset.StandardCharsets.UTF_8);
-                    
-                    // Check if our dashboard script already exists (look for the specific script pattern)
-                    // Don't match onclick attributes, only actual script tags
-                    boolean hasDashboardScript = (content.contains("window.addEventListener('load'") && 
-                                                  content.contains("toggleView('dashboard-view')") &&
-                                                  content.contains("initDashboard")) ||
-                                                 (content.contains("window.addEventListener(\"load\"") && 
-                                                  content.contains("toggleView(\"dashboard-view\")") &&
-                                                  content.contains("initDashboard"));
-                    
-                    // Only add if not already present and report has body tag and spark-script
-                    if (!hasDashboardScript && content.contains("</body>") && content.contains("spark-script.js")) {
-                        // Add script to show dashboard by default - must run after ExtentReports scripts load
-                        String scriptToAdd = "<script type=\"text/javascript\">" +
-                                "window.addEventListener('load', function() {" +
-                                "  setTimeout(function() {" +
-                                "    try {" +
-                                "      if (typeof toggleView === 'function') {" +
-                                "        toggleView('dashboard-view');" +
-                                "        var navDashboard = document.getElementById('nav-dashboard');" +
-                                "        var navTest = document.getElementById('nav-test');" +
-                                "        if (navDashboard) navDashboard.classList.add('active');" +
-                                "        if (navTest) navTest.classList.remove('active');" +
-                                "      }" +
-                                "    } catch(e) { console.error('Error setting dashboard view:', e); }" +
-                                "  }, 300);" +
-                                "});" +
-                                "</script>";
-                        
-                        // Insert before closing body tag
-                        content = content.replace("</body>", scriptToAdd + "</body>");
-                        java.nio.file.Files.write(latestReport.toPath(), content.getBytes(
-                                java.nio.charset.StandardCharsets.UTF_8));
-                        logger.info("✓ Added dashboard default script to: {}", latestReport.getName());
-                    } else if (hasDashboardScript) {
-                        logger.debug("Dashboard script already exists in report");
-                    }
+        }
+    }
+
+    private static ExtentLogQueue getLogQueue() {
+        ExtentLogQueue queue = logQueue;
+        if (queue == null && Boolean.parseBoolean(DriverFactory.getProperty("report.asyncLogging", "true"))) {
+            synchronized (ExtentReportManager.class) {
+                queue = logQueue;
+                if (queue == null) {
+                    int capacity = Integer.parseInt(DriverFactory.getProperty("report.logQueueCapacity", "10000"));
+                    ExtentLogQueue.OverflowPolicy policy = ExtentLogQueue.OverflowPolicy.valueOf(
+                            DriverFactory.getProperty("report.logQueueOverflow", "BLOCK").trim().toUpperCase());
+                    queue = new ExtentLogQueue(capacity, policy, REPORT_LOCK);
+                    logQueue = queue;
+                    logger.info("ExtentReports async logging enabled (capacity {}, overflow {})", capacity, policy);
                 }
             }
-        } catch (Exception e) {
-            logger.debug("Could not set dashboard as default: {}", e.getMessage());
         }
+        return queue;
     }
 
     /**
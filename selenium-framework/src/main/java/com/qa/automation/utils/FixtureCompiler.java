@@ -0,0 +1,94 @@
+package com.qa.automation.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * FixtureCompiler compiles the Excel and JSON files under a directory into binary fixtures (see
+ * FixtureStore) so test runs load them without parsing the source. Runs as a build step before the
+ * tests (mvn test, skipped with -Dfixtures.skip=true); files whose fixture is up to date are skipped
+ * and fixtures whose source was deleted are removed
+ */
+public final class FixtureCompiler {
+
+    private static final Logger logger = LogManager.getLogger(FixtureCompiler.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private FixtureCompiler() {
+    }
+
+    /**
+     * Entry point for the build step
+     * @param args Directory to compile, default test-data
+     */
+    public static void main(String[] args) throws IOException {
+        compile(Paths.get(args.length > 0 ? args[0] : "test-data"));
+    }
+
+    /**
+     * Compiles every .xlsx and .json file under a directory whose fixture is missing or out of date
+     * @param directory Root directory, searched recursively
+     * @return Number of fixtures written
+     */
+    public static int compile(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            logger.info("No test data directory at {}; nothing to compile", directory);
+            return 0;
+        }
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        int compiled = 0;
+        int upToDate = 0;
+        for (Path file : files) {
+            String name = file.getFileName().toString().toLowerCase();
+            if (name.endsWith(FixtureStore.EXTENSION)) {
+                removeOrphan(file);
+            } else if ((name.endsWith(".xlsx") && !name.startsWith("~$")) || name.endsWith(".json")) {
+                if (FixtureStore.isUpToDate(file)) {
+                    upToDate++;
+                } else if (compileFile(file)) {
+                    compiled++;
+                }
+            }
+        }
+        logger.info("Compiled {} fixtures under {} ({} up to date)", compiled, directory, upToDate);
+        return compiled;
+    }
+
+    private static boolean compileFile(Path file) {
+        long started = System.nanoTime();
+        try {
+            if (file.getFileName().toString().toLowerCase().endsWith(".xlsx")) {
+                FixtureStore.writeExcel(file, ExcelDataRepository.readWorkbook(file));
+            } else {
+                FixtureStore.writeJson(file, objectMapper.readTree(file.toFile()));
+            }
+            logger.info("Compiled fixture for {} in {} ms ({} -> {} bytes)", file, (System.nanoTime() - started) / 1_000_000,
+                    Files.size(file), Files.size(FixtureStore.fixturePath(file)));
+            return true;
+        } catch (Exception e) {
+            logger.error("Failed to compile fixture for {}. Error: {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    private static void removeOrphan(Path fixture) throws IOException {
+        String name = fixture.getFileName().toString();
+        Path source = fixture.resolveSibling(name.substring(0, name.length() - FixtureStore.EXTENSION.length()));
+        if (!Files.exists(source)) {
+            Files.delete(fixture);
+            logger.info("Removed fixture of deleted source: {}", fixture);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.qa.automation.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.qa.automation.base.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * FixtureStore reads and writes compiled test-data fixtures: a Smile-encoded copy of an Excel or JSON
+ * file, stored next to it as &lt;file&gt;.fixture (e.g. users.xlsx.fixture)
+ * A fixed 64-byte header records the source size, modification time and SHA-256, and a CRC32 of the
+ * payload. A fixture is used only when the source size matches and either the modification time or
+ * the SHA-256 matches (a checkout touches the time, not the content), and the payload CRC is intact.
+ * Fixtures are read through a memory-mapped buffer, so the payload is never copied onto the heap
+ */
+final class FixtureStore {
+
+    static final String EXTENSION = ".fixture";
+
+    private static final Logger logger = LogManager.getLogger(FixtureStore.class);
+    private static final int MAGIC = 0x51414658; // "QAFX"
+    private static final short FORMAT_VERSION = 1;
+    private static final byte KIND_EXCEL = 1;
+    private static final byte KIND_JSON = 2;
+    private static final int HEADER_BYTES = 64;
+    private static final SmileFactory smileFactory = SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+    private static final ObjectMapper smileMapper = new ObjectMapper(smileFactory);
+
+    private FixtureStore() {
+    }
+
+    /**
+     * Checks if repositories load compiled fixtures (data.fixtures.enabled, default true)
+     * @return true if fixtures are used when up to date
+     */
+    static boolean isEnabled() {
+        return Boolean.parseBoolean(DriverFactory.getProperty("data.fixtures.enabled", "true"));
+    }
+
+    /**
+     * Gets the fixture location of a source file
+     * @param source Excel or JSON file
+     * @return Path of the compiled fixture next to it
+     */
+    static Path fixturePath(Path source) {
+        return source.resolveSibling(source.getFileName() + EXTENSION);
+    }
+
+    /**
+     * Checks if a source has a fixture that can be used instead of it
+     * @param source Excel or JSON file
+     * @return true if the fixture exists and matches the source
+     */
+    static boolean isUpToDate(Path source) {
+        try {
+            return map(source, Files.readAttributes(source, BasicFileAttributes.class), kindOf(source)) != null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Loads the sheets of an Excel file from its fixture
+     * @param source Excel file
+     * @param attributes Current attributes of the source
+     * @return Sheets in workbook order, or null if there is no usable fixture
+     */
+    static Map<String, ExcelSheetData> readExcel(Path source, BasicFileAttributes attributes) {
+        ByteBuffer payload = map(source, attributes, KIND_EXCEL);
+        if (payload == null) {
+            return null;
+        }
+        long started = System.nanoTime();
+        try (JsonParser parser = smileFactory.createParser(new ByteBufferBackedInputStream(payload))) {
+            Map<String, ExcelSheetData> sheets = new LinkedHashMap<>();
+            expect(parser, JsonToken.START_ARRAY);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String name = null;
+                List<String> headers = new ArrayList<>();
+                List<String[]> rows = new ArrayList<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    parser.nextToken();
+                    if ("name".equals(field)) {
+                        name = parser.getText();
+                    } else if ("headers".equals(field)) {
+                        headers = readStrings(parser);
+                    } else if ("rows".equals(field)) {
+                        while (parser.nextToken() == JsonToken.START_ARRAY) {
+                            rows.add(readStrings(parser).toArray(new String[0]));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                sheets.put(name, new ExcelSheetData(name, headers, rows));
+            }
+            logger.info("Loaded Excel fixture: {} in {} ms", fixturePath(source), (System.nanoTime() - started) / 1_000_000);
+            return sheets;
+        } catch (IOException e) {
+            logger.warn("Failed to read Excel fixture: {}; using the source. Error: {}", fixturePath(source), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Loads the tree of a JSON file from its fixture
+     * @param source JSON file
+     * @param attributes Current attributes of the source
+     * @return Root node, or null if there is no usable fixture
+     */
+    static JsonNode readJson(Path source, BasicFileAttributes attributes) {
+        ByteBuffer payload = map(source, attributes, KIND_JSON);
+        if (payload == null) {
+            return null;
+        }
+        try (InputStream in = new ByteBufferBackedInputStream(payload)) {
+            JsonNode tree = smileMapper.readTree(in);
+            logger.info("Loaded JSON fixture: {}", fixturePath(source));
+            return tree;
+        } catch (IOException e) {
+            logger.warn("Failed to read JSON fixture: {}; using the source. Error: {}", fixturePath(source), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the fixture of an Excel file
+     * @param source Excel file the sheets were read from
+     * @param sheets Sheets in workbook order
+     */
+    static void writeExcel(Path source, Map<String, ExcelSheetData> sheets) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (JsonGenerator generator = smileFactory.createGenerator(payload)) {
+            generator.writeStartArray();
+            for (ExcelSheetData sheet : sheets.values()) {
+                generator.writeStartObject();
+                generator.writeStringField("name", sheet.getName());
+                generator.writeArrayFieldStart("headers");
+                for (String header : sheet.getHeaders()) {
+                    generator.writeString(header);
+                }
+                generator.writeEndArray();
+                generator.writeArrayFieldStart("rows");
+                for (int row = 0; row < sheet.getRowCount(); row++) {
+                    generator.writeStartArray();
+                    for (int column = 0; column < sheet.getHeaders().size(); column++) {
+                        generator.writeString(sheet.getValue(row, column));
+                    }
+                    generator.writeEndArray();
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        write(source, KIND_EXCEL, payload.toByteArray());
+    }
+
+    /**
+     * Writes the fixture of a JSON file
+     * @param source JSON file the tree was read from
+     * @param tree Parsed tree
+     */
+    static void writeJson(Path source, JsonNode tree) throws IOException {
+        write(source, KIND_JSON, smileMapper.writeValueAsBytes(tree));
+    }
+
+    private static void write(Path source, byte kind, byte[] payload) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(source, BasicFileAttributes.class);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putShort(FORMAT_VERSION).put(kind).put((byte) 0)
+                .putLong(attributes.size())
+                .putLong(attributes.lastModifiedTime().toMillis())
+                .put(sha256(source))
+                .putInt((int) crc.getValue())
+                .putInt(payload.length);
+        Path fixture = fixturePath(source);
+        Path temp = Files.createTempFile(fixture.toAbsolutePath().getParent(), fixture.getFileName().toString(), ".part");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            out.write(header.array());
+            out.write(payload);
+        }
+        Files.move(temp, fixture, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Maps a fixture and validates it against the source
+     * @return Read-only payload buffer, or null if the fixture is missing, stale or damaged
+     */
+    private static ByteBuffer map(Path source, BasicFileAttributes attributes, byte kind) {
+        Path fixture = fixturePath(source);
+        if (!Files.isRegularFile(fixture)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(fixture, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES || channel.size() > Integer.MAX_VALUE) {
+                logger.warn("Ignoring fixture with unexpected size: {}", fixture);
+                return null;
+            }
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION || buffer.get() != kind) {
+                logger.warn("Ignoring fixture with unknown format: {}", fixture);
+                return null;
+            }
+            buffer.get();
+            long sourceSize = buffer.getLong();
+            long sourceModifiedMillis = buffer.getLong();
+            byte[] sourceSha256 = new byte[32];
+            buffer.get(sourceSha256);
+            int payloadCrc = buffer.getInt();
+            int payloadLength = buffer.getInt();
+            if (sourceSize != attributes.size() || (sourceModifiedMillis != attributes.lastModifiedTime().toMillis()
+                    && !Arrays.equals(sourceSha256, sha256(source)))) {
+                logger.info("Fixture is out of date, using the source: {}", source);
+                return null;
+            }
+            if (payloadLength != buffer.remaining()) {
+                logger.warn("Ignoring truncated fixture: {}", fixture);
+                return null;
+            }
+            ByteBuffer payload = buffer.slice();
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != payloadCrc) {
+                logger.warn("Ignoring fixture with a bad checksum: {}", fixture);
+                return null;
+            }
+            return payload;
+        } catch (IOException e) {
+            logger.warn("Failed to map fixture: {}. Error: {}", fixture, e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte kindOf(Path source) {
+        return source.getFileName().toString().toLowerCase().endsWith(".xlsx") ? KIND_EXCEL : KIND_JSON;
+    }
+
+    private static List<String> readStrings(JsonParser parser) throws IOException {
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(parser.getText());
+        }
+        return values;
+    }
+
+    private static void expect(JsonParser parser, JsonToken token) throws IOException {
+        if (parser.nextToken() != token) {
+            throw new IOException("Expected " + token + " but found " + parser.currentToken());
+        }
+    }
+
+    private static byte[] sha256(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] chunk = new byte[64 * 1024];
+            for (int read = in.read(chunk); read > 0; read = in.read(chunk)) {
+                digest.update(chunk, 0, read);
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
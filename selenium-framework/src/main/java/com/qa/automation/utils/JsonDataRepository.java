@@ -0,0 +1,217 @@
+package com.qa.automation.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.qa.automation.base.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonDataRepository parses each JSON file once per JVM and answers path lookups from the cached tree
+ * Paths are compiled once into JsonPointers: dot paths with optional array indexes ("portal.users[2].email"
+ * or "portal.users.2.email") or JSON Pointers ("/portal/users/2/email"). A file is parsed again when its
+ * modification time or size changes, checked at most every 500 ms. Files larger than
+ * data.jsonStreamingThresholdBytes are never held as a tree: each new path is read with a single
+ * streaming pass that stops at the value, and the value is cached instead. A compiled fixture
+ * (FixtureStore) is loaded instead of the source when it is up to date. Safe for concurrent use
+ */
+public final class JsonDataRepository {
+
+    private static final Logger logger = LogManager.getLogger(JsonDataRepository.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Map<Path, CachedJson> cache = new ConcurrentHashMap<>();
+    private static final Map<String, JsonPointer> compiledPaths = new ConcurrentHashMap<>();
+    private static final long DEFAULT_STREAMING_THRESHOLD_BYTES = 64L * 1024 * 1024;
+    // Lookups within this interval of the last check skip the file stat
+    private static final long RECHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    /**
+     * One file: either its whole tree, or (streaming mode) the values looked up so far
+     */
+    private static final class CachedJson {
+        private final long lastModifiedMillis;
+        private final long size;
+        private final JsonNode tree;
+        private final Map<JsonPointer, JsonNode> streamedValues = new ConcurrentHashMap<>();
+        private volatile long checkedNanos = System.nanoTime();
+
+        CachedJson(BasicFileAttributes attributes, JsonNode tree) {
+            this.lastModifiedMillis = attributes.lastModifiedTime().toMillis();
+            this.size = attributes.size();
+            this.tree = tree;
+        }
+
+        boolean isRecentlyChecked() {
+            return System.nanoTime() - checkedNanos < RECHECK_INTERVAL_NANOS;
+        }
+
+        boolean isCurrent(BasicFileAttributes attributes) {
+            checkedNanos = System.nanoTime();
+            return lastModifiedMillis == attributes.lastModifiedTime().toMillis() && size == attributes.size();
+        }
+    }
+
+    private JsonDataRepository() {
+    }
+
+    /**
+     * Compiles a lookup path, caching the result
+     * @param path Dot path ("user.name", "users[0].email", "users.0.email") or JSON Pointer ("/users/0/email")
+     * @return Compiled pointer
+     * @throws IllegalArgumentException if the path is malformed
+     */
+    public static JsonPointer compilePath(String path) {
+        return compiledPaths.computeIfAbsent(path, JsonDataRepository::toPointer);
+    }
+
+    /**
+     * Gets the cached tree of a file; the tree is shared, so callers must not modify it
+     * @param filePath Path to the JSON file
+     * @return Root node, or null if the file cannot be read or is above the streaming threshold
+     */
+    public static JsonNode getTree(String filePath) {
+        CachedJson cached = load(filePath);
+        if (cached != null && cached.tree == null) {
+            logger.warn("JSON file: {} is above the streaming threshold; use path lookups instead", filePath);
+        }
+        return cached == null ? null : cached.tree;
+    }
+
+    /**
+     * Looks up a node
+     * @param filePath Path to the JSON file
+     * @param path Dot path or JSON Pointer
+     * @return Node at the path (shared, do not modify), or null if the file or path does not exist
+     */
+    public static JsonNode getNode(String filePath, String path) {
+        CachedJson cached = load(filePath);
+        if (cached == null) {
+            return null;
+        }
+        JsonPointer pointer = compilePath(path);
+        // A failed stream returns null, which computeIfAbsent does not store, so the next lookup retries
+        JsonNode node = cached.tree != null
+                ? cached.tree.at(pointer)
+                : cached.streamedValues.computeIfAbsent(pointer, key -> stream(key(filePath), key));
+        return node == null || node.isMissingNode() ? null : node;
+    }
+
+    /**
+     * Drops a file from the cache so the next lookup reads it again
+     * @param filePath Path to the JSON file
+     */
+    public static void invalidate(String filePath) {
+        cache.remove(key(filePath));
+    }
+
+    /**
+     * Drops all cached files
+     */
+    public static void clear() {
+        cache.clear();
+    }
+
+    private static CachedJson load(String filePath) {
+        Path path = key(filePath);
+        CachedJson recent = cache.get(path);
+        if (recent != null && recent.isRecentlyChecked()) {
+            return recent;
+        }
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            cache.remove(path);
+            logger.error("JSON file not found: {}", filePath);
+            return null;
+        }
+        if (recent != null && recent.isCurrent(attributes)) {
+            return recent;
+        }
+        // compute() serializes parsing per file; a failed parse leaves no entry so the next call retries
+        return cache.compute(path, (ignored, current) ->
+                current != null && current.isCurrent(attributes) ? current : parse(path, attributes));
+    }
+
+    private static CachedJson parse(Path path, BasicFileAttributes attributes) {
+        long threshold = Long.parseLong(DriverFactory.getProperty("data.jsonStreamingThresholdBytes",
+                String.valueOf(DEFAULT_STREAMING_THRESHOLD_BYTES)));
+        if (attributes.size() > threshold) {
+            logger.info("JSON file: {} ({} bytes) is above the streaming threshold; lookups stream the file",
+                    path, attributes.size());
+            return new CachedJson(attributes, null);
+        }
+        long started = System.nanoTime();
+        try {
+            JsonNode tree = FixtureStore.isEnabled() ? FixtureStore.readJson(path, attributes) : null;
+            if (tree == null) {
+                tree = objectMapper.readTree(path.toFile());
+                logger.info("Parsed JSON file: {} in {} ms", path, (System.nanoTime() - started) / 1_000_000);
+            }
+            return new CachedJson(attributes, tree);
+        } catch (IOException e) {
+            logger.error("Failed to read JSON file: {}. Error: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Reads one value with a filtering parser; the rest of the document is skipped without building nodes
+     * @return Value, MissingNode if the pointer is not present, or null if the file cannot be read
+     */
+    private static JsonNode stream(Path path, JsonPointer pointer) {
+        try (JsonParser parser = new FilteringParserDelegate(objectMapper.getFactory().createParser(path.toFile()),
+                new JsonPointerBasedFilter(pointer), TokenFilter.Inclusion.ONLY_INCLUDE_ALL, false)) {
+            if (parser.nextToken() == null) {
+                return MissingNode.getInstance();
+            }
+            JsonNode node = objectMapper.readTree(parser);
+            return node == null ? MissingNode.getInstance() : node;
+        } catch (IOException e) {
+            logger.error("Failed to stream JSON file: {} for {}. Error: {}", path, pointer, e.getMessage());
+            return null;
+        }
+    }
+
+    private static JsonPointer toPointer(String path) {
+        if (path.isEmpty() || path.startsWith("/")) {
+            return JsonPointer.compile(path);
+        }
+        StringBuilder pointer = new StringBuilder();
+        for (String part : path.split("\\.")) {
+            int bracket = part.indexOf('[');
+            String name = bracket < 0 ? part : part.substring(0, bracket);
+            if (!name.isEmpty()) {
+                pointer.append('/').append(name.replace("~", "~0").replace("/", "~1"));
+            }
+            while (bracket >= 0) {
+                int close = part.indexOf(']', bracket);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Unclosed [ in JSON path: " + path);
+                }
+                pointer.append('/').append(Integer.parseInt(part.substring(bracket + 1, close).trim()));
+                bracket = part.indexOf('[', close);
+            }
+        }
+        return JsonPointer.compile(pointer.toString());
+    }
+
+    private static Path key(String filePath) {
+        return Paths.get(filePath).toAbsolutePath().normalize();
+    }
+}
@@ -0,0 +1,340 @@
+package com.qa.automation.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.qa.automation.base.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * LazyDataProvider feeds rows from an Excel, CSV or JSON file to a TestNG @DataProvider without loading
+ * the file first: rows are read, filtered, sampled and mapped one at a time as TestNG pulls them
+ * <pre>
+ * &#64;DataProvider(name = "signupMatrix", parallel = true)
+ * public Iterator&lt;Object[]&gt; signupMatrix() {
+ *     return LazyDataProvider.from("testdata/signup.xlsx#Users")
+ *             .filter("role == Patient &amp;&amp; age &gt;= 18")
+ *             .sample("every 10")
+ *             .as(SignupRow.class)
+ *             .iterator();
+ * }
+ * </pre>
+ * The iterator is thread-safe. With parallel = true TestNG (7.x) drains it to build its invocation list
+ * before the pool starts, so the first invocation waits for the last row; without it the first
+ * invocation starts as soon as the first row is read. The data-provider-thread-count suite attribute
+ * sets the pool size. data.sample applies a sampling expression to every provider that sets none,
+ * e.g. -Ddata.sample="first 20" for a smoke run
+ */
+public final class LazyDataProvider {
+
+    private static final Logger logger = LogManager.getLogger(LazyDataProvider.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final CsvMapper csvMapper = new CsvMapper();
+
+    private final String description;
+    private final SourceOpener opener;
+    private RowFilter filter;
+    private String sampleExpression;
+    private Class<?> type;
+
+    /**
+     * Opens the underlying rows; called once per iterator()
+     */
+    private interface SourceOpener {
+        RowSource open() throws IOException;
+    }
+
+    private static final class RowSource {
+        private final Iterator<? extends Map<String, ?>> rows;
+        private final AutoCloseable closeable;
+
+        RowSource(Iterator<? extends Map<String, ?>> rows, AutoCloseable closeable) {
+            this.rows = rows;
+            this.closeable = closeable;
+        }
+    }
+
+    private LazyDataProvider(String description, SourceOpener opener) {
+        this.description = description;
+        this.opener = opener;
+    }
+
+    /**
+     * Rows of an Excel sheet, read with ExcelStreamReader
+     * @param filePath Path to the .xlsx file
+     * @param sheetName Name of the sheet, or null for the first sheet
+     * @return LazyDataProvider instance for Fluent pattern
+     */
+    public static LazyDataProvider excel(String filePath, String sheetName) {
+        return new LazyDataProvider(filePath + (sheetName == null ? "" : "#" + sheetName), () -> {
+            ExcelStreamReader reader = ExcelStreamReader.open(filePath, sheetName);
+            return new RowSource(reader, reader);
+        });
+    }
+
+    /**
+     * Rows of a CSV file with a header line
+     * @param filePath Path to the .csv file
+     * @return LazyDataProvider instance for Fluent pattern
+     */
+    public static LazyDataProvider csv(String filePath) {
+        return new LazyDataProvider(filePath, () -> {
+            MappingIterator<Map<String, String>> rows = csvMapper.readerFor(Map.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .with(CsvParser.Feature.TRIM_SPACES)
+                    .readValues(new File(filePath));
+            return new RowSource(rows, rows);
+        });
+    }
+
+    /**
+     * Objects of a JSON file whose root is an array, or of a JSON Lines file
+     * @param filePath Path to the .json or .jsonl file
+     * @return LazyDataProvider instance for Fluent pattern
+     */
+    public static LazyDataProvider json(String filePath) {
+        return json(filePath, null);
+    }
+
+    /**
+     * Objects of an array inside a JSON file, e.g. "/users" or "/portal/doctors"
+     * Only the array is materialized row by row; the rest of the document is skipped while parsing
+     * @param filePath Path to the .json file
+     * @param arrayPointer JSON Pointer to the array, or null for a root array or JSON Lines
+     * @return LazyDataProvider instance for Fluent pattern
+     */
+    public static LazyDataProvider json(String filePath, String arrayPointer) {
+        return new LazyDataProvider(filePath + (arrayPointer == null ? "" : "#" + arrayPointer), () -> {
+            JsonParser parser = objectMapper.getFactory().createParser(new File(filePath));
+            if (arrayPointer != null) {
+                parser = new FilteringParserDelegate(parser, new JsonPointerBasedFilter(JsonPointer.compile(arrayPointer)),
+                        TokenFilter.Inclusion.ONLY_INCLUDE_ALL, false);
+            }
+            return new RowSource(new JsonObjectIterator(parser), parser);
+        });
+    }
+
+    /**
+     * Picks the source from a spec: "file.xlsx#Sheet", "file.csv", "file.json" or "file.json#/pointer"
+     * @param spec File path, optionally followed by # and a sheet name or JSON Pointer
+     * @return LazyDataProvider instance for Fluent pattern
+     */
+    public static LazyDataProvider from(String spec) {
+        int hash = spec.indexOf('#');
+        String filePath = hash < 0 ? spec : spec.substring(0, hash);
+        String fragment = hash < 0 ? null : spec.substring(hash + 1);
+        String lowerPath = filePath.toLowerCase();
+        if (lowerPath.endsWith(".xlsx")) {
+            return excel(filePath, fragment);
+        } else if (lowerPath.endsWith(".csv")) {
+            return csv(filePath);
+        } else if (lowerPath.endsWith(".json") || lowerPath.endsWith(".jsonl")) {
+            return json(filePath, fragment);
+        }
+        throw new IllegalArgumentException("Unsupported data file type: " + spec);
+    }
+
+    /**
+     * Keeps only rows matching a filter expression, e.g. "role == Patient &amp;&amp; age &gt;= 18"
+     * @param expression Conditions field op value with ==, !=, &lt;, &lt;=, &gt;, &gt;=, =~ or !~,
+     *                   combined with &amp;&amp; and ||
+     * @return LazyDataProvider instance for Fluent pattern
+     */
+    public LazyDataProvider filter(String expression) {
+        this.filter = RowFilter.parse(expression);
+        return this;
+    }
+
+    /**
+     * Uses a sample of the (filtered) rows, e.g. "first 100", "every 10", "rows 20-29" or "5% seed 7"
+     * @param expression Comma-separated sampling steps, applied in order
+     * @return LazyDataProvider instance for Fluent pattern
+     */
+    public LazyDataProvider sample(String expression) {
+        RowSampler.parse(expression);
+        this.sampleExpression = expression;
+        return this;
+    }
+
+    /**
+     * Maps each row to a POJO through Jackson; string cells are coerced to the field types and unknown
+     * columns are ignored. Without it the test receives the row Map
+     * @param type Target class
+     * @return LazyDataProvider instance for Fluent pattern
+     */
+    public LazyDataProvider as(Class<?> type) {
+        this.type = type;
+        return this;
+    }
+
+    /**
+     * Opens the source and returns the lazy parameter iterator; each element holds one row
+     * @return Thread-safe iterator of one-element parameter arrays, closed after the last row
+     */
+    public Iterator<Object[]> iterator() {
+        String expression = sampleExpression != null ? sampleExpression : DriverFactory.getProperty("data.sample", "");
+        RowSampler sampler = expression.trim().isEmpty() ? null : RowSampler.parse(expression);
+        try {
+            logger.info("Opening data provider source: {} (filter: {}, sample: {})", description, filter, sampler);
+            return new RowIterator(opener.open(), sampler);
+        } catch (IOException e) {
+            logger.error("Failed to open data provider source: {}. Error: {}", description, e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the objects of the top-level array, or the top-level objects of a JSON Lines file, one at a time
+     */
+    private static final class JsonObjectIterator implements Iterator<Map<String, Object>> {
+        private final JsonParser parser;
+        private Map<String, Object> next;
+        private boolean done;
+
+        JsonObjectIterator(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                next = read();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Map<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map<String, Object> current = next;
+            next = null;
+            return current;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map<String, Object> read() {
+            try {
+                for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                    if (token == JsonToken.START_OBJECT) {
+                        return objectMapper.readValue(parser, Map.class);
+                    }
+                    if (token != JsonToken.START_ARRAY && token != JsonToken.END_ARRAY) {
+                        throw new IOException("Expected JSON objects but found " + token);
+                    }
+                }
+                done = true;
+                return null;
+            } catch (IOException e) {
+                done = true;
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private final class RowIterator implements Iterator<Object[]> {
+        private final RowSource source;
+        private final RowSampler sampler;
+        private Object[] next;
+        private boolean closed;
+        private long read;
+        private long yielded;
+
+        RowIterator(RowSource source, RowSampler sampler) {
+            this.source = source;
+            this.sampler = sampler;
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            if (next == null && !closed) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more rows in " + description);
+            }
+            Object[] current = next;
+            next = null;
+            return current;
+        }
+
+        private Object[] advance() {
+            try {
+                while (source.rows.hasNext()) {
+                    Map<String, ?> row = source.rows.next();
+                    long rowIndex = read++;
+                    if (filter != null && !filter.test(row)) {
+                        continue;
+                    }
+                    RowSampler.Decision decision = sampler == null ? RowSampler.Decision.TAKE : sampler.next();
+                    if (decision == RowSampler.Decision.STOP) {
+                        break;
+                    }
+                    if (decision == RowSampler.Decision.SKIP) {
+                        continue;
+                    }
+                    Object value = toParameter(row, rowIndex);
+                    if (value != null) {
+                        yielded++;
+                        return new Object[]{value};
+                    }
+                }
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+            close();
+            return null;
+        }
+
+        private Object toParameter(Map<String, ?> row, long rowIndex) {
+            if (type == null) {
+                return row;
+            }
+            try {
+                return objectMapper.convertValue(row, type);
+            } catch (IllegalArgumentException e) {
+                logger.error("Skipping row {} of {}: cannot map to {}. Error: {}",
+                        rowIndex, description, type.getSimpleName(), e.getMessage());
+                return null;
+            }
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                source.closeable.close();
+            } catch (Exception e) {
+                logger.warn("Failed to close data provider source: {}. Error: {}", description, e.getMessage());
+            }
+            logger.info("Data provider source {} yielded {} of {} rows read", description, yielded, read);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.qa.automation.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * ReportPostProcessingPipeline streams a freshly flushed report through the registered post-processors
+ * into a temporary file and atomically renames it over the published report
+ */
+public class ReportPostProcessingPipeline {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final List<ReportPostProcessor> processors = new CopyOnWriteArrayList<>();
+
+    /**
+     * Appends a stage; stages run in registration order
+     * @param processor Post-processor to add
+     * @return This pipeline
+     */
+    public ReportPostProcessingPipeline add(ReportPostProcessor processor) {
+        processors.add(processor);
+        return this;
+    }
+
+    /**
+     * Processes the source report and publishes it at the target path; the source is consumed
+     * @param source Report written by ExtentReports
+     * @param target Published report path
+     * @throws IOException if reading, writing or renaming fails
+     */
+    public void publish(Path source, Path target) throws IOException {
+        if (processors.isEmpty()) {
+            move(source, target);
+            return;
+        }
+        Path partial = source.resolveSibling(source.getFileName() + ".part");
+        try (InputStream in = Files.newInputStream(source);
+             OutputStream out = chain(new BufferedOutputStream(Files.newOutputStream(partial), BUFFER_SIZE))) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+        move(partial, target);
+        Files.deleteIfExists(source);
+    }
+
+    private OutputStream chain(OutputStream sink) throws IOException {
+        OutputStream out = sink;
+        for (int i = processors.size() - 1; i >= 0; i--) {
+            out = processors.get(i).wrap(out);
+        }
+        return out;
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
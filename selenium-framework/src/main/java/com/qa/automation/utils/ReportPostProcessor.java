@@ -0,0 +1,20 @@
+package com.qa.automation.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * ReportPostProcessor is one stage of the report post-processing pipeline
+ * A stage wraps the stream of the next stage and transforms the report bytes as they pass through,
+ * so reports of any size are processed with bounded memory
+ */
+public interface ReportPostProcessor {
+
+    /**
+     * Wraps the downstream stage; closing the returned stream must write any held bytes and close downstream
+     * @param downstream Stream of the next stage (or the output file)
+     * @return Stream the previous stage writes into
+     * @throws IOException if the stage cannot be set up
+     */
+    OutputStream wrap(OutputStream downstream) throws IOException;
+}
@@ -0,0 +1,167 @@
+package com.qa.automation.utils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * RowFilter evaluates a row filter expression such as {@code role == Patient && age >= 18}
+ * Conditions are {@code field op value} with ==, !=, <, <=, >, >=, =~ (regex match) or !~; values
+ * compare as numbers when both sides are numeric. && binds tighter than ||. Values may be quoted with
+ * ' or " and fields may be dotted paths into nested JSON objects
+ */
+final class RowFilter implements Predicate<Map<String, ?>> {
+
+    private static final Pattern CONDITION = Pattern.compile("^\\s*([\\w.\\-]+)\\s*(==|!=|>=|<=|=~|!~|>|<)\\s*(.*?)\\s*$");
+
+    private final String expression;
+    private final List<List<Condition>> alternatives = new ArrayList<>();
+
+    private static final class Condition {
+        private final String field;
+        private final String operator;
+        private final String value;
+        private final Pattern pattern;
+        private final BigDecimal number;
+
+        Condition(String field, String operator, String value) {
+            this.field = field;
+            this.operator = operator;
+            this.value = value;
+            this.pattern = operator.endsWith("~") ? Pattern.compile(value) : null;
+            this.number = toNumber(value);
+        }
+
+        boolean test(Map<String, ?> row) {
+            String actual = lookup(row, field);
+            if (pattern != null) {
+                return pattern.matcher(actual).matches() == operator.equals("=~");
+            }
+            BigDecimal actualNumber = number == null ? null : toNumber(actual);
+            int comparison = actualNumber != null ? actualNumber.compareTo(number) : actual.compareTo(value);
+            switch (operator) {
+                case "==":
+                    return comparison == 0;
+                case "!=":
+                    return comparison != 0;
+                case ">":
+                    return comparison > 0;
+                case ">=":
+                    return comparison >= 0;
+                case "<":
+                    return comparison < 0;
+                default:
+                    return comparison <= 0;
+            }
+        }
+    }
+
+    private RowFilter(String expression) {
+        this.expression = expression;
+        for (String alternative : split(expression, "||")) {
+            List<Condition> conditions = new ArrayList<>();
+            for (String condition : split(alternative, "&&")) {
+                Matcher matcher = CONDITION.matcher(condition);
+                if (!matcher.matches()) {
+                    throw new IllegalArgumentException("Invalid filter condition: '" + condition.trim()
+                            + "' in: " + expression);
+                }
+                conditions.add(new Condition(matcher.group(1), matcher.group(2), unquote(matcher.group(3))));
+            }
+            alternatives.add(conditions);
+        }
+    }
+
+    /**
+     * Parses a filter expression
+     * @param expression Filter expression
+     * @return Filter
+     * @throws IllegalArgumentException if the expression is malformed
+     */
+    static RowFilter parse(String expression) {
+        return new RowFilter(expression);
+    }
+
+    @Override
+    public boolean test(Map<String, ?> row) {
+        for (List<Condition> conditions : alternatives) {
+            boolean matches = true;
+            for (Condition condition : conditions) {
+                if (!condition.test(row)) {
+                    matches = false;
+                    break;
+                }
+            }
+            if (matches) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * Gets a field as text; missing fields read as ""
+     */
+    private static String lookup(Map<String, ?> row, String field) {
+        Object value = row.get(field);
+        if (value == null && field.indexOf('.') > 0) {
+            Object current = row;
+            for (String part : field.split("\\.")) {
+                current = current instanceof Map ? ((Map<?, ?>) current).get(part) : null;
+            }
+            value = current;
+        }
+        return value == null ? "" : String.valueOf(value);
+    }
+
+    private static BigDecimal toNumber(String text) {
+        if (text.isEmpty() || !(Character.isDigit(text.charAt(text.length() - 1)))) {
+            return null;
+        }
+        try {
+            return new BigDecimal(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && (value.charAt(0) == '\'' || value.charAt(0) == '"')
+                && value.charAt(value.length() - 1) == value.charAt(0)) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    /**
+     * Splits on a two-character operator outside quotes
+     */
+    private static List<String> split(String text, String separator) {
+        List<String> parts = new ArrayList<>();
+        char quote = 0;
+        int start = 0;
+        for (int index = 0; index < text.length(); index++) {
+            char current = text.charAt(index);
+            if (quote != 0) {
+                quote = current == quote ? 0 : quote;
+            } else if (current == '\'' || current == '"') {
+                quote = current;
+            } else if (text.startsWith(separator, index)) {
+                parts.add(text.substring(start, index));
+                start = index + separator.length();
+                index++;
+            }
+        }
+        parts.add(text.substring(start));
+        return parts;
+    }
+}
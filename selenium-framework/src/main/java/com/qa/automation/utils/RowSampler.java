@@ -0,0 +1,97 @@
+package com.qa.automation.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * RowSampler decides row by row which rows of a data source are used, without looking ahead
+ * Expressions are comma-separated steps applied in order to the rows that pass the previous step:
+ * {@code first 100}, {@code every 10}, {@code rows 20-29} (0-based, inclusive) and {@code 5%} or
+ * {@code 5% seed 7} (seeded, so a run can be repeated). Example: {@code every 10, first 50}
+ * Not thread-safe; the caller serializes access
+ */
+final class RowSampler {
+
+    private static final Pattern FIRST = Pattern.compile("first\\s+(\\d+)");
+    private static final Pattern EVERY = Pattern.compile("every\\s+(\\d+)");
+    private static final Pattern RANGE = Pattern.compile("rows\\s+(\\d+)\\s*-\\s*(\\d+)");
+    private static final Pattern PERCENT = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*%(?:\\s+seed\\s+(-?\\d+))?");
+    private static final long DEFAULT_SEED = 1L;
+
+    enum Decision { TAKE, SKIP, STOP }
+
+    private interface Step {
+        Decision next();
+    }
+
+    private final String expression;
+    private final List<Step> steps = new ArrayList<>();
+
+    private RowSampler(String expression) {
+        this.expression = expression;
+        for (String part : expression.split(",")) {
+            steps.add(parseStep(part.trim().toLowerCase()));
+        }
+    }
+
+    /**
+     * Parses a sampling expression
+     * @param expression Sampling expression
+     * @return Sampler with fresh counters
+     * @throws IllegalArgumentException if the expression is malformed
+     */
+    static RowSampler parse(String expression) {
+        return new RowSampler(expression);
+    }
+
+    /**
+     * Decides for the next candidate row
+     * @return TAKE to use the row, SKIP to drop it, STOP when no later row can be taken
+     */
+    Decision next() {
+        for (Step step : steps) {
+            Decision decision = step.next();
+            if (decision != Decision.TAKE) {
+                return decision;
+            }
+        }
+        return Decision.TAKE;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private Step parseStep(String step) {
+        Matcher matcher;
+        if ((matcher = FIRST.matcher(step)).matches()) {
+            long limit = Long.parseLong(matcher.group(1));
+            long[] seen = new long[1];
+            return () -> seen[0]++ < limit ? Decision.TAKE : Decision.STOP;
+        }
+        if ((matcher = EVERY.matcher(step)).matches()) {
+            long interval = Math.max(1, Long.parseLong(matcher.group(1)));
+            long[] seen = new long[1];
+            return () -> seen[0]++ % interval == 0 ? Decision.TAKE : Decision.SKIP;
+        }
+        if ((matcher = RANGE.matcher(step)).matches()) {
+            long from = Long.parseLong(matcher.group(1));
+            long to = Long.parseLong(matcher.group(2));
+            long[] seen = new long[1];
+            return () -> {
+                long index = seen[0]++;
+                return index < from ? Decision.SKIP : index <= to ? Decision.TAKE : Decision.STOP;
+            };
+        }
+        if ((matcher = PERCENT.matcher(step)).matches()) {
+            double fraction = Double.parseDouble(matcher.group(1)) / 100;
+            Random random = new Random(matcher.group(2) == null ? DEFAULT_SEED : Long.parseLong(matcher.group(2)));
+            return () -> random.nextDouble() < fraction ? Decision.TAKE : Decision.SKIP;
+        }
+        throw new IllegalArgumentException("Invalid sampling step: '" + step + "' in: " + expression);
+    }
+}
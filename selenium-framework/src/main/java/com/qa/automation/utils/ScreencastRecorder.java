@@ -0,0 +1,311 @@
+package com.qa.automation.utils;
+
+import com.qa.automation.base.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.IndexColorModel;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScreencastRecorder keeps the last few seconds of a Chromium session as JPEG frames
+ * Frames come from the CDP Page.screencastFrame event and live in a ring buffer bounded by time
+ * (recording.bufferSeconds), frame rate (recording.fps) and size (recording.maxBufferMb).
+ * On failure the buffer is encoded as an animated GIF in the background and attached to the report;
+ * on success it is simply dropped. Browsers without DevTools are skipped.
+ */
+public class ScreencastRecorder {
+
+    private static final Logger logger = LogManager.getLogger(ScreencastRecorder.class);
+    private static final String RECORDING_DIR = "test-output/recordings/";
+    private static final ThreadLocal<ScreencastRecorder> current = new ThreadLocal<>();
+    private static final IndexColorModel WEB_PALETTE = webPalette();
+    private static final ExecutorService encoder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "screencast-encoder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final DevTools devTools;
+    private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+    private final long windowNanos;
+    private final long minFrameGapNanos;
+    private final long maxBufferBytes;
+    private long bufferedBytes;
+    private volatile boolean active;
+
+    private static final class Frame {
+        private final byte[] jpeg;
+        private final long receivedNanos;
+
+        Frame(byte[] jpeg, long receivedNanos) {
+            this.jpeg = jpeg;
+            this.receivedNanos = receivedNanos;
+        }
+    }
+
+    private ScreencastRecorder(DevTools devTools) {
+        this.devTools = devTools;
+        this.windowNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(DriverFactory.getProperty("recording.bufferSeconds", "10")));
+        this.minFrameGapNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, Integer.parseInt(DriverFactory.getProperty("recording.fps", "5")));
+        this.maxBufferBytes = Long.parseLong(DriverFactory.getProperty("recording.maxBufferMb", "16")) * 1024 * 1024;
+    }
+
+    /**
+     * Starts recording the given driver on the current thread, if enabled and supported
+     * @param driver Driver of the current test
+     */
+    public static void start(WebDriver driver) {
+        if (!Boolean.parseBoolean(DriverFactory.getProperty("recording.enabled", "true"))) {
+            return;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            logger.debug("Screencast recording skipped: driver has no DevTools");
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            ScreencastRecorder recorder = new ScreencastRecorder(devTools);
+            recorder.begin();
+            current.set(recorder);
+        } catch (Exception e) {
+            logger.warn("Screencast recording not available. Error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Encodes the buffered frames of the current thread's recording into an animated GIF in the background
+     * @param name Name of the recording file (without extension)
+     * @return Future of the relative path of the GIF, or null if nothing was recorded (recording off,
+     *         no DevTools or no frames yet)
+     */
+    public static CompletableFuture<String> saveRecording(String name) {
+        ScreencastRecorder recorder = current.get();
+        if (recorder == null) {
+            return null;
+        }
+        List<Frame> snapshot = recorder.snapshot();
+        if (snapshot.isEmpty()) {
+            return null;
+        }
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss_SSS").format(new Date());
+        String fileName = name + "_" + timestamp + ".gif";
+        return CompletableFuture.supplyAsync(() -> encodeGif(snapshot, fileName), encoder);
+    }
+
+    /**
+     * Stops the current thread's recording and drops its buffer without any I/O
+     * Also removes the DevTools event listeners of the session, so call it when the session is torn down
+     */
+    public static void discard() {
+        ScreencastRecorder recorder = current.get();
+        current.remove();
+        if (recorder != null) {
+            recorder.end();
+        }
+    }
+
+    private void begin() {
+        active = true;
+        devTools.addListener(new Event<>("Page.screencastFrame", input -> input.<Map<String, Object>>read(Json.MAP_TYPE)),
+                this::onFrame);
+        Map<String, Object> params = new HashMap<>();
+        params.put("format", "jpeg");
+        params.put("quality", Integer.parseInt(DriverFactory.getProperty("recording.jpegQuality", "50")));
+        params.put("maxWidth", Integer.parseInt(DriverFactory.getProperty("recording.maxWidth", "960")));
+        params.put("maxHeight", Integer.parseInt(DriverFactory.getProperty("recording.maxHeight", "960")));
+        devTools.send(new Command<>("Page.startScreencast", params));
+        logger.debug("Screencast recording started");
+    }
+
+    private void end() {
+        active = false;
+        synchronized (frames) {
+            frames.clear();
+            bufferedBytes = 0;
+        }
+        try {
+            devTools.send(new Command<>("Page.stopScreencast", new HashMap<>()));
+        } catch (Exception e) {
+            logger.debug("Could not stop screencast: {}", e.getMessage());
+        }
+        // DevTools can only drop all listeners at once; this releases the Page.screencastFrame listener and
+        // with it the recorder
+        try {
+            devTools.clearListeners();
+        } catch (Exception e) {
+            logger.debug("Could not remove screencast listener: {}", e.getMessage());
+        }
+    }
+
+    private void onFrame(Map<String, Object> event) {
+        Object sessionId = event.get("sessionId");
+        if (sessionId != null) {
+            // Chrome sends the next frame only after this one is acknowledged
+            Map<String, Object> ack = new HashMap<>();
+            ack.put("sessionId", sessionId);
+            try {
+                devTools.send(new Command<Void>("Page.screencastFrameAck", ack).doesNotSendResponse());
+            } catch (Exception e) {
+                logger.debug("Could not acknowledge screencast frame: {}", e.getMessage());
+            }
+        }
+        if (!active || !(event.get("data") instanceof String)) {
+            return;
+        }
+        long now = System.nanoTime();
+        synchronized (frames) {
+            Frame last = frames.peekLast();
+            if (last != null && now - last.receivedNanos < minFrameGapNanos) {
+                return;
+            }
+            byte[] jpeg = Base64.getDecoder().decode((String) event.get("data"));
+            frames.addLast(new Frame(jpeg, now));
+            bufferedBytes += jpeg.length;
+            while (!frames.isEmpty() && (now - frames.peekFirst().receivedNanos > windowNanos || bufferedBytes > maxBufferBytes)) {
+                bufferedBytes -= frames.removeFirst().jpeg.length;
+            }
+        }
+    }
+
+    private List<Frame> snapshot() {
+        synchronized (frames) {
+            return new ArrayList<>(frames);
+        }
+    }
+
+    private static String encodeGif(List<Frame> frames, String fileName) {
+        Path target = Paths.get(System.getProperty("user.dir"), RECORDING_DIR, fileName);
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+        try {
+            Files.createDirectories(target.getParent());
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+                writer.setOutput(out);
+                writer.prepareWriteSequence(null);
+                for (int i = 0; i < frames.size(); i++) {
+                    BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(frames.get(i).jpeg));
+                    if (decoded == null) {
+                        continue;
+                    }
+                    BufferedImage image = toWebPalette(decoded);
+                    long gapNanos = i + 1 < frames.size()
+                            ? frames.get(i + 1).receivedNanos - frames.get(i).receivedNanos : TimeUnit.SECONDS.toNanos(2);
+                    writer.writeToSequence(new IIOImage(image, null, frameMetadata(writer, image, gapNanos, i == 0)), null);
+                }
+                writer.endWriteSequence();
+            }
+            logger.info("Screencast recording saved: {} ({} frames)", target, frames.size());
+            return RECORDING_DIR + fileName;
+        } catch (IOException e) {
+            logger.error("Failed to encode screencast recording: {}. Error: {}", fileName, e.getMessage());
+            return null;
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * Maps a frame onto the fixed 216-colour web palette
+     * Much faster than letting the GIF writer build a palette per frame, and good enough for UI recordings
+     */
+    private static BufferedImage toWebPalette(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        BufferedImage indexed = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_INDEXED, WEB_PALETTE);
+        byte[] target = ((DataBufferByte) indexed.getRaster().getDataBuffer()).getData();
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            int offset = y * width;
+            for (int x = 0; x < width; x++) {
+                int rgb = row[x];
+                int red = (((rgb >> 16) & 0xFF) * 5 + 127) / 255;
+                int green = (((rgb >> 8) & 0xFF) * 5 + 127) / 255;
+                int blue = ((rgb & 0xFF) * 5 + 127) / 255;
+                target[offset + x] = (byte) (red * 36 + green * 6 + blue);
+            }
+        }
+        return indexed;
+    }
+
+    private static IndexColorModel webPalette() {
+        byte[] reds = new byte[216];
+        byte[] greens = new byte[216];
+        byte[] blues = new byte[216];
+        for (int i = 0; i < 216; i++) {
+            reds[i] = (byte) (i / 36 * 51);
+            greens[i] = (byte) (i / 6 % 6 * 51);
+            blues[i] = (byte) (i % 6 * 51);
+        }
+        return new IndexColorModel(8, 216, reds, greens, blues);
+    }
+
+    private static IIOMetadata frameMetadata(ImageWriter writer, BufferedImage image, long delayNanos, boolean first)
+            throws IOException {
+        IIOMetadata metadata = writer.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(image), null);
+        String format = metadata.getNativeMetadataFormatName();
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(format);
+
+        IIOMetadataNode control = child(root, "GraphicControlExtension");
+        control.setAttribute("disposalMethod", "none");
+        control.setAttribute("userInputFlag", "FALSE");
+        control.setAttribute("transparentColorFlag", "FALSE");
+        control.setAttribute("transparentColorIndex", "0");
+        // GIF delays are in hundredths of a second
+        control.setAttribute("delayTime", String.valueOf(Math.max(2, TimeUnit.NANOSECONDS.toMillis(delayNanos) / 10)));
+
+        if (first) {
+            // NETSCAPE2.0 extension: loop forever
+            IIOMetadataNode application = new IIOMetadataNode("ApplicationExtension");
+            application.setAttribute("applicationID", "NETSCAPE");
+            application.setAttribute("authenticationCode", "2.0");
+            application.setUserObject(new byte[]{1, 0, 0});
+            child(root, "ApplicationExtensions").appendChild(application);
+        }
+        metadata.setFromTree(format, root);
+        return metadata;
+    }
+
+    private static IIOMetadataNode child(IIOMetadataNode root, String name) {
+        for (int i = 0; i < root.getLength(); i++) {
+            if (root.item(i).getNodeName().equalsIgnoreCase(name)) {
+                return (IIOMetadataNode) root.item(i);
+            }
+        }
+        IIOMetadataNode node = new IIOMetadataNode(name);
+        root.appendChild(node);
+        return node;
+    }
+}
@@ -0,0 +1,243 @@
+package com.qa.automation.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ScreenshotStore saves screenshots under a name derived from their content
+ * Identical frames are stored once: the raw PNG bytes are hashed before any decoding, and a frame whose
+ * hash is already on disk is not decoded or written again. New frames are re-encoded as JPEG (or kept
+ * as PNG) and get a small thumbnail for the report
+ */
+public class ScreenshotStore {
+
+    private static final Logger logger = LogManager.getLogger(ScreenshotStore.class);
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    // 128 bits of SHA-256 is plenty to tell screenshots of one run apart
+    private static final int HASH_BYTES = 16;
+
+    /**
+     * Stored image format
+     */
+    public enum Format {
+        JPG, PNG;
+
+        String extension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Path rootDir;
+    private final String relativeRoot;
+    private final Format format;
+    private final float quality;
+    private final int thumbnailWidth;
+    private final ConcurrentMap<String, CompletableFuture<String>> stored = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a store
+     * @param baseDir Directory relative paths are resolved against (usually user.dir)
+     * @param relativeRoot Store directory relative to baseDir, ending with "/"
+     * @param format Stored image format
+     * @param quality JPEG quality between 0 and 1
+     * @param thumbnailWidth Thumbnail width in pixels, 0 to disable thumbnails
+     */
+    public ScreenshotStore(Path baseDir, String relativeRoot, Format format, float quality, int thumbnailWidth) {
+        this.rootDir = baseDir.resolve(relativeRoot);
+        this.relativeRoot = relativeRoot;
+        this.format = format;
+        this.quality = quality;
+        this.thumbnailWidth = thumbnailWidth;
+        try {
+            Files.createDirectories(rootDir.resolve("thumbs"));
+        } catch (IOException e) {
+            logger.error("Failed to create screenshot store: {}. Error: {}", rootDir, e.getMessage());
+        }
+    }
+
+    /**
+     * Stores a PNG screenshot, reusing an identical frame stored earlier
+     * @param png PNG bytes as returned by the driver
+     * @return Path of the stored image relative to the base directory
+     */
+    public String save(byte[] png) {
+        String hash = hash(png);
+        String fileName = hash + "." + format.extension();
+        String relativePath = relativeRoot + fileName;
+        // The first save of a frame publishes a future and writes it outside the map; concurrent saves
+        // of the same frame wait for that future, different frames proceed in parallel
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> existing = stored.putIfAbsent(hash, pending);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            Path target = rootDir.resolve(fileName);
+            if (Files.exists(target)) {
+                logger.debug("Screenshot {} already stored", fileName);
+            } else {
+                write(png, target, rootDir.resolve("thumbs").resolve(fileName));
+                logger.info("Screenshot stored: {} ({} KB captured, {} KB stored)", relativePath,
+                        png.length / 1024, Files.size(target) / 1024);
+            }
+            pending.complete(relativePath);
+            return relativePath;
+        } catch (IOException e) {
+            UncheckedIOException failure = new UncheckedIOException("Failed to store screenshot " + fileName, e);
+            fail(hash, pending, failure);
+            throw failure;
+        } catch (RuntimeException e) {
+            fail(hash, pending, e);
+            throw e;
+        }
+    }
+
+    private void fail(String hash, CompletableFuture<String> pending, RuntimeException failure) {
+        // Waiting saves get the failure; a later save of the same frame tries again
+        stored.remove(hash, pending);
+        pending.completeExceptionally(failure);
+    }
+
+    private static String await(CompletableFuture<String> save) {
+        try {
+            return save.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the thumbnail of a stored screenshot
+     * @param relativePath Path returned by save
+     * @return Relative thumbnail path, or null if there is none
+     */
+    public String getThumbnail(String relativePath) {
+        if (thumbnailWidth <= 0 || relativePath == null || !relativePath.startsWith(relativeRoot)) {
+            return null;
+        }
+        String fileName = relativePath.substring(relativeRoot.length());
+        return Files.exists(rootDir.resolve("thumbs").resolve(fileName)) ? relativeRoot + "thumbs/" + fileName : null;
+    }
+
+    private void write(byte[] png, Path target, Path thumbnail) throws IOException {
+        if (format == Format.PNG && thumbnailWidth <= 0) {
+            writeAtomically(target, png);
+            return;
+        }
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            throw new IOException("Screenshot is not a readable image");
+        }
+        if (format == Format.PNG) {
+            writeAtomically(target, png);
+        } else {
+            writeImage(toRgb(image), target);
+        }
+        if (thumbnailWidth > 0 && image.getWidth() > 0) {
+            writeImage(scale(image, thumbnailWidth), thumbnail);
+        }
+    }
+
+    private void writeImage(BufferedImage image, Path target) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        if (format == Format.PNG) {
+            ImageIO.write(image, "png", temp.toFile());
+        } else {
+            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+            if (!writers.hasNext()) {
+                throw new IOException("No JPEG writer available");
+            }
+            ImageWriter writer = writers.next();
+            try (OutputStream out = Files.newOutputStream(temp);
+                 ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+                writer.setOutput(imageOut);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+        }
+        move(temp, target);
+    }
+
+    private static void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.write(temp, bytes);
+        move(temp, target);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        // JPEG has no alpha channel
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        return rgb;
+    }
+
+    private static BufferedImage scale(BufferedImage image, int width) {
+        int targetWidth = Math.min(width, image.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) image.getHeight() * targetWidth / image.getWidth()));
+        BufferedImage scaled = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, targetWidth, targetHeight, null);
+        graphics.dispose();
+        return scaled;
+    }
+
+    private static String hash(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            char[] hex = new char[HASH_BYTES * 2];
+            for (int i = 0; i < HASH_BYTES; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -8,75 +8,138 @@ import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * ScreenshotUtil class provides methods to capture screenshots
+ * Captures are taken as in-memory PNG bytes on the calling thread; writing them to disk happens on a
+ * small bounded background pool (screenshot.writerThreads / screenshot.writerQueue) and the caller gets
+ * a future of the saved path. When the queue is full the caller writes the file itself.
+ * Files go through ScreenshotStore: named by content hash, deduplicated, stored as JPEG
+ * (screenshot.format, screenshot.quality) with a thumbnail (screenshot.thumbnailWidth)
  */
 public class ScreenshotUtil {
 
     private static final Logger logger = LogManager.getLogger(ScreenshotUtil.class);
     private static final String SCREENSHOT_DIR = "test-output/screenshots/";
+    private static volatile ExecutorService writerPool;
+    private static volatile ScreenshotStore store;
 
     /**
      * Captures a screenshot and saves it to the screenshots directory
+     * Blocks until the file is written; prefer captureScreenshotAsync on hot paths
      * @param screenshotName Name of the screenshot file (without extension)
      * @return Path to the saved screenshot file, or null if failed
      */
     public static String captureScreenshot(String screenshotName) {
+        try {
+            return captureScreenshotAsync(screenshotName).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while saving screenshot: {}", screenshotName);
+            return null;
+        } catch (ExecutionException e) {
+            logger.error("Failed to capture screenshot: {}. Error: {}", screenshotName, e.getCause().getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Captures a screenshot as PNG bytes and saves it in the background
+     * @param screenshotName Name of the screenshot file (without extension)
+     * @return Future of the relative path of the saved file; completes with null if capture failed
+     */
+    public static CompletableFuture<String> captureScreenshotAsync(String screenshotName) {
+        byte[] png = captureScreenshotAsBytes();
+        if (png == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return saveScreenshotAsync(screenshotName, png);
+    }
+
+    /**
+     * Saves already captured PNG bytes on the background writer
+     * @param screenshotName Name of the screenshot file (without extension)
+     * @param png PNG bytes from captureScreenshotAsBytes
+     * @return Future of the relative path of the saved file
+     */
+    public static CompletableFuture<String> saveScreenshotAsync(String screenshotName, byte[] png) {
+        try {
+            ExecutorService pool = getWriterPool();
+            return CompletableFuture.supplyAsync(() -> {
+                String path = store.save(png);
+                logger.info("Screenshot captured successfully: {} -> {}", screenshotName, path);
+                return path;
+            }, pool);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Captures a screenshot as PNG bytes without touching the disk
+     * @return PNG bytes, or null if failed
+     */
+    public static byte[] captureScreenshotAsBytes() {
         try {
             WebDriver driver = DriverFactory.getDriver();
             if (driver == null) {
                 logger.error("WebDriver is null, cannot capture screenshot");
                 return null;
             }
-
-            // Create screenshots directory if it doesn't exist
-            Path screenshotDir = Paths.get(SCREENSHOT_DIR);
-            if (!Files.exists(screenshotDir)) {
-                Files.createDirectories(screenshotDir);
-                logger.info("Created screenshots directory: {}", SCREENSHOT_DIR);
-            }
-
-            // Generate timestamp for unique filename
-            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-            String fileName = screenshotName + "_" + timestamp + ".png";
-            
-            // Convert to absolute path
-            String userDir = System.getProperty("user.dir");
-            String absoluteScreenshotDir = userDir + "/" + SCREENSHOT_DIR;
-            Path absoluteScreenshotPath = Paths.get(absoluteScreenshotDir);
-            if (!Files.exists(absoluteScreenshotPath)) {
-                Files.createDirectories(absoluteScreenshotPath);
-            }
-            
-            String filePath = absoluteScreenshotDir + fileName;
-
-            // Capture screenshot
-            TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
-            File sourceFile = takesScreenshot.getScreenshotAs(OutputType.FILE);
-            File destinationFile = new File(filePath);
-            
-            // Copy file to destination
-            Files.copy(sourceFile.toPath(), destinationFile.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-            
-            logger.info("Screenshot captured successfully: {}", filePath);
-            // Return relative path for ExtentReports (it will convert to absolute)
-            return SCREENSHOT_DIR + fileName;
-        } catch (IOException e) {
-            logger.error("Failed to capture screenshot: {}. Error: {}", screenshotName, e.getMessage());
-            return null;
+            return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
         } catch (Exception e) {
-            logger.error("Unexpected error while capturing screenshot: {}. Error: {}", screenshotName, e.getMessage());
+            logger.error("Failed to capture screenshot as bytes. Error: {}", e.getMessage());
             return null;
         }
     }
 
+    private static ExecutorService getWriterPool() {
+        ExecutorService pool = writerPool;
+        if (pool == null) {
+            synchronized (ScreenshotUtil.class) {
+                pool = writerPool;
+                if (pool == null) {
+                    // The store creates the screenshots directory once instead of on every capture
+                    store = new ScreenshotStore(Paths.get(System.getProperty("user.dir")), SCREENSHOT_DIR,
+                            ScreenshotStore.Format.valueOf(DriverFactory.getProperty("screenshot.format", "JPG").trim().toUpperCase(Locale.ROOT)),
+                            Float.parseFloat(DriverFactory.getProperty("screenshot.quality", "0.8")),
+                            Integer.parseInt(DriverFactory.getProperty("screenshot.thumbnailWidth", "320")));
+                    int threads = Integer.parseInt(DriverFactory.getProperty("screenshot.writerThreads", "2"));
+                    int queue = Integer.parseInt(DriverFactory.getProperty("screenshot.writerQueue", "32"));
+                    AtomicInteger counter = new AtomicInteger();
+                    pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<>(queue), runnable -> {
+                                Thread thread = new Thread(runnable, "screenshot-writer-" + counter.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            }, new ThreadPoolExecutor.CallerRunsPolicy());
+                    writerPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Gets the report thumbnail of a saved screenshot
+     * @param screenshotPath Path returned by captureScreenshot or captureScreenshotAsync
+     * @return Relative thumbnail path, or null if none exists
+     */
+    public static String getThumbnailPath(String screenshotPath) {
+        ScreenshotStore current = store;
+        return current != null ? current.getThumbnail(screenshotPath) : null;
+    }
+
     /**
      * Captures a screenshot with default naming convention
      * @return Path to the saved screenshot file, or null if failed
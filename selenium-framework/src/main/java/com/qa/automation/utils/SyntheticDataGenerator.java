@@ -0,0 +1,505 @@
+package com.qa.automation.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.qa.automation.base.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * SyntheticDataGenerator produces large, realistic sets of doctors, patients and medical records for scale tests
+ * Every entity is derived only from the seed and its index, so the same seed gives the same data on any
+ * machine and with any number of threads, and any entity can be regenerated on its own. Bulk output is
+ * generated in chunks by a thread pool and written in index order, with a bounded number of chunks in
+ * flight, so memory stays flat however many entities are written.
+ * Rows use the signup and upload form field names, so they can be written to CSV or JSON (and read back with
+ * LazyDataProvider) or submitted directly, e.g. with PortalHttpRequests.signup(Map)
+ * Emails and license numbers embed the seed and index and are unique within and across seeds. Phone numbers
+ * are only unique within a seed: other seeds, and UniqueIdGenerator, draw from overlapping ranges
+ */
+public final class SyntheticDataGenerator {
+
+    private static final Logger logger = LogManager.getLogger(SyntheticDataGenerator.class);
+
+    /**
+     * Options of the signup specialty dropdown (SignupPage.selectSpecialty)
+     */
+    public static final List<String> SPECIALTIES = Collections.unmodifiableList(Arrays.asList(
+            "General Medicine", "Cardiology", "Dermatology", "Gynecology",
+            "Neurology", "Orthopedics", "Pediatrics", "Psychiatry"));
+
+    /**
+     * Kinds of generated entities and their columns
+     */
+    public enum Entity {
+        DOCTOR("role", "firstName", "lastName", "email", "password", "phone", "gender", "dateOfBirth", "specialty",
+                "licenseNumber", "qualification", "experience", "consultationFee", "city", "state", "bio"),
+        PATIENT("role", "firstName", "lastName", "email", "password", "phone", "gender", "dateOfBirth", "address",
+                "city", "state", "zipCode"),
+        RECORD("patientEmail", "recordType", "title", "date", "description");
+
+        private final List<String> columns;
+
+        Entity(String... columns) {
+            this.columns = Collections.unmodifiableList(Arrays.asList(columns));
+        }
+
+        /**
+         * Gets the columns of this entity, in output order
+         * @return Column names
+         */
+        public List<String> getColumns() {
+            return columns;
+        }
+    }
+
+    private static final int CHUNK_SIZE = 1024;
+    private static final DateTimeFormatter DATE_OF_BIRTH = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+    private static final DateTimeFormatter RECORD_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    // Mobile numbers 7000000000-9999999999; the stride is coprime with the range, so indexes of one seed map to
+    // distinct numbers, while the seed only shifts the sequence and different seeds can meet
+    private static final long PHONE_BASE = 7_000_000_000L;
+    private static final long PHONE_RANGE = 3_000_000_000L;
+    private static final long PHONE_STRIDE = 1_618_033_987L;
+    private static final long INDEXES_PER_ENTITY = 1_000_000_000L;
+
+    private static final String[] MALE_FIRST_NAMES = {
+            "Aarav", "Arjun", "Rahul", "Vikram", "Rohan", "Amit", "Sanjay", "Karan", "Nikhil", "Aditya",
+            "Manish", "Suresh", "Rajesh", "Deepak", "Varun", "Siddharth", "Anil", "Harsh", "Kunal", "Pranav",
+            "John", "David", "Michael", "Daniel", "James"};
+    private static final String[] FEMALE_FIRST_NAMES = {
+            "Priya", "Ananya", "Sara", "Neha", "Pooja", "Kavya", "Riya", "Sneha", "Divya", "Meera",
+            "Anjali", "Shreya", "Isha", "Nisha", "Aditi", "Lakshmi", "Deepika", "Swati", "Tanvi", "Jenny",
+            "Maria", "Emily", "Sophia", "Grace", "Fatima"};
+    private static final String[] LAST_NAMES = {
+            "Sharma", "Verma", "Mehta", "Nair", "Khan", "Iyer", "Reddy", "Gupta", "Singh", "Patel",
+            "Joshi", "Rao", "Das", "Kapoor", "Malhotra", "Chatterjee", "Menon", "Pillai", "Bose", "Agarwal",
+            "Wilson", "Fernandes", "D'Souza", "Thomas", "Kulkarni", "Desai", "Bhat", "Saxena", "Mishra", "Chopra"};
+    // City, state, PIN prefix, weight (roughly by population)
+    private static final String[][] CITIES = {
+            {"Delhi", "Delhi", "110", "18"}, {"Mumbai", "Maharashtra", "400", "18"},
+            {"Bengaluru", "Karnataka", "560", "12"}, {"Hyderabad", "Telangana", "500", "10"},
+            {"Chennai", "Tamil Nadu", "600", "9"}, {"Kolkata", "West Bengal", "700", "9"},
+            {"Pune", "Maharashtra", "411", "7"}, {"Ahmedabad", "Gujarat", "380", "7"},
+            {"Jaipur", "Rajasthan", "302", "4"}, {"Lucknow", "Uttar Pradesh", "226", "4"},
+            {"Faridabad", "Haryana", "121", "3"}, {"Kochi", "Kerala", "682", "3"}};
+    private static final int[] CITY_WEIGHTS = weights(CITIES, 3);
+    // Specialty, qualification, base fee in rupees, weight (general practice is the most common)
+    private static final String[][] SPECIALTY_PROFILES = {
+            {"General Medicine", "MBBS", "300", "30"},
+            {"Cardiology", "MBBS, MD, DM (Cardiology)", "800", "10"},
+            {"Dermatology", "MBBS, MD (Dermatology)", "600", "10"},
+            {"Gynecology", "MBBS, MS (Obstetrics and Gynecology)", "600", "12"},
+            {"Neurology", "MBBS, MD, DM (Neurology)", "900", "6"},
+            {"Orthopedics", "MBBS, MS (Orthopedics)", "700", "12"},
+            {"Pediatrics", "MBBS, MD (Pediatrics)", "500", "14"},
+            {"Psychiatry", "MBBS, MD (Psychiatry)", "700", "6"}};
+    private static final int[] SPECIALTY_WEIGHTS = weights(SPECIALTY_PROFILES, 3);
+    private static final String[] STREETS = {
+            "MG Road", "Station Road", "Park Street", "Nehru Nagar", "Gandhi Marg", "Lake View Road",
+            "Temple Street", "Civil Lines", "Sector 15", "Model Town", "Residency Road", "Hill Road"};
+    // Record type, titles
+    private static final String[][] RECORD_TYPES = {
+            {"Lab Report", "Complete Blood Count", "Lipid Profile", "HbA1c Test", "Thyroid Profile", "Liver Function Test"},
+            {"Prescription", "Prescription - General Medicine", "Prescription - Cardiology", "Prescription - Dermatology"},
+            {"X-Ray", "Chest X-Ray", "Knee X-Ray", "Spine X-Ray", "Dental X-Ray"},
+            {"Other", "Discharge Summary", "Vaccination Certificate", "ECG Report"}};
+
+    private final long seed;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private String domain = "synthetic.test";
+    private String password = "Test@123";
+    private int recordsPerPatient = 10;
+    private LocalDate asOf = LocalDate.of(2025, 1, 1);
+
+    private SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Creates a generator for a seed
+     * @param seed Seed; the same seed always gives the same entities
+     * @return SyntheticDataGenerator instance
+     */
+    public static SyntheticDataGenerator withSeed(long seed) {
+        return new SyntheticDataGenerator(seed);
+    }
+
+    /**
+     * Creates a generator from data.synthetic.seed and data.synthetic.threads
+     * @return SyntheticDataGenerator instance
+     */
+    public static SyntheticDataGenerator fromConfig() {
+        SyntheticDataGenerator generator = withSeed(Long.parseLong(DriverFactory.getProperty("data.synthetic.seed", "1")));
+        int threads = Integer.parseInt(DriverFactory.getProperty("data.synthetic.threads", "0"));
+        return threads > 0 ? generator.threads(threads) : generator;
+    }
+
+    /**
+     * Writes a dataset from the command line
+     * @param args Entity (doctor, patient or record), count, output file (.csv, .json or .jsonl) and optional seed
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: SyntheticDataGenerator <doctor|patient|record> <count> <file.csv|.json|.jsonl> [seed]");
+            System.exit(2);
+        }
+        SyntheticDataGenerator generator = args.length > 3 ? withSeed(Long.parseLong(args[3])) : fromConfig();
+        generator.write(Entity.valueOf(args[0].toUpperCase(Locale.ROOT)), Long.parseLong(args[1]), Paths.get(args[2]));
+    }
+
+    /**
+     * Sets the number of generating threads (default: available processors); does not change the output
+     * @param threads Thread count
+     * @return SyntheticDataGenerator instance for Fluent pattern
+     */
+    public SyntheticDataGenerator threads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * Sets the email domain (default synthetic.test)
+     * @param domain Email domain
+     * @return SyntheticDataGenerator instance for Fluent pattern
+     */
+    public SyntheticDataGenerator domain(String domain) {
+        this.domain = domain;
+        return this;
+    }
+
+    /**
+     * Sets the password of every account (default Test@123)
+     * @param password Account password
+     * @return SyntheticDataGenerator instance for Fluent pattern
+     */
+    public SyntheticDataGenerator password(String password) {
+        this.password = password;
+        return this;
+    }
+
+    /**
+     * Sets how many medical records belong to each patient (default 10); record i belongs to patient
+     * i / recordsPerPatient
+     * @param recordsPerPatient Records per patient
+     * @return SyntheticDataGenerator instance for Fluent pattern
+     */
+    public SyntheticDataGenerator recordsPerPatient(int recordsPerPatient) {
+        if (recordsPerPatient < 1) {
+            throw new IllegalArgumentException("recordsPerPatient must be positive: " + recordsPerPatient);
+        }
+        this.recordsPerPatient = recordsPerPatient;
+        return this;
+    }
+
+    /**
+     * Sets the date that ages, experience and record dates are relative to (default 2025-01-01); a fixed
+     * date keeps the output reproducible
+     * @param asOf Reference date
+     * @return SyntheticDataGenerator instance for Fluent pattern
+     */
+    public SyntheticDataGenerator asOf(LocalDate asOf) {
+        this.asOf = asOf;
+        return this;
+    }
+
+    /**
+     * Generates one entity
+     * @param entity Entity kind
+     * @param index Zero-based index
+     * @return Row keyed by the entity columns
+     */
+    public Map<String, String> generate(Entity entity, long index) {
+        if (index < 0 || index >= INDEXES_PER_ENTITY) {
+            throw new IllegalArgumentException("index must be between 0 and " + (INDEXES_PER_ENTITY - 1) + ": " + index);
+        }
+        switch (entity) {
+            case DOCTOR:
+                return doctor(index);
+            case PATIENT:
+                return patient(index);
+            default:
+                return record(index);
+        }
+    }
+
+    /**
+     * Streams entities 0 to count - 1 in order on the calling thread, without holding them in memory
+     * @param entity Entity kind
+     * @param count Number of entities
+     * @return Ordered sequential stream
+     */
+    public Stream<Map<String, String>> stream(Entity entity, long count) {
+        Iterator<Map<String, String>> iterator = new Iterator<Map<String, String>>() {
+            private long next;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public Map<String, String> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return generate(entity, next++);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliterator(iterator, count,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * Hands every entity to a consumer on the generating threads, in no particular order; use it to
+     * provision accounts directly (the consumer must be thread-safe)
+     * @param entity Entity kind
+     * @param count Number of entities
+     * @param consumer Receives each row
+     */
+    public void forEach(Entity entity, long count, Consumer<Map<String, String>> consumer) {
+        run(entity, count, (start, end) -> {
+            for (long index = start; index < end; index++) {
+                consumer.accept(generate(entity, index));
+            }
+            return Collections.emptyList();
+        }, chunk -> { });
+    }
+
+    /**
+     * Writes entities 0 to count - 1 in order; the format follows the extension: .csv with a header row,
+     * .jsonl with one object per line, otherwise a JSON array
+     * @param entity Entity kind
+     * @param count Number of entities
+     * @param file Output file, replaced if it exists
+     */
+    public void write(Entity entity, long count, Path file) throws IOException {
+        long started = System.nanoTime();
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+             SequenceWriter sequence = openWriter(entity, name, out)) {
+            run(entity, count, (start, end) -> {
+                List<Map<String, String>> rows = new ArrayList<>((int) (end - start));
+                for (long index = start; index < end; index++) {
+                    rows.add(generate(entity, index));
+                }
+                return rows;
+            }, chunk -> {
+                for (Map<String, String> row : chunk) {
+                    sequence.write(row);
+                }
+            });
+        }
+        logger.info("Wrote {} synthetic {} rows (seed {}) to {} in {} ms", count, entity.name().toLowerCase(Locale.ROOT),
+                seed, file, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static SequenceWriter openWriter(Entity entity, String fileName, Writer out) throws IOException {
+        if (fileName.endsWith(".csv")) {
+            CsvSchema.Builder schema = CsvSchema.builder().setUseHeader(true);
+            for (String column : entity.getColumns()) {
+                schema.addColumn(column);
+            }
+            return new CsvMapper().writer(schema.build()).writeValues(out);
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        if (fileName.endsWith(".jsonl")) {
+            return objectMapper.writer().withRootValueSeparator("\n").writeValues(out);
+        }
+        return objectMapper.writer().writeValuesAsArray(out);
+    }
+
+    /**
+     * Chunk body run on a generating thread
+     */
+    private interface ChunkTask {
+        List<Map<String, String>> run(long start, long end) throws Exception;
+    }
+
+    /**
+     * Chunk handler run on the calling thread, in chunk order
+     */
+    private interface ChunkSink {
+        void accept(List<Map<String, String>> chunk) throws IOException;
+    }
+
+    /**
+     * Runs chunks on a pool with at most two chunks per thread in flight, handing results to the sink in order
+     */
+    private void run(Entity entity, long count, ChunkTask task, ChunkSink sink) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "synthetic-data-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Deque<Future<List<Map<String, String>>>> inFlight = new ArrayDeque<>();
+        try {
+            for (long start = 0; start < count; start += CHUNK_SIZE) {
+                if (inFlight.size() >= threads * 2) {
+                    sink.accept(inFlight.poll().get());
+                }
+                long chunkStart = start;
+                long chunkEnd = Math.min(count, start + CHUNK_SIZE);
+                inFlight.add(pool.submit(() -> task.run(chunkStart, chunkEnd)));
+            }
+            while (!inFlight.isEmpty()) {
+                sink.accept(inFlight.poll().get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to generate synthetic " + entity + " data: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating synthetic " + entity + " data", e);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write synthetic " + entity + " data: " + e.getMessage(), e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Map<String, String> doctor(long index) {
+        SplittableRandom random = random(Entity.DOCTOR, index);
+        Map<String, String> row = person(Entity.DOCTOR, index, random, "Doctor");
+        int age = 28 + random.nextInt(38);
+        String[] profile = SPECIALTY_PROFILES[pick(random, SPECIALTY_WEIGHTS)];
+        int experience = Math.max(1, age - 25 - random.nextInt(4));
+        // Fees grow with experience and are rounded to 50, like listed consultation fees
+        long fee = Math.round(Integer.parseInt(profile[2]) * (1 + experience / 25.0) * (0.8 + random.nextDouble() * 0.4) / 50) * 50;
+        String[] city = CITIES[pick(random, CITY_WEIGHTS)];
+        row.put("dateOfBirth", dateOfBirth(random, age));
+        row.put("specialty", profile[0]);
+        // The index always takes the last nine digits, so seed and index can be read back and never collide
+        row.put("licenseNumber", "MED" + Long.toUnsignedString(seed, 36).toUpperCase(Locale.ROOT) + String.format("%09d", index));
+        row.put("qualification", profile[1]);
+        row.put("experience", String.valueOf(experience));
+        row.put("consultationFee", String.valueOf(fee));
+        row.put("city", city[0]);
+        row.put("state", city[1]);
+        row.put("bio", "Dr. " + row.get("firstName") + " " + row.get("lastName") + " is a " + profile[0]
+                + " specialist in " + city[0] + " with " + experience + " years of experience.");
+        return row;
+    }
+
+    private Map<String, String> patient(long index) {
+        SplittableRandom random = random(Entity.PATIENT, index);
+        Map<String, String> row = person(Entity.PATIENT, index, random, "Patient");
+        String[] city = CITIES[pick(random, CITY_WEIGHTS)];
+        row.put("dateOfBirth", dateOfBirth(random, 18 + random.nextInt(68)));
+        row.put("address", (1 + random.nextInt(300)) + " " + STREETS[random.nextInt(STREETS.length)]);
+        row.put("city", city[0]);
+        row.put("state", city[1]);
+        row.put("zipCode", city[2] + String.format("%03d", 1 + random.nextInt(99)));
+        return row;
+    }
+
+    private Map<String, String> record(long index) {
+        SplittableRandom random = random(Entity.RECORD, index);
+        String[] type = RECORD_TYPES[random.nextInt(RECORD_TYPES.length)];
+        String title = type[1 + random.nextInt(type.length - 1)];
+        Map<String, String> row = new LinkedHashMap<>();
+        row.put("patientEmail", patient(index / recordsPerPatient).get("email"));
+        row.put("recordType", type[0]);
+        row.put("title", title);
+        row.put("date", asOf.minusDays(random.nextInt(5 * 365)).format(RECORD_DATE));
+        row.put("description", title + " (record " + (index % recordsPerPatient + 1) + " of " + recordsPerPatient + ")");
+        return row;
+    }
+
+    /**
+     * Fills the account fields shared by doctors and patients; the first name matches the gender
+     */
+    private Map<String, String> person(Entity entity, long index, SplittableRandom random, String role) {
+        boolean female = random.nextBoolean();
+        String firstName = female ? FEMALE_FIRST_NAMES[random.nextInt(FEMALE_FIRST_NAMES.length)]
+                : MALE_FIRST_NAMES[random.nextInt(MALE_FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        // Seed and index in the local part keep emails unique within and across seeds
+        String localPart = (firstName + "." + lastName).toLowerCase(Locale.ROOT).replaceAll("[^a-z.]", "")
+                + "." + Long.toString(seed, 36) + entity.name().charAt(0) + index;
+        long phone = PHONE_BASE + ((entity.ordinal() * INDEXES_PER_ENTITY + index) * PHONE_STRIDE % PHONE_RANGE
+                + Math.floorMod(seed, PHONE_RANGE)) % PHONE_RANGE;
+        Map<String, String> row = new LinkedHashMap<>();
+        row.put("role", role);
+        row.put("firstName", firstName);
+        row.put("lastName", lastName);
+        row.put("email", localPart.toLowerCase(Locale.ROOT) + "@" + domain);
+        row.put("password", password);
+        row.put("phone", String.valueOf(phone));
+        row.put("gender", female ? "Female" : "Male");
+        return row;
+    }
+
+    private String dateOfBirth(SplittableRandom random, int age) {
+        return asOf.minusYears(age).minusDays(random.nextInt(365)).format(DATE_OF_BIRTH);
+    }
+
+    /**
+     * Creates the random source of one entity from the seed, entity kind and index only
+     */
+    private SplittableRandom random(Entity entity, long index) {
+        return new SplittableRandom(mix(mix(seed + 0x9E3779B97F4A7C15L * (entity.ordinal() + 1)) + index));
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private static int pick(SplittableRandom random, int[] cumulativeWeights) {
+        int target = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int position = Arrays.binarySearch(cumulativeWeights, target + 1);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    private static int[] weights(String[][] table, int column) {
+        int[] cumulative = new int[table.length];
+        int total = 0;
+        for (int row = 0; row < table.length; row++) {
+            total += Integer.parseInt(table[row][column]);
+            cumulative[row] = total;
+        }
+        return cumulative;
+    }
+}
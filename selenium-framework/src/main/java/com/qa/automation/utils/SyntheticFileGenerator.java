@@ -0,0 +1,492 @@
+package com.qa.automation.utils;
+
+import com.qa.automation.base.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * SyntheticFileGenerator creates valid medical-report files of an exact size for upload tests: multi-page PDFs
+ * (text pages plus a scanned-image page) and PNG or JPEG scans
+ * Files are cached in data.syntheticFiles.dir (default target/synthetic-files) under a name made of the
+ * size, page count and seed, so each variant is generated once and reused by later runs. Content is
+ * random noise derived from the seed, so the bytes do not shrink under transport compression.
+ * Anywhere an upload file is configured, "synthetic:pdf:5MB", "synthetic:pdf:5MB:20" (20 pages) or
+ * "synthetic:png:2MB" can be used instead of a path (see resolve)
+ */
+public final class SyntheticFileGenerator {
+
+    private static final Logger logger = LogManager.getLogger(SyntheticFileGenerator.class);
+
+    /**
+     * Supported file formats
+     */
+    public enum Format {
+        PDF("pdf"), PNG("png"), JPEG("jpg");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Gets the file extension, without the dot
+         * @return Extension
+         */
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private static final String SPEC_PREFIX = "synthetic:";
+    private static final Pattern SIZE = Pattern.compile("(?i)\\s*(\\d+(?:\\.\\d+)?)\\s*(B|KB|MB|GB)?\\s*");
+    private static final int PAGE_WIDTH = 595;
+    private static final int PAGE_HEIGHT = 842;
+    private static final int SCAN_WIDTH = 512;
+    private static final int MIN_IMAGE_SIDE = 16;
+    private static final int MAX_IMAGE_SIDE = 4096;
+    // Lab tests: name, unit, low, high
+    private static final String[][] LAB_TESTS = {
+            {"Hemoglobin", "g/dL", "13.0", "17.0"}, {"WBC Count", "10^3/uL", "4.0", "11.0"},
+            {"RBC Count", "10^6/uL", "4.5", "5.9"}, {"Platelet Count", "10^3/uL", "150", "450"},
+            {"Fasting Glucose", "mg/dL", "70", "100"}, {"HbA1c", "%", "4.0", "5.6"},
+            {"Total Cholesterol", "mg/dL", "125", "200"}, {"HDL Cholesterol", "mg/dL", "40", "60"},
+            {"LDL Cholesterol", "mg/dL", "50", "130"}, {"Triglycerides", "mg/dL", "50", "150"},
+            {"Creatinine", "mg/dL", "0.7", "1.3"}, {"TSH", "mIU/L", "0.4", "4.0"},
+            {"Vitamin D", "ng/mL", "30", "100"}, {"Vitamin B12", "pg/mL", "200", "900"}};
+    private static final Map<Path, CompletableFuture<Path>> generated = new ConcurrentHashMap<>();
+
+    private SyntheticFileGenerator() {
+    }
+
+    /**
+     * Gets a PDF report of an exact size, generating it if it is not cached
+     * @param sizeBytes File size in bytes (at least a few KB per page)
+     * @param pages Number of pages; the last page carries a scanned image that fills the size
+     * @param seed Seed of the content
+     * @return Path of the cached PDF
+     */
+    public static Path pdf(long sizeBytes, int pages, long seed) {
+        if (pages < 1) {
+            throw new IllegalArgumentException("pages must be positive: " + pages);
+        }
+        return cached(Format.PDF, sizeBytes, pages, seed);
+    }
+
+    /**
+     * Gets a PNG or JPEG scan of an exact size, generating it if it is not cached
+     * @param format PNG or JPEG
+     * @param sizeBytes File size in bytes
+     * @param seed Seed of the content
+     * @return Path of the cached image
+     */
+    public static Path image(Format format, long sizeBytes, long seed) {
+        if (format == Format.PDF) {
+            throw new IllegalArgumentException("Use pdf() for PDF files");
+        }
+        return cached(format, sizeBytes, 1, seed);
+    }
+
+    /**
+     * Resolves an upload file setting: "synthetic:&lt;pdf|png|jpeg&gt;:&lt;size&gt;[:&lt;pages&gt;]" is generated
+     * with data.syntheticFiles.seed, anything else is a path relative to the working directory
+     * @param spec Synthetic file spec or file path
+     * @return Absolute path of the file
+     */
+    public static Path resolve(String spec) {
+        if (!spec.regionMatches(true, 0, SPEC_PREFIX, 0, SPEC_PREFIX.length())) {
+            return Paths.get(System.getProperty("user.dir")).resolve(spec).toAbsolutePath();
+        }
+        String[] parts = spec.substring(SPEC_PREFIX.length()).split(":");
+        if (parts.length < 2 || parts.length > 3) {
+            throw new IllegalArgumentException("Expected synthetic:<pdf|png|jpeg>:<size>[:<pages>] but got: " + spec);
+        }
+        Format format = Format.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+        long sizeBytes = parseSize(parts[1]);
+        long seed = Long.parseLong(DriverFactory.getProperty("data.syntheticFiles.seed", "1"));
+        if (format == Format.PDF) {
+            return pdf(sizeBytes, parts.length > 2 ? Integer.parseInt(parts[2].trim()) : 1, seed);
+        }
+        return image(format, sizeBytes, seed);
+    }
+
+    /**
+     * Parses a size such as 512, 10KB, 1.5MB or 2GB (binary units)
+     * @param size Size text
+     * @return Size in bytes
+     */
+    public static long parseSize(String size) {
+        Matcher matcher = SIZE.matcher(size);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid size: " + size);
+        }
+        String unit = matcher.group(2) == null ? "B" : matcher.group(2).toUpperCase(Locale.ROOT);
+        int shift = "KB".equals(unit) ? 10 : "MB".equals(unit) ? 20 : "GB".equals(unit) ? 30 : 0;
+        return Math.round(Double.parseDouble(matcher.group(1)) * (1L << shift));
+    }
+
+    /**
+     * Formats a size with the largest binary unit that divides it, e.g. 10KB, 50MB
+     * @param sizeBytes Size in bytes
+     * @return Size text
+     */
+    public static String formatSize(long sizeBytes) {
+        String[] units = {"GB", "MB", "KB"};
+        for (int index = 0; index < units.length; index++) {
+            long unit = 1L << (30 - 10 * index);
+            if (sizeBytes >= unit && sizeBytes % unit == 0) {
+                return sizeBytes / unit + units[index];
+            }
+        }
+        return sizeBytes + "B";
+    }
+
+    /**
+     * Gets the cache directory (data.syntheticFiles.dir)
+     * @return Directory the files are generated in
+     */
+    public static Path getDirectory() {
+        return Paths.get(DriverFactory.getProperty("data.syntheticFiles.dir", "target/synthetic-files")).toAbsolutePath();
+    }
+
+    private static Path cached(Format format, long sizeBytes, int pages, long seed) {
+        if (sizeBytes < 1 || sizeBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("sizeBytes must be between 1 and " + Integer.MAX_VALUE + ": " + sizeBytes);
+        }
+        String name = (format == Format.PDF ? "report-" + formatSize(sizeBytes) + "-" + pages + "p" : "scan-" + formatSize(sizeBytes))
+                + "-s" + seed + "." + format.getExtension();
+        Path file = getDirectory().resolve(name);
+        // The first caller publishes a future and generates outside the map; concurrent callers for the same
+        // file wait for that future, other files are generated in parallel
+        while (true) {
+            CompletableFuture<Path> pending = generated.get(file);
+            if (pending == null) {
+                CompletableFuture<Path> created = new CompletableFuture<>();
+                pending = generated.putIfAbsent(file, created);
+                if (pending == null) {
+                    try {
+                        generate(file, name, format, sizeBytes, pages, seed);
+                        created.complete(file);
+                        return file;
+                    } catch (RuntimeException e) {
+                        generated.remove(file, created);
+                        created.completeExceptionally(e);
+                        throw e;
+                    }
+                }
+            }
+            Path path = await(pending);
+            if (isGenerated(path, sizeBytes)) {
+                return path;
+            }
+            // Deleted or truncated since it was generated; generate it again
+            generated.remove(file, pending);
+        }
+    }
+
+    private static void generate(Path file, String name, Format format, long sizeBytes, int pages, long seed) {
+        try {
+            if (isGenerated(file, sizeBytes)) {
+                return;
+            }
+            long started = System.nanoTime();
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), name, ".part");
+            try {
+                if (format == Format.PDF) {
+                    writePdf(temp, sizeBytes, pages, seed);
+                } else {
+                    writeImage(temp, format, sizeBytes, seed);
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            logger.info("Generated synthetic file: {} in {} ms", file, (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to generate synthetic file: " + file + ". Error: " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isGenerated(Path file, long sizeBytes) {
+        try {
+            return Files.isRegularFile(file) && Files.size(file) == sizeBytes;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Path await(CompletableFuture<Path> generation) {
+        try {
+            return generation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Writes a PDF 1.4 file: catalog, page tree, a Helvetica font, one text page per report page and a
+     * grayscale noise image drawn on the last page. The image height and a trailing comment are chosen
+     * so the file is exactly sizeBytes long
+     */
+    private static void writePdf(Path file, long sizeBytes, int pages, long seed) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        int imageObject = 4 + 2 * pages;
+        List<byte[]> objects = new ArrayList<>();
+        StringBuilder kids = new StringBuilder();
+        for (int page = 0; page < pages; page++) {
+            kids.append(page == 0 ? "" : " ").append(4 + 2 * page).append(" 0 R");
+        }
+        objects.add(ascii("1 0 obj\n<< /Type /Catalog /Pages 2 0 R >>\nendobj\n"));
+        objects.add(ascii("2 0 obj\n<< /Type /Pages /Kids [" + kids + "] /Count " + pages + " >>\nendobj\n"));
+        objects.add(ascii("3 0 obj\n<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica >>\nendobj\n"));
+        for (int page = 0; page < pages; page++) {
+            boolean last = page == pages - 1;
+            String content = pageContent(random, page, pages, seed) + (last ? "q 240 0 0 180 300 40 cm /Scan Do Q\n" : "");
+            objects.add(ascii((4 + 2 * page) + " 0 obj\n<< /Type /Page /Parent 2 0 R /MediaBox [0 0 " + PAGE_WIDTH + " "
+                    + PAGE_HEIGHT + "] /Resources << /Font << /F1 3 0 R >>"
+                    + (last ? " /XObject << /Scan " + imageObject + " 0 R >>" : "") + " >> /Contents "
+                    + (5 + 2 * page) + " 0 R >>\nendobj\n"));
+            objects.add(ascii((5 + 2 * page) + " 0 obj\n<< /Length " + content.length() + " >>\nstream\n" + content
+                    + "\nendstream\nendobj\n"));
+        }
+
+        byte[] header = "%PDF-1.4\n%âãÏÓ\n".getBytes(StandardCharsets.ISO_8859_1);
+        long fixedBytes = header.length;
+        for (byte[] object : objects) {
+            fixedBytes += object.length;
+        }
+        byte[] imageTrailer = ascii("\nendstream\nendobj\n");
+        // The image header and startxref grow with their numbers, so settle the layout in a few passes
+        long height = 1;
+        long padding = 0;
+        for (int pass = 0; pass < 4; pass++) {
+            long overhead = fixedBytes + imageHeader(imageObject, height).length + imageTrailer.length
+                    + xrefLength(imageObject, sizeBytes);
+            long room = sizeBytes - overhead;
+            if (room < SCAN_WIDTH + 2) {
+                throw new IllegalArgumentException(sizeBytes + " bytes is too small for a " + pages + "-page PDF; needs at least "
+                        + (overhead + SCAN_WIDTH + 2));
+            }
+            height = (room - 2) / SCAN_WIDTH;
+            padding = room - height * SCAN_WIDTH;
+        }
+
+        long[] offsets = new long[imageObject];
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+            long position = header.length;
+            out.write(header);
+            for (int index = 0; index < objects.size(); index++) {
+                offsets[index] = position;
+                out.write(objects.get(index));
+                position += objects.get(index).length;
+            }
+            offsets[imageObject - 1] = position;
+            byte[] imageHeader = imageHeader(imageObject, height);
+            out.write(imageHeader);
+            position += imageHeader.length;
+            byte[] row = new byte[SCAN_WIDTH];
+            for (long line = 0; line < height; line++) {
+                fillNoise(random, row, row.length);
+                out.write(row);
+            }
+            position += height * SCAN_WIDTH;
+            out.write(imageTrailer);
+            position += imageTrailer.length;
+            // A comment line of printable noise takes up the remaining bytes
+            byte[] comment = new byte[(int) padding];
+            comment[0] = '%';
+            for (int index = 1; index < comment.length - 1; index++) {
+                comment[index] = (byte) ('A' + random.nextInt(26));
+            }
+            comment[comment.length - 1] = '\n';
+            out.write(comment);
+            position += comment.length;
+            out.write(xrefAndTrailer(imageObject, offsets, position));
+        }
+        if (Files.size(file) != sizeBytes) {
+            throw new IllegalStateException("Generated PDF is " + Files.size(file) + " bytes, expected " + sizeBytes);
+        }
+    }
+
+    private static String pageContent(SplittableRandom random, int page, int pages, long seed) {
+        StringBuilder content = new StringBuilder();
+        content.append("BT /F1 18 Tf 50 790 Td (Synthetic Lab Report) Tj ET\n")
+                .append("BT /F1 10 Tf 50 765 Td 14 TL (Report ID: SR-").append(seed).append('-').append(page + 1)
+                .append(") Tj T* (Page ").append(page + 1).append(" of ").append(pages)
+                .append(") Tj T* (Generated for upload testing. Values are random and not clinical data.) Tj ET\n")
+                .append("BT /F1 11 Tf 50 700 Td 18 TL (Test) Tj 200 0 Td (Result) Tj 100 0 Td (Unit) Tj 100 0 Td")
+                .append(" (Reference range) Tj ET\n");
+        int y = 680;
+        for (String[] test : LAB_TESTS) {
+            double low = Double.parseDouble(test[2]);
+            double high = Double.parseDouble(test[3]);
+            double value = low + (high - low) * (random.nextDouble() * 1.4 - 0.2);
+            content.append("BT /F1 10 Tf 50 ").append(y).append(" Td (").append(test[0]).append(") Tj 200 0 Td (")
+                    .append(String.format(Locale.ROOT, high >= 100 ? "%.0f" : "%.1f", value)).append(") Tj 100 0 Td (")
+                    .append(test[1]).append(") Tj 100 0 Td (").append(test[2]).append(" - ").append(test[3]).append(") Tj ET\n");
+            y -= 18;
+        }
+        return content.toString();
+    }
+
+    private static byte[] imageHeader(int imageObject, long height) {
+        return ascii(imageObject + " 0 obj\n<< /Type /XObject /Subtype /Image /Width " + SCAN_WIDTH + " /Height " + height
+                + " /ColorSpace /DeviceGray /BitsPerComponent 8 /Length " + height * SCAN_WIDTH + " >>\nstream\n");
+    }
+
+    /**
+     * Gets the length of the xref table and trailer when they end the file at sizeBytes; startxref holds
+     * the xref offset, whose digit count depends on that length
+     */
+    private static long xrefLength(int objectCount, long sizeBytes) {
+        long withoutOffset = xrefAndTrailer(objectCount, new long[objectCount], 0).length - 1;
+        for (int digits = 1; digits < 20; digits++) {
+            if (String.valueOf(sizeBytes - withoutOffset - digits).length() == digits) {
+                return withoutOffset + digits;
+            }
+        }
+        return withoutOffset + String.valueOf(sizeBytes).length();
+    }
+
+    private static byte[] xrefAndTrailer(int objectCount, long[] offsets, long xrefOffset) {
+        StringBuilder xref = new StringBuilder("xref\n0 ").append(objectCount + 1).append("\n0000000000 65535 f \n");
+        for (long offset : offsets) {
+            xref.append(String.format(Locale.ROOT, "%010d 00000 n \n", offset));
+        }
+        xref.append("trailer\n<< /Size ").append(objectCount + 1).append(" /Root 1 0 R >>\nstartxref\n")
+                .append(xrefOffset).append("\n%%EOF\n");
+        return ascii(xref.toString());
+    }
+
+    /**
+     * Writes a noise scan, sized so the encoded image is just under sizeBytes, then pads it to the exact
+     * size inside the format: a private ancillary chunk in PNG, comment segments in JPEG
+     */
+    private static void writeImage(Path file, Format format, long sizeBytes, long seed) throws IOException {
+        int minimumPadding = format == Format.PNG ? 12 : 4;
+        double bytesPerPixel = format == Format.PNG ? 3.0 : 1.5;
+        for (int attempt = 0; attempt < 8; attempt++) {
+            int side = (int) Math.max(MIN_IMAGE_SIDE, Math.min(MAX_IMAGE_SIDE, Math.sqrt(sizeBytes * 0.97 / bytesPerPixel)));
+            byte[] encoded = encode(format, side, seed);
+            long padding = sizeBytes - encoded.length;
+            if (padding == 0 || padding >= minimumPadding) {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+                    if (format == Format.PNG) {
+                        writePaddedPng(out, encoded, padding, seed);
+                    } else {
+                        writePaddedJpeg(out, encoded, padding, seed);
+                    }
+                }
+                return;
+            }
+            if (side == MIN_IMAGE_SIDE) {
+                break;
+            }
+            bytesPerPixel = encoded.length / ((double) side * side) * 1.05;
+        }
+        throw new IllegalArgumentException(sizeBytes + " bytes is too small for a " + format + " image");
+    }
+
+    private static byte[] encode(Format format, int side, long seed) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        BufferedImage image = new BufferedImage(side, side, BufferedImage.TYPE_INT_RGB);
+        int[] row = new int[side];
+        double radius = side / 2.0;
+        for (int y = 0; y < side; y++) {
+            for (int x = 0; x < side; x++) {
+                // Brighter inside an ellipse, like the subject of an X-ray
+                double dx = (x - radius) / (radius * 0.7);
+                double dy = (y - radius) / (radius * 0.9);
+                int base = dx * dx + dy * dy <= 1 ? 128 : 0;
+                int noise = random.nextInt();
+                row[x] = (base + (noise & 0x7F)) << 16 | (base + (noise >>> 8 & 0x7F)) << 8 | (base + (noise >>> 16 & 0x7F));
+            }
+            image.setRGB(0, y, side, 1, row, 0, side);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format == Format.PNG ? "png" : "jpeg", out)) {
+            throw new IOException("No ImageIO writer for " + format);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writePaddedPng(OutputStream out, byte[] encoded, long padding, long seed) throws IOException {
+        // IEND is always the last 12 bytes; the padding chunk goes right before it
+        int iend = encoded.length - 12;
+        out.write(encoded, 0, iend);
+        if (padding > 0) {
+            byte[] type = ascii("qaPd");
+            byte[] data = new byte[(int) (padding - 12)];
+            fillNoise(new SplittableRandom(seed ^ padding), data, data.length);
+            CRC32 crc = new CRC32();
+            crc.update(type);
+            crc.update(data);
+            out.write(ByteBuffer.allocate(4).putInt(data.length).array());
+            out.write(type);
+            out.write(data);
+            out.write(ByteBuffer.allocate(4).putInt((int) crc.getValue()).array());
+        }
+        out.write(encoded, iend, 12);
+    }
+
+    private static void writePaddedJpeg(OutputStream out, byte[] encoded, long padding, long seed) throws IOException {
+        // Comment (COM) segments right after the SOI marker; each holds at most 65533 bytes
+        out.write(encoded, 0, 2);
+        SplittableRandom random = new SplittableRandom(seed ^ padding);
+        byte[] data = new byte[65533];
+        long remaining = padding;
+        while (remaining > 0) {
+            long segment = Math.min(remaining, 65537);
+            if (remaining - segment > 0 && remaining - segment < 4) {
+                segment -= 4;
+            }
+            int length = (int) segment - 4;
+            fillNoise(random, data, length);
+            out.write(new byte[]{(byte) 0xFF, (byte) 0xFE, (byte) ((length + 2) >>> 8), (byte) (length + 2)});
+            out.write(data, 0, length);
+            remaining -= segment;
+        }
+        out.write(encoded, 2, encoded.length - 2);
+    }
+
+    private static void fillNoise(SplittableRandom random, byte[] bytes, int length) {
+        for (int index = 0; index < length; index += 8) {
+            long value = random.nextLong();
+            for (int shift = 0; shift < 8 && index + shift < length; shift++) {
+                bytes[index + shift] = (byte) (value >>> (shift * 8));
+            }
+        }
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
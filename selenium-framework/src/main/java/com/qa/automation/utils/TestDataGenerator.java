@@ -1,30 +1,24 @@
 package com.qa.automation.utils;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * TestDataGenerator utility class for generating unique test data
  * Used for generating unique email addresses, phone numbers, etc.
+ * Unique values come from UniqueIdGenerator, so they are safe to generate from parallel tests
  */
 public class TestDataGenerator {
 
-    private static final Random random = new Random();
-    private static final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMddHHmmssSSS");
-
     /**
      * Generates a unique email address for test automation
-     * Format: prefix_timestamp_random@domain.com
+     * Format: prefix_id@domain.com, where id is a base-36 Snowflake-style id
      * 
      * @param prefix Email prefix (e.g., "john.doe")
      * @param domain Email domain (e.g., "test.com")
      * @return Unique email address
      */
     public static String generateUniqueEmail(String prefix, String domain) {
-        String timestamp = dateFormat.format(new Date());
-        int randomNum = random.nextInt(10000);
-        return prefix + "_" + timestamp + "_" + randomNum + "@" + domain;
+        return UniqueIdGenerator.nextEmail(prefix, domain);
     }
 
     /**
@@ -50,6 +44,7 @@ public class TestDataGenerator {
      * @return Random phone number as string
      */
     public static String generatePhoneNumber(int length) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
         StringBuilder phone = new StringBuilder();
         // First digit should not be 0
         phone.append(random.nextInt(9) + 1);
@@ -60,11 +55,19 @@ public class TestDataGenerator {
     }
 
     /**
-     * Generates a 10-digit random phone number
-     * @return Random phone number
+     * Generates a 10-digit phone number, unique within the run
+     * @return Unique phone number
      */
     public static String generatePhoneNumber() {
-        return generatePhoneNumber(10);
+        return UniqueIdGenerator.nextPhoneNumber();
+    }
+
+    /**
+     * Generates a unique doctor license number
+     * @return License number, e.g. MED2K5QW1B0XC
+     */
+    public static String generateLicenseNumber() {
+        return UniqueIdGenerator.nextLicenseNumber();
     }
 }
 
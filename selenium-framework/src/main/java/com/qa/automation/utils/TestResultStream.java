@@ -0,0 +1,101 @@
+package com.qa.automation.utils;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.model.Log;
+import com.aventstack.extentreports.model.Media;
+import com.aventstack.extentreports.model.Test;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * TestResultStream appends each finished test to a JSON-lines file, one test per line
+ * Every line is written to the file in one unbuffered write, so a killed run keeps all tests finished before the kill
+ */
+final class TestResultStream {
+
+    private static final Logger logger = LogManager.getLogger(TestResultStream.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path file;
+    private final OutputStream out;
+
+    /**
+     * Opens (or creates) the results file in append mode
+     * @param file Path of the .jsonl file
+     * @throws IOException if the file cannot be opened
+     */
+    TestResultStream(Path file) throws IOException {
+        this.file = file;
+        this.out = Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Writes one finished test as a single JSON line
+     * @param test Finished test
+     */
+    synchronized void append(ExtentTest test) {
+        try {
+            // Encoded once and written with a single call, newline included (JSON output never contains one)
+            byte[] json = MAPPER.writeValueAsBytes(toJson(test.getModel()));
+            byte[] line = Arrays.copyOf(json, json.length + 1);
+            line[json.length] = '\n';
+            out.write(line, 0, line.length);
+        } catch (IOException e) {
+            logger.error("Failed to append test result to {}. Error: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Closes the underlying file
+     */
+    synchronized void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            logger.error("Failed to close test results file {}. Error: {}", file, e.getMessage());
+        }
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    private static ObjectNode toJson(Test model) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("name", model.getName());
+        node.put("description", model.getDescription());
+        node.put("status", String.valueOf(model.getStatus()));
+        node.put("start", model.getStartTime() != null ? model.getStartTime().getTime() : 0);
+        node.put("end", model.getEndTime() != null ? model.getEndTime().getTime() : 0);
+        node.put("durationMillis", model.getStartTime() != null && model.getEndTime() != null
+                ? model.getEndTime().getTime() - model.getStartTime().getTime() : 0);
+        ArrayNode logs = node.putArray("logs");
+        for (Log log : model.getLogs()) {
+            ObjectNode entry = logs.addObject();
+            entry.put("status", String.valueOf(log.getStatus()));
+            entry.put("timestamp", log.getTimestamp() != null ? log.getTimestamp().getTime() : 0);
+            entry.put("details", log.getDetails());
+            if (log.getMedia() != null && log.getMedia().getPath() != null) {
+                entry.put("media", log.getMedia().getPath());
+            }
+        }
+        ArrayNode media = node.putArray("media");
+        for (Media item : model.getMedia()) {
+            if (item.getPath() != null) {
+                media.add(item.getPath());
+            }
+        }
+        return node;
+    }
+}
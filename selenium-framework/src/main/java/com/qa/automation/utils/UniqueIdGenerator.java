@@ -0,0 +1,171 @@
+package com.qa.automation.utils;
+
+import com.qa.automation.base.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UniqueIdGenerator produces collision-free 63-bit ids in the Snowflake layout:
+ * 41 bits of milliseconds since 2024-01-01 | 10 bits of node id | 12 bits of sequence
+ * The clock is monotonic (wall time at startup plus System.nanoTime), so a wall-clock step back cannot
+ * repeat an id. Each thread leases a block of 256 consecutive (millisecond, sequence) ticks from one
+ * AtomicLong and hands them out with no shared writes, so threads contend once per 256 ids. When more
+ * than 4096 ids per millisecond are requested, ticks run ahead of the clock instead of waiting, and the
+ * clock catches up when the burst ends
+ * The node id comes from data.nodeId (0-1023), or from the host name and process id. Set data.nodeId
+ * when several JVMs generate data against the same environment so their ids can never meet
+ */
+public final class UniqueIdGenerator {
+
+    private static final Logger logger = LogManager.getLogger(UniqueIdGenerator.class);
+
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int BLOCK_SIZE = 256;
+
+    // 10-digit phone numbers: 9e9 values (no leading 0), split into one range per node
+    private static final long PHONE_SPACE = 9_000_000_000L;
+    private static final long PHONES_PER_NODE = PHONE_SPACE / (MAX_NODE + 1);
+    // Multiplier coprime with PHONES_PER_NODE, so consecutive counts map to scattered, distinct numbers
+    private static final long PHONE_STRIDE = coprimeStride(PHONES_PER_NODE);
+    // The phone count starts where the clock is, at 10 numbers per second since the epoch
+    private static final long PHONES_PER_SECOND = 10;
+
+    private static final long START_MILLIS = System.currentTimeMillis() - EPOCH_MILLIS;
+    private static final long PHONE_START = START_MILLIS * PHONES_PER_SECOND / 1000 % PHONES_PER_NODE;
+    private static final long START_NANOS = System.nanoTime();
+    private static final long NODE_ID = resolveNodeId();
+
+    private static final AtomicLong lastTick = new AtomicLong();
+    private static final AtomicLong phoneCounter = new AtomicLong(PHONE_START);
+    private static final AtomicBoolean phoneWrapWarned = new AtomicBoolean();
+    private static final ThreadLocal<long[]> blocks = ThreadLocal.withInitial(() -> new long[]{0, 0});
+    private static final ThreadLocal<long[]> phoneBlocks = ThreadLocal.withInitial(() -> new long[]{0, 0});
+
+    private UniqueIdGenerator() {
+    }
+
+    /**
+     * Generates the next id; unique across threads, and across JVMs with different node ids
+     * @return Positive 63-bit id, increasing per thread
+     */
+    public static long nextId() {
+        long[] block = blocks.get();
+        if (block[0] == block[1]) {
+            long start = lease();
+            block[0] = start;
+            block[1] = start + BLOCK_SIZE;
+        }
+        long tick = block[0]++;
+        return ((tick >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)) | (NODE_ID << SEQUENCE_BITS) | (tick & SEQUENCE_MASK);
+    }
+
+    /**
+     * Generates the next id in base 36, e.g. for emails and usernames
+     * @return Lowercase base-36 id (up to 13 characters)
+     */
+    public static String nextIdString() {
+        return Long.toString(nextId(), Character.MAX_RADIX);
+    }
+
+    /**
+     * Generates a unique email address
+     * Format: prefix_id@domain
+     * @param prefix Email prefix (e.g., "john.doe")
+     * @param domain Email domain (e.g., "test.com")
+     * @return Unique email address
+     */
+    public static String nextEmail(String prefix, String domain) {
+        return prefix + "_" + nextIdString() + "@" + domain;
+    }
+
+    /**
+     * Generates a unique doctor license number
+     * Format: MED followed by the id in uppercase base 36
+     * @return Unique license number
+     */
+    public static String nextLicenseNumber() {
+        return "MED" + Long.toString(nextId(), Character.MAX_RADIX).toUpperCase();
+    }
+
+    /**
+     * Generates a unique 10-digit phone number that does not start with 0
+     * Each node owns a range of about 8.7 million numbers, unique within the JVM until it is used up.
+     * Like the ids, the count is seeded from the clock, so a later run on the same node continues past
+     * an earlier one as long as the earlier run used fewer than 10 numbers per second until the later
+     * one started; the range wraps after about 10 days
+     * @return Phone number as string
+     */
+    public static String nextPhoneNumber() {
+        long[] block = phoneBlocks.get();
+        if (block[0] == block[1]) {
+            long start = phoneCounter.getAndAdd(BLOCK_SIZE);
+            block[0] = start;
+            block[1] = start + BLOCK_SIZE;
+        }
+        long count = block[0]++;
+        if (count - PHONE_START >= PHONES_PER_NODE && phoneWrapWarned.compareAndSet(false, true)) {
+            logger.warn("Generated more than {} phone numbers in this JVM; phone numbers start repeating", PHONES_PER_NODE);
+        }
+        long scattered = (count % PHONES_PER_NODE) * PHONE_STRIDE % PHONES_PER_NODE;
+        return String.valueOf(1_000_000_000L + NODE_ID * PHONES_PER_NODE + scattered);
+    }
+
+    /**
+     * Gets the node id of this JVM
+     * @return Node id (0-1023)
+     */
+    public static long getNodeId() {
+        return NODE_ID;
+    }
+
+    /**
+     * Reserves the next block of ticks: never below the current millisecond, never reused
+     */
+    private static long lease() {
+        long nowTick = currentMillis() << SEQUENCE_BITS;
+        return lastTick.accumulateAndGet(nowTick, (last, now) -> Math.max(last + BLOCK_SIZE, now));
+    }
+
+    private static long currentMillis() {
+        return START_MILLIS + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - START_NANOS);
+    }
+
+    private static long coprimeStride(long modulus) {
+        long stride = (long) (modulus * 0.6180339887);
+        while (BigInteger.valueOf(stride).gcd(BigInteger.valueOf(modulus)).longValue() != 1) {
+            stride++;
+        }
+        return stride;
+    }
+
+    private static long resolveNodeId() {
+        String configured = DriverFactory.getProperty("data.nodeId", "");
+        if (!configured.trim().isEmpty()) {
+            long node = Long.parseLong(configured.trim());
+            if (node < 0 || node > MAX_NODE) {
+                throw new IllegalArgumentException("data.nodeId must be between 0 and " + MAX_NODE + ": " + configured);
+            }
+            return node;
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "localhost";
+        }
+        long node = (host.hashCode() * 31L + ProcessHandle.current().pid()) & MAX_NODE;
+        logger.info("Unique id node: {} (host {}, pid {}); set data.nodeId to pin it", node, host, ProcessHandle.current().pid());
+        return node;
+    }
+}
@@ -0,0 +1,73 @@
+package com.qa.automation.visual;
+
+/**
+ * PerceptualHash computes 64-bit difference hashes (dHash) over packed RGB pixels
+ * The region is averaged down to a 9x8 luminance grid and each bit records whether a cell is brighter
+ * than its right-hand neighbour, so the hash follows edges and layout rather than exact pixel values
+ */
+public final class PerceptualHash {
+
+    private static final int GRID_WIDTH = 9;
+    private static final int GRID_HEIGHT = 8;
+
+    private PerceptualHash() {
+    }
+
+    /**
+     * Hashes a rectangular region of a packed RGB pixel array
+     * @param pixels Pixels in row-major order (0xRRGGBB)
+     * @param stride Width of a full pixel row
+     * @param x Left edge of the region
+     * @param y Top edge of the region
+     * @param width Region width
+     * @param height Region height
+     * @return 64-bit difference hash
+     */
+    public static long dHash(int[] pixels, int stride, int x, int y, int width, int height) {
+        double[] grid = new double[GRID_WIDTH * GRID_HEIGHT];
+        for (int gy = 0; gy < GRID_HEIGHT; gy++) {
+            int y0 = y + gy * height / GRID_HEIGHT;
+            int y1 = Math.max(y0 + 1, y + (gy + 1) * height / GRID_HEIGHT);
+            for (int gx = 0; gx < GRID_WIDTH; gx++) {
+                int x0 = x + gx * width / GRID_WIDTH;
+                int x1 = Math.max(x0 + 1, x + (gx + 1) * width / GRID_WIDTH);
+                long sum = 0;
+                int count = 0;
+                for (int py = y0; py < Math.min(y1, y + height); py++) {
+                    int row = py * stride;
+                    for (int px = x0; px < Math.min(x1, x + width); px++) {
+                        sum += luminance(pixels[row + px]);
+                        count++;
+                    }
+                }
+                grid[gy * GRID_WIDTH + gx] = count > 0 ? (double) sum / count : 0;
+            }
+        }
+
+        long hash = 0;
+        for (int gy = 0; gy < GRID_HEIGHT; gy++) {
+            for (int gx = 0; gx < GRID_WIDTH - 1; gx++) {
+                hash <<= 1;
+                if (grid[gy * GRID_WIDTH + gx] > grid[gy * GRID_WIDTH + gx + 1]) {
+                    hash |= 1;
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Counts differing bits between two hashes
+     * @param first First hash
+     * @param second Second hash
+     * @return Hamming distance (0 to 64)
+     */
+    public static int distance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+
+    private static int luminance(int rgb) {
+        // Integer Rec. 601 weights scaled by 1024
+        return (((rgb >> 16) & 0xFF) * 306 + ((rgb >> 8) & 0xFF) * 601 + (rgb & 0xFF) * 117) >> 10;
+    }
+}
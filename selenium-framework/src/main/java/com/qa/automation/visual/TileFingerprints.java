@@ -0,0 +1,168 @@
+package com.qa.automation.visual;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.stream.IntStream;
+
+/**
+ * TileFingerprints holds the perceptual hash and per-channel colour sums of every tile of an image
+ * Stored next to a baseline, they let a check fingerprint only the current screenshot and decode the
+ * baseline image only when a tile changed
+ */
+public final class TileFingerprints {
+
+    // "TILE" followed by the format version
+    private static final int MAGIC = 0x54494C45;
+    private static final int VERSION = 1;
+
+    private final int tileSize;
+    private final int width;
+    private final int height;
+    private final long[] hashes;
+    private final long[] channelSums;
+
+    private TileFingerprints(int tileSize, int width, int height, long[] hashes, long[] channelSums) {
+        this.tileSize = tileSize;
+        this.width = width;
+        this.height = height;
+        this.hashes = hashes;
+        this.channelSums = channelSums;
+    }
+
+    /**
+     * Fingerprints every tile of a packed RGB pixel array, tiles in parallel
+     * @param pixels Pixels in row-major order (0xRRGGBB)
+     * @param width Image width
+     * @param height Image height
+     * @param tileSize Tile edge in pixels
+     * @return Fingerprints of all tiles
+     */
+    public static TileFingerprints of(int[] pixels, int width, int height, int tileSize) {
+        int columns = (width + tileSize - 1) / tileSize;
+        int rows = (height + tileSize - 1) / tileSize;
+        long[] hashes = new long[columns * rows];
+        long[] channelSums = new long[hashes.length * 3];
+        IntStream.range(0, hashes.length).parallel().forEach(tile -> {
+            int x = (tile % columns) * tileSize;
+            int y = (tile / columns) * tileSize;
+            int w = Math.min(tileSize, width - x);
+            int h = Math.min(tileSize, height - y);
+            hashes[tile] = PerceptualHash.dHash(pixels, width, x, y, w, h);
+            long red = 0;
+            long green = 0;
+            long blue = 0;
+            for (int py = y; py < y + h; py++) {
+                int row = py * width;
+                for (int px = x; px < x + w; px++) {
+                    int rgb = pixels[row + px];
+                    red += (rgb >> 16) & 0xFF;
+                    green += (rgb >> 8) & 0xFF;
+                    blue += rgb & 0xFF;
+                }
+            }
+            channelSums[tile * 3] = red;
+            channelSums[tile * 3 + 1] = green;
+            channelSums[tile * 3 + 2] = blue;
+        });
+        return new TileFingerprints(tileSize, width, height, hashes, channelSums);
+    }
+
+    /**
+     * Reads fingerprints written by write
+     * @param file Fingerprint file
+     * @return Fingerprints, or null if the file has an unknown format
+     * @throws IOException if the file cannot be read
+     */
+    public static TileFingerprints read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            int tileSize = in.readInt();
+            int width = in.readInt();
+            int height = in.readInt();
+            long[] hashes = new long[in.readInt()];
+            long[] channelSums = new long[hashes.length * 3];
+            for (int tile = 0; tile < hashes.length; tile++) {
+                hashes[tile] = in.readLong();
+                for (int channel = 0; channel < 3; channel++) {
+                    channelSums[tile * 3 + channel] = in.readLong();
+                }
+            }
+            return new TileFingerprints(tileSize, width, height, hashes, channelSums);
+        }
+    }
+
+    /**
+     * Writes the fingerprints to a temporary file and renames it into place
+     * @param file Fingerprint file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(tileSize);
+            out.writeInt(width);
+            out.writeInt(height);
+            out.writeInt(hashes.length);
+            for (int tile = 0; tile < hashes.length; tile++) {
+                out.writeLong(hashes[tile]);
+                for (int channel = 0; channel < 3; channel++) {
+                    out.writeLong(channelSums[tile * 3 + channel]);
+                }
+            }
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Checks whether a tile's fingerprint changed
+     * A channel sum difference of one pixel's worth of the threshold catches small recolourings the dHash misses
+     * @param other Fingerprints of an image with the same size and tile size
+     * @param tile Tile index
+     * @param pixelThreshold Largest per-channel difference still treated as equal
+     * @return true if the tile must be compared pixel by pixel
+     */
+    boolean differs(TileFingerprints other, int tile, int pixelThreshold) {
+        if (hashes[tile] != other.hashes[tile]) {
+            return true;
+        }
+        for (int channel = tile * 3; channel < tile * 3 + 3; channel++) {
+            if (Math.abs(channelSums[channel] - other.channelSums[channel]) > pixelThreshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTileCount() {
+        return hashes.length;
+    }
+}
@@ -0,0 +1,223 @@
+package com.qa.automation.visual;
+
+import com.qa.automation.base.DriverFactory;
+import com.qa.automation.utils.ExtentReportManager;
+import com.qa.automation.utils.ScreenshotUtil;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.firefox.HasFullPageScreenshot;
+import org.openqa.selenium.json.Json;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * VisualCheck compares page or element screenshots with stored baselines
+ * Baselines live in visual.baselineDir as &lt;name&gt;_&lt;browser&gt;.png, with the tile fingerprints of each
+ * baseline in a .tiles file beside it; they are only recorded when visual.updateBaselines=true and a missing
+ * baseline fails the check. Fingerprints missing or older than their baseline are rebuilt from it.
+ * Mismatches write the diff image to visual.outputDir and attach it to the ExtentReport
+ */
+public class VisualCheck {
+
+    private static final Logger logger = LogManager.getLogger(VisualCheck.class);
+
+    /**
+     * Compares the current viewport with its baseline
+     * @param name Baseline name, e.g. "home-page"
+     * @return Diff result
+     */
+    public static VisualDiffResult checkPage(String name) {
+        return compareWithBaseline(name, ScreenshotUtil.captureScreenshotAsBytes());
+    }
+
+    /**
+     * Compares the whole scrollable page with its baseline
+     * Firefox captures it natively and Chromium browsers through DevTools; other drivers fall back to the viewport
+     * @param name Baseline name, e.g. "home-page-full"
+     * @return Diff result
+     */
+    public static VisualDiffResult checkFullPage(String name) {
+        return compareWithBaseline(name, captureFullPage(DriverFactory.getDriver()));
+    }
+
+    /**
+     * Compares a single element with its baseline
+     * @param name Baseline name, e.g. "login-form"
+     * @param element Element to capture
+     * @return Diff result
+     */
+    public static VisualDiffResult checkElement(String name, WebElement element) {
+        byte[] png;
+        try {
+            png = element.getScreenshotAs(OutputType.BYTES);
+        } catch (Exception e) {
+            logger.error("Failed to capture element screenshot: {}. Error: {}", name, e.getMessage());
+            png = null;
+        }
+        return compareWithBaseline(name, png);
+    }
+
+    /**
+     * Gets the allowed share of differing pixels from visual.maxDiffRatio
+     * @return Maximum diff ratio
+     */
+    public static double getMaxDiffRatio() {
+        return Double.parseDouble(DriverFactory.getProperty("visual.maxDiffRatio", "0.001"));
+    }
+
+    /**
+     * Compares captured PNG bytes with the named baseline
+     * @param name Baseline name
+     * @param png Captured PNG bytes
+     * @return Diff result
+     * @throws IllegalStateException if there is no baseline and visual.updateBaselines is false
+     */
+    public static VisualDiffResult compareWithBaseline(String name, byte[] png) {
+        if (png == null) {
+            throw new IllegalStateException("No screenshot captured for visual check: " + name);
+        }
+        String baseName = name + "_" + DriverFactory.getBrowser().toLowerCase(Locale.ROOT);
+        Path baselineDir = resolve(DriverFactory.getProperty("visual.baselineDir", "src/test/resources/visual-baselines"));
+        Path baselinePath = baselineDir.resolve(baseName + ".png");
+        Path tilesPath = baselineDir.resolve(baseName + ".tiles");
+        try {
+            BufferedImage actual = ImageIO.read(new ByteArrayInputStream(png));
+            if (actual == null) {
+                throw new IllegalStateException("Screenshot is not a readable image: " + name);
+            }
+            boolean update = Boolean.parseBoolean(DriverFactory.getProperty("visual.updateBaselines", "false"));
+            if (!update && !Files.exists(baselinePath)) {
+                ExtentReportManager.logFail("No visual baseline for '" + name + "': " + baselinePath);
+                throw new IllegalStateException("No visual baseline for '" + name + "' at " + baselinePath
+                        + "; record it with -Dvisual.updateBaselines=true");
+            }
+            VisualDiffEngine engine = new VisualDiffEngine(
+                    Integer.parseInt(DriverFactory.getProperty("visual.tileSize", "32")),
+                    Integer.parseInt(DriverFactory.getProperty("visual.pixelThreshold", "16")));
+            if (update) {
+                Files.createDirectories(baselinePath.getParent());
+                Files.write(baselinePath, png);
+                engine.fingerprint(actual).write(tilesPath);
+                logger.info("Visual baseline recorded: {}", baselinePath);
+                ExtentReportManager.logInfo("Visual baseline recorded for '" + name + "': " + baselinePath);
+                return new VisualDiffResult(true, 0, 0, 0, 0, (long) actual.getWidth() * actual.getHeight(), null, 0);
+            }
+
+            VisualDiffResult result = engine.compare(baselineTiles(engine, baselinePath, tilesPath),
+                    () -> readImage(baselinePath), actual);
+            logger.info("Visual check '{}': {}", name, result);
+
+            if (result.getDiffImage() != null || !result.isSizeMatching()) {
+                Path outputDir = resolve(DriverFactory.getProperty("visual.outputDir", "test-output/visual"));
+                Files.createDirectories(outputDir);
+                Files.write(outputDir.resolve(name + "_actual.png"), png);
+                Path diffPath = outputDir.resolve(name + "_diff.png");
+                ImageIO.write(result.getDiffImage(), "png", diffPath.toFile());
+                ExtentReportManager.logInfo("Visual check '" + name + "': " + result);
+                ExtentReportManager.attachScreenshot(diffPath.toString());
+            } else {
+                ExtentReportManager.logInfo("Visual check '" + name + "' matches baseline (" + result.getElapsedMillis() + " ms)");
+            }
+            return result;
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("Failed to run visual check: " + name, e);
+        }
+    }
+
+    /**
+     * Loads the stored tile fingerprints of a baseline, rebuilding them when missing, stale or made
+     * with another tile size
+     */
+    private static TileFingerprints baselineTiles(VisualDiffEngine engine, Path baselinePath, Path tilesPath)
+            throws IOException {
+        if (Files.exists(tilesPath)
+                && Files.getLastModifiedTime(tilesPath).compareTo(Files.getLastModifiedTime(baselinePath)) >= 0) {
+            TileFingerprints stored = TileFingerprints.read(tilesPath);
+            if (stored != null && stored.getTileSize() == engine.getTileSize()) {
+                return stored;
+            }
+        }
+        TileFingerprints rebuilt = engine.fingerprint(readImage(baselinePath));
+        try {
+            rebuilt.write(tilesPath);
+            logger.info("Visual baseline fingerprints rebuilt: {}", tilesPath);
+        } catch (IOException e) {
+            logger.warn("Failed to store visual baseline fingerprints: {}. Error: {}", tilesPath, e.getMessage());
+        }
+        return rebuilt;
+    }
+
+    private static BufferedImage readImage(Path path) {
+        try {
+            BufferedImage image = ImageIO.read(path.toFile());
+            if (image == null) {
+                throw new IOException("Not a readable image: " + path);
+            }
+            return image;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Captures the whole scrollable page as PNG bytes
+     * @param driver Driver showing the page
+     * @return PNG bytes, or null if nothing could be captured
+     */
+    @SuppressWarnings("unchecked")
+    static byte[] captureFullPage(WebDriver driver) {
+        if (driver instanceof HasFullPageScreenshot) {
+            return ((HasFullPageScreenshot) driver).getFullPageScreenshotAs(OutputType.BYTES);
+        }
+        if (driver instanceof HasDevTools) {
+            try {
+                DevTools devTools = ((HasDevTools) driver).getDevTools();
+                devTools.createSessionIfThereIsNotOne();
+                Map<String, Object> metrics = devTools.send(
+                        new Command<>("Page.getLayoutMetrics", new HashMap<>(), Json.MAP_TYPE));
+                Map<String, Object> content = (Map<String, Object>) metrics.getOrDefault("cssContentSize",
+                        metrics.get("contentSize"));
+                Map<String, Object> clip = new HashMap<>();
+                clip.put("x", 0);
+                clip.put("y", 0);
+                clip.put("width", content.get("width"));
+                clip.put("height", content.get("height"));
+                clip.put("scale", 1);
+                Map<String, Object> params = new HashMap<>();
+                params.put("format", "png");
+                params.put("captureBeyondViewport", true);
+                params.put("clip", clip);
+                Map<String, Object> screenshot = devTools.send(
+                        new Command<>("Page.captureScreenshot", params, Json.MAP_TYPE));
+                return Base64.getDecoder().decode(String.valueOf(screenshot.get("data")));
+            } catch (Exception e) {
+                logger.warn("Full-page capture through DevTools failed, using the viewport. Error: {}", e.getMessage());
+            }
+        } else {
+            logger.warn("Driver cannot capture the full page, using the viewport");
+        }
+        return ScreenshotUtil.captureScreenshotAsBytes();
+    }
+
+    private static Path resolve(String path) {
+        Path resolved = Paths.get(path);
+        return resolved.isAbsolute() ? resolved : Paths.get(System.getProperty("user.dir")).resolve(resolved);
+    }
+}
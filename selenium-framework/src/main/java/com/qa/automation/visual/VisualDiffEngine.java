@@ -0,0 +1,190 @@
+package com.qa.automation.visual;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * VisualDiffEngine compares a screenshot with its baseline tile by tile
+ * Every tile of the screenshot is fingerprinted with a perceptual hash and its colour sums and checked
+ * against the baseline's stored fingerprints; only tiles whose fingerprint changed are compared pixel by
+ * pixel, and the baseline image is only loaded when there is such a tile. Both passes run in parallel
+ * over the tiles, and each tile writes to its own region of the diff image
+ */
+public class VisualDiffEngine {
+
+    private static final int DIFF_COLOR = 0xFF0000;
+    private static final Color TILE_OUTLINE = new Color(255, 0, 0, 160);
+
+    private final int tileSize;
+    private final int pixelThreshold;
+
+    /**
+     * Creates an engine
+     * @param tileSize Tile edge in pixels; smaller tiles make the hash pre-filter more sensitive
+     * @param pixelThreshold Largest per-channel difference (0-255) still treated as equal, absorbs anti-aliasing
+     */
+    public VisualDiffEngine(int tileSize, int pixelThreshold) {
+        if (tileSize < 8) {
+            throw new IllegalArgumentException("tileSize must be at least 8: " + tileSize);
+        }
+        this.tileSize = tileSize;
+        this.pixelThreshold = pixelThreshold;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Fingerprints the tiles of an image with this engine's tile size
+     * @param image Image to fingerprint
+     * @return Tile fingerprints
+     */
+    public TileFingerprints fingerprint(BufferedImage image) {
+        return TileFingerprints.of(rgbPixels(image), image.getWidth(), image.getHeight(), tileSize);
+    }
+
+    /**
+     * Compares a screenshot with its baseline
+     * @param baseline Baseline image
+     * @param actual Current screenshot
+     * @return Diff result; the diff image is only built when pixels differ
+     */
+    public VisualDiffResult compare(BufferedImage baseline, BufferedImage actual) {
+        return compare(fingerprint(baseline), () -> baseline, actual);
+    }
+
+    /**
+     * Compares a screenshot with a baseline given by its stored fingerprints
+     * @param baselineTiles Fingerprints of the baseline, with this engine's tile size
+     * @param baseline Loads the baseline image; only called when a tile fingerprint changed
+     * @param actual Current screenshot
+     * @return Diff result; the diff image is only built when pixels differ
+     */
+    public VisualDiffResult compare(TileFingerprints baselineTiles, Supplier<BufferedImage> baseline, BufferedImage actual) {
+        if (baselineTiles.getTileSize() != tileSize) {
+            throw new IllegalArgumentException("Baseline fingerprints use tile size " + baselineTiles.getTileSize()
+                    + ", engine uses " + tileSize);
+        }
+        long start = System.nanoTime();
+        int width = actual.getWidth();
+        int height = actual.getHeight();
+        if (baselineTiles.getWidth() != width || baselineTiles.getHeight() != height) {
+            return new VisualDiffResult(false, 0, 0, 0, (long) width * height, (long) width * height,
+                    sizeMismatchImage(actual), elapsedMillis(start));
+        }
+
+        int[] current = rgbPixels(actual);
+        int columns = (width + tileSize - 1) / tileSize;
+        int tiles = baselineTiles.getTileCount();
+
+        // Pass 1: perceptual pre-filter against the stored baseline fingerprints
+        TileFingerprints currentTiles = TileFingerprints.of(current, width, height, tileSize);
+        int[] changedTiles = IntStream.range(0, tiles)
+                .filter(tile -> currentTiles.differs(baselineTiles, tile, pixelThreshold))
+                .toArray();
+        if (changedTiles.length == 0) {
+            return new VisualDiffResult(true, tiles, 0, 0, 0, (long) width * height, null, elapsedMillis(start));
+        }
+
+        BufferedImage baselineImage = baseline.get();
+        if (baselineImage.getWidth() != width || baselineImage.getHeight() != height) {
+            throw new IllegalArgumentException("Baseline image does not match its fingerprints");
+        }
+        int[] expected = rgbPixels(baselineImage);
+
+        // Pass 2: exact comparison of the changed tiles, painting differences into a faded copy
+        BufferedImage diffImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        int[] diff = ((DataBufferInt) diffImage.getRaster().getDataBuffer()).getData();
+        Arrays.parallelSetAll(diff, index -> fade(current[index]));
+        long[] tileDiffs = new long[tiles];
+        Arrays.stream(changedTiles).parallel().forEach(tile -> {
+            int x = (tile % columns) * tileSize;
+            int y = (tile / columns) * tileSize;
+            int w = Math.min(tileSize, width - x);
+            int h = Math.min(tileSize, height - y);
+            long count = 0;
+            for (int py = y; py < y + h; py++) {
+                int row = py * width;
+                for (int px = x; px < x + w; px++) {
+                    if (maxChannelDelta(expected[row + px], current[row + px]) > pixelThreshold) {
+                        diff[row + px] = DIFF_COLOR;
+                        count++;
+                    }
+                }
+            }
+            tileDiffs[tile] = count;
+        });
+
+        long differentPixels = 0;
+        int differentTiles = 0;
+        for (int tile : changedTiles) {
+            differentPixels += tileDiffs[tile];
+            if (tileDiffs[tile] > 0) {
+                differentTiles++;
+            }
+        }
+        if (differentPixels == 0) {
+            diffImage = null;
+        } else {
+            Graphics2D graphics = diffImage.createGraphics();
+            graphics.setColor(TILE_OUTLINE);
+            graphics.setStroke(new BasicStroke(2));
+            for (int tile : changedTiles) {
+                if (tileDiffs[tile] > 0) {
+                    graphics.drawRect((tile % columns) * tileSize, (tile / columns) * tileSize, tileSize - 1, tileSize - 1);
+                }
+            }
+            graphics.dispose();
+        }
+        return new VisualDiffResult(true, tiles, changedTiles.length, differentTiles, differentPixels,
+                (long) width * height, diffImage, elapsedMillis(start));
+    }
+
+    private static int maxChannelDelta(int a, int b) {
+        int red = Math.abs(((a >> 16) & 0xFF) - ((b >> 16) & 0xFF));
+        int green = Math.abs(((a >> 8) & 0xFF) - ((b >> 8) & 0xFF));
+        int blue = Math.abs((a & 0xFF) - (b & 0xFF));
+        return Math.max(red, Math.max(green, blue));
+    }
+
+    private static int fade(int rgb) {
+        // Blend 70% towards white so the red differences stand out
+        int red = 178 + (((rgb >> 16) & 0xFF) * 77 >> 8);
+        int green = 178 + (((rgb >> 8) & 0xFF) * 77 >> 8);
+        int blue = 178 + ((rgb & 0xFF) * 77 >> 8);
+        return (red << 16) | (green << 8) | blue;
+    }
+
+    private static BufferedImage sizeMismatchImage(BufferedImage actual) {
+        BufferedImage image = new BufferedImage(actual.getWidth(), actual.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.drawImage(actual, 0, 0, null);
+        graphics.setColor(Color.RED);
+        graphics.setStroke(new BasicStroke(6));
+        graphics.drawRect(0, 0, actual.getWidth() - 1, actual.getHeight() - 1);
+        graphics.dispose();
+        return image;
+    }
+
+    static int[] rgbPixels(BufferedImage image) {
+        BufferedImage rgb = image;
+        if (image.getType() != BufferedImage.TYPE_INT_RGB) {
+            rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = rgb.createGraphics();
+            graphics.drawImage(image, 0, 0, null);
+            graphics.dispose();
+        }
+        return ((DataBufferInt) rgb.getRaster().getDataBuffer()).getData();
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,96 @@
+package com.qa.automation.visual;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * VisualDiffResult holds the outcome of comparing a screenshot with its baseline
+ */
+public class VisualDiffResult {
+
+    private final boolean sizeMatches;
+    private final int totalTiles;
+    private final int hashChangedTiles;
+    private final int differentTiles;
+    private final long differentPixels;
+    private final long totalPixels;
+    private final BufferedImage diffImage;
+    private final long elapsedMillis;
+
+    VisualDiffResult(boolean sizeMatches, int totalTiles, int hashChangedTiles, int differentTiles,
+                     long differentPixels, long totalPixels, BufferedImage diffImage, long elapsedMillis) {
+        this.sizeMatches = sizeMatches;
+        this.totalTiles = totalTiles;
+        this.hashChangedTiles = hashChangedTiles;
+        this.differentTiles = differentTiles;
+        this.differentPixels = differentPixels;
+        this.totalPixels = totalPixels;
+        this.diffImage = diffImage;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Checks whether the images differ by no more than the given share of pixels
+     * @param maxDiffRatio Allowed share of different pixels (0 to 1)
+     * @return true if the screenshot matches the baseline
+     */
+    public boolean matches(double maxDiffRatio) {
+        return sizeMatches && getDiffRatio() <= maxDiffRatio;
+    }
+
+    public boolean isSizeMatching() {
+        return sizeMatches;
+    }
+
+    public int getTotalTiles() {
+        return totalTiles;
+    }
+
+    /**
+     * Gets the number of tiles whose perceptual hash changed and were diffed pixel by pixel
+     * @return Hash-changed tile count
+     */
+    public int getHashChangedTiles() {
+        return hashChangedTiles;
+    }
+
+    public int getDifferentTiles() {
+        return differentTiles;
+    }
+
+    public long getDifferentPixels() {
+        return differentPixels;
+    }
+
+    /**
+     * Gets the share of pixels that differ beyond the pixel threshold
+     * @return Ratio between 0 and 1 (1 when sizes differ)
+     */
+    public double getDiffRatio() {
+        if (!sizeMatches) {
+            return 1.0;
+        }
+        return totalPixels == 0 ? 0 : (double) differentPixels / totalPixels;
+    }
+
+    /**
+     * Gets the diff image: the screenshot faded out with differing pixels in red and changed tiles outlined
+     * @return Diff image, or null if no pixel differs
+     */
+    public BufferedImage getDiffImage() {
+        return diffImage;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        if (!sizeMatches) {
+            return "size differs from baseline";
+        }
+        return String.format("%d of %d pixels differ (%.3f%%), %d of %d tiles hash-changed, %d differ, %d ms",
+                differentPixels, totalPixels, getDiffRatio() * 100, hashChangedTiles, totalTiles, differentTiles,
+                elapsedMillis);
+    }
+}
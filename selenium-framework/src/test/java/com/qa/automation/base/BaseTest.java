@@ -1,6 +1,9 @@
 package com.qa.automation.base;
 
+import com.qa.automation.diagnostics.BrowserEventLog;
+import com.qa.automation.server.PortalStandInServer;
 import com.qa.automation.utils.ExtentReportManager;
+import com.qa.automation.utils.ScreencastRecorder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.ITestResult;
@@ -17,13 +20,20 @@ public class BaseTest {
 
     private static final Logger logger = LogManager.getLogger(BaseTest.class);
     private static final int BROWSER_KEEP_OPEN_DELAY = 5000; // 5 seconds to see the page
+    private static PortalStandInServer standInServer;
 
     /**
      * Initializes ExtentReports before the test suite starts
+     * With standin.enabled=true the suite runs offline against an embedded PortalStandInServer
      */
     @BeforeSuite
     public void setUpSuite() {
         ExtentReportManager.getExtentReports();
+        if (Boolean.parseBoolean(DriverFactory.getProperty("standin.enabled", "false"))) {
+            standInServer = PortalStandInServer.fromConfig().start();
+            System.setProperty("url", standInServer.getBaseUrl());
+            logger.info("Running suite against portal stand-in at {}", standInServer.getBaseUrl());
+        }
     }
 
     /**
@@ -34,6 +44,10 @@ public class BaseTest {
     public void setUp(org.testng.ITestResult result) {
         DriverFactory.getDriver();
         logger.info("WebDriver initialized and ready for test execution");
+        // Keeps the last seconds of the session so a failure can attach a recording
+        ScreencastRecorder.start(DriverFactory.getDriver());
+        // Console and network log for the failure bundle
+        BrowserEventLog.start(DriverFactory.getDriver());
         
         // Ensure ExtentTest is available - create if not exists
         // This is a fallback in case listener didn't create it
@@ -67,6 +81,9 @@ public class BaseTest {
         }
         
         logger.info("Closing browser...");
+        BrowserEventLog.stop();
+        // Last before quitting: it removes the session's DevTools listeners
+        ScreencastRecorder.discard();
         DriverFactory.closeDriver();
         logger.info("Browser closed successfully");
         
@@ -83,6 +100,11 @@ public class BaseTest {
         logger.info("Test suite completed. Flushing ExtentReports...");
         ExtentReportManager.flushReport();
         logger.info("ExtentReports flushed successfully");
+        if (standInServer != null) {
+            standInServer.stop();
+            standInServer = null;
+            System.clearProperty("url");
+        }
     }
 }
 
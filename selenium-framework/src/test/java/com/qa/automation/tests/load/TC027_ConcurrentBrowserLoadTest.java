@@ -0,0 +1,76 @@
+package com.qa.automation.tests.load;
+
+import com.qa.automation.base.DriverFactory;
+import com.qa.automation.load.BrowserLoadRunner;
+import com.qa.automation.load.LoadMetrics;
+import com.qa.automation.load.LoadProfile;
+import com.qa.automation.load.LoadReport;
+import com.qa.automation.load.PortalBrowserScenario;
+import com.qa.automation.server.PortalStandInServer;
+import com.qa.automation.utils.ExtentReportManager;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * TC-027: Concurrent Browser Load through Login, Search and Upload
+ * Module/Feature: Load
+ * Priority: P2
+ * Test Type: Load
+ *
+ * Precondition: Portal stand-in server (default) or -Dload.useStandIn=false -Durl=... for a real environment
+ *
+ * Test Steps:
+ * 1. Start N headless browser sessions across the ramp-up phase
+ * 2. Each session signs up once, then loops: login, search doctors, upload record, logout
+ * 3. Hold all sessions through the steady state, then stop them across the ramp-down
+ *
+ * Expected Result:
+ * - Per-step latency percentiles and error rates are reported per phase
+ * - Overall error rate stays within load.maxErrorRate
+ *
+ * Test Data:
+ * - load.virtualUsers, load.rampUpSeconds, load.steadyStateSeconds, load.rampDownSeconds (config.properties)
+ *
+ * Does not extend BaseTest: each virtual user owns its own WebDriver on its own thread
+ */
+public class TC027_ConcurrentBrowserLoadTest {
+
+    private PortalStandInServer standInServer;
+
+    @BeforeClass
+    public void startStandInServer() {
+        System.setProperty("headless", "true");
+        if (Boolean.parseBoolean(DriverFactory.getProperty("load.useStandIn", "true"))) {
+            standInServer = PortalStandInServer.fromConfig().start();
+            System.setProperty("url", standInServer.getBaseUrl());
+        }
+    }
+
+    @Test(description = "TC-027: Concurrent Browser Load through Login, Search and Upload")
+    public void verifyPortalUnderConcurrentBrowserLoad() {
+        LoadProfile profile = LoadProfile.fromConfig();
+        ExtentReportManager.logInfo("Load profile: " + profile);
+        ExtentReportManager.logInfo("Target: " + DriverFactory.getUrl());
+
+        LoadMetrics metrics = new BrowserLoadRunner(profile, new PortalBrowserScenario()).run();
+        ExtentReportManager.logInfo(LoadReport.toHtml(metrics));
+
+        Assert.assertTrue(metrics.getTotalCount() > 0, "Load run should execute at least one step");
+        Assert.assertTrue(metrics.getErrorRate() <= profile.getMaxErrorRate(),
+                String.format("Error rate %.2f%% should not exceed %.2f%%",
+                        metrics.getErrorRate() * 100, profile.getMaxErrorRate() * 100));
+        ExtentReportManager.logPass(String.format("✓ Error rate %.2f%% within threshold %.2f%%",
+                metrics.getErrorRate() * 100, profile.getMaxErrorRate() * 100));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStandInServer() {
+        if (standInServer != null) {
+            standInServer.stop();
+            System.clearProperty("url");
+        }
+        System.clearProperty("headless");
+    }
+}
@@ -0,0 +1,86 @@
+package com.qa.automation.tests.load;
+
+import com.qa.automation.base.DriverFactory;
+import com.qa.automation.load.HttpLoadEngine;
+import com.qa.automation.load.HttpLoadProfile;
+import com.qa.automation.load.HttpLoadResult;
+import com.qa.automation.load.LoadReport;
+import com.qa.automation.load.PortalHttpRequests;
+import com.qa.automation.server.PortalStandInServer;
+import com.qa.automation.utils.ExtentReportManager;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * TC-028: HTTP-level Load on Signup, Login and Upload Endpoints
+ * Module/Feature: Load
+ * Priority: P2
+ * Test Type: Load
+ *
+ * Precondition: Portal stand-in server (default) or -Dload.useStandIn=false -Durl=... for a real environment
+ *
+ * Test Steps:
+ * 1. Generate session arrivals at httpload.ratePerSecond (open model, ramp-up / steady / ramp-down)
+ * 2. Each session posts signup, login and a medical record upload with a non-blocking HttpClient
+ * 3. Record latency from the intended arrival time and from the actual send time
+ *
+ * Expected Result:
+ * - Every started session completes or errors within the drain grace period
+ * - Error rate stays within httpload.maxErrorRate
+ *
+ * Does not extend BaseTest: no browser is needed
+ */
+public class TC028_HttpLoadEngineTest {
+
+    private PortalStandInServer standInServer;
+    private String baseUrl;
+
+    @BeforeClass
+    public void startStandInServer() {
+        if (Boolean.parseBoolean(DriverFactory.getProperty("load.useStandIn", "true"))) {
+            standInServer = new PortalStandInServer().start();
+            baseUrl = standInServer.getBaseUrl();
+        } else {
+            baseUrl = DriverFactory.getUrl();
+        }
+    }
+
+    @Test(description = "TC-028: HTTP-level Load on Signup, Login and Upload Endpoints")
+    public void verifyEndpointsUnderOpenModelLoad() throws Exception {
+        HttpLoadProfile profile = HttpLoadProfile.fromConfig();
+        ExtentReportManager.logInfo("HTTP load profile: " + profile);
+        ExtentReportManager.logInfo("Target: " + baseUrl);
+
+        HttpLoadResult result = new HttpLoadEngine(profile,
+                new PortalHttpRequests(baseUrl, profile.getRequestTimeout())).run();
+
+        ExtentReportManager.logInfo("Sessions scheduled: " + result.getSessionsScheduled()
+                + ", started: " + result.getSessionsStarted()
+                + ", completed: " + result.getSessionsCompleted()
+                + ", errored: " + result.getSessionsErrored()
+                + ", rejected: " + result.getSessionsRejected()
+                + String.format(", achieved rate: %.1f/s", result.getAchievedRatePerSecond()));
+        ExtentReportManager.logInfo("Response time (from intended start, coordinated-omission corrected)");
+        ExtentReportManager.logInfo(LoadReport.toHtml(result.getResponseTimes()));
+        ExtentReportManager.logInfo("Service time (from actual send)");
+        ExtentReportManager.logInfo(LoadReport.toHtml(result.getServiceTimes()));
+
+        Assert.assertTrue(result.getSessionsStarted() > 0, "At least one session should be started");
+        Assert.assertEquals(result.getSessionsCompleted() + result.getSessionsErrored(), result.getSessionsStarted(),
+                "Every started session should have completed or errored once the run drained");
+        double errorRate = result.getResponseTimes().getErrorRate();
+        Assert.assertTrue(errorRate <= profile.getMaxErrorRate(),
+                String.format("Error rate %.2f%% should not exceed %.2f%%", errorRate * 100, profile.getMaxErrorRate() * 100));
+        ExtentReportManager.logPass(String.format("✓ Error rate %.2f%% within threshold %.2f%%",
+                errorRate * 100, profile.getMaxErrorRate() * 100));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStandInServer() {
+        if (standInServer != null) {
+            standInServer.stop();
+        }
+    }
+}
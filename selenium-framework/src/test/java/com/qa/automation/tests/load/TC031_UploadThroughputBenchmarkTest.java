@@ -0,0 +1,325 @@
+package com.qa.automation.tests.load;
+
+import com.qa.automation.base.DriverFactory;
+import com.qa.automation.load.LoadMetrics;
+import com.qa.automation.load.LoadPhase;
+import com.qa.automation.load.LoadReport;
+import com.qa.automation.load.PortalHttpRequests;
+import com.qa.automation.load.PortalLoadFixture;
+import com.qa.automation.pages.HomePage;
+import com.qa.automation.pages.LoginPage;
+import com.qa.automation.pages.MedicalRecordsPage;
+import com.qa.automation.utils.ExtentReportManager;
+import com.qa.automation.utils.SyntheticDataGenerator;
+import com.qa.automation.utils.SyntheticFileGenerator;
+import com.qa.automation.utils.UniqueIdGenerator;
+import org.openqa.selenium.JavascriptExecutor;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * TC-031: Medical Report Upload Latency and Throughput by File Size and Concurrency
+ * Module/Feature: Load
+ * Priority: P2
+ * Test Type: Performance
+ *
+ * Precondition: Portal stand-in server (default) or -Dload.useStandIn=false -Durl=... for a real environment
+ *
+ * Test Steps:
+ * 1. Generate (or reuse from the cache) a synthetic PDF report of each uploadbench.sizes size
+ * 2. Sign up and log in one synthetic patient per concurrent uploader through the HTTP endpoints
+ * 3. For each size and each uploadbench.concurrency level, every uploader posts uploadbench.uploadsPerUser
+ *    reports back to back
+ * 4. In one headless browser, upload each size through the records page and time the upload request in the page
+ *
+ * Expected Result:
+ * - Latency percentiles, uploads/s and MB/s are reported per size and concurrency
+ * - Error rate stays within uploadbench.maxErrorRate
+ *
+ * Test Data:
+ * - uploadbench.sizes, uploadbench.pages, uploadbench.concurrency, uploadbench.uploadsPerUser (config.properties)
+ *
+ * Does not extend BaseTest: the HTTP matrix needs no browser and the browser check opens its own session
+ */
+public class TC031_UploadThroughputBenchmarkTest {
+
+    private static final double[] PERCENTILES = {50.0, 95.0, 99.0};
+    private static final DateTimeFormatter RECORD_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final String TIMING_KEY = "qa.uploadTiming";
+    // Wraps fetch and XMLHttpRequest so the upload round trip is timed in the page; the result is kept in
+    // sessionStorage because the records page reloads after the upload alert
+    private static final String UPLOAD_TIMING_SCRIPT =
+            "var path = arguments[0], key = arguments[1];"
+            + "sessionStorage.removeItem(key);"
+            + "if (window.__qaUploadTiming) { return; }"
+            + "window.__qaUploadTiming = true;"
+            + "var store = function (start, status) {"
+            + "  sessionStorage.setItem(key, JSON.stringify({millis: performance.now() - start, status: status}));"
+            + "};"
+            + "if (window.fetch) {"
+            + "  var originalFetch = window.fetch;"
+            + "  window.fetch = function (input) {"
+            + "    var url = typeof input === 'string' ? input : (input && input.url) || '';"
+            + "    var start = performance.now();"
+            + "    var result = originalFetch.apply(this, arguments);"
+            + "    if (url.indexOf(path) >= 0) {"
+            + "      result.then(function (response) { store(start, response.status); },"
+            + "                  function () { store(start, 0); });"
+            + "    }"
+            + "    return result;"
+            + "  };"
+            + "}"
+            + "var originalOpen = XMLHttpRequest.prototype.open, originalSend = XMLHttpRequest.prototype.send;"
+            + "XMLHttpRequest.prototype.open = function (method, url) {"
+            + "  this.__qaUrl = String(url);"
+            + "  return originalOpen.apply(this, arguments);"
+            + "};"
+            + "XMLHttpRequest.prototype.send = function () {"
+            + "  if (this.__qaUrl && this.__qaUrl.indexOf(path) >= 0) {"
+            + "    var xhr = this, start = performance.now();"
+            + "    xhr.addEventListener('readystatechange', function () {"
+            + "      if (xhr.readyState === 4) { store(start, xhr.status); }"
+            + "    });"
+            + "  }"
+            + "  return originalSend.apply(this, arguments);"
+            + "};";
+
+    private final List<PortalLoadFixture.Account> accounts = new ArrayList<>();
+    private PortalLoadFixture fixture;
+
+    @BeforeClass
+    public void startFixture() {
+        fixture = PortalLoadFixture.start();
+    }
+
+    @Test(description = "TC-031: Upload Latency and Throughput by File Size and Concurrency")
+    public void verifyUploadThroughputBySizeAndConcurrency() throws Exception {
+        List<Long> sizes = sizes();
+        List<Integer> concurrencyLevels = new ArrayList<>();
+        for (String level : DriverFactory.getProperty("uploadbench.concurrency", "1,4,8").split(",")) {
+            concurrencyLevels.add(Integer.parseInt(level.trim()));
+        }
+        int uploadsPerUser = Integer.parseInt(DriverFactory.getProperty("uploadbench.uploadsPerUser", "5"));
+        double maxErrorRate = Double.parseDouble(DriverFactory.getProperty("uploadbench.maxErrorRate", "0.01"));
+        ExtentReportManager.logInfo("Target: " + fixture.getBaseUrl());
+
+        ExtentReportManager.logInfo("Step 1: Generate synthetic PDF reports " + sizes.stream()
+                .map(SyntheticFileGenerator::formatSize).reduce((a, b) -> a + ", " + b).orElse(""));
+        List<Path> files = new ArrayList<>();
+        for (long size : sizes) {
+            files.add(reportFile(size));
+        }
+
+        int maxConcurrency = concurrencyLevels.stream().max(Integer::compare).orElse(1);
+        ExtentReportManager.logInfo("Step 2: Sign up and log in " + maxConcurrency + " patients");
+        ensureAccounts(fixture.requests(files.get(0)), maxConcurrency);
+
+        ExtentReportManager.logInfo("Step 3: Upload each size at each concurrency level, " + uploadsPerUser
+                + " uploads per patient");
+        StringBuilder summary = new StringBuilder("<table class=\"table table-sm\"><thead><tr>")
+                .append("<th>Size</th><th>Concurrency</th><th>Uploads</th><th>Errors</th>");
+        for (double percentile : PERCENTILES) {
+            summary.append("<th>p").append((int) percentile).append(" ms</th>");
+        }
+        summary.append("<th>Max ms</th><th>Uploads/s</th><th>MB/s</th></tr></thead><tbody>");
+        long totalUploads = 0;
+        long totalErrors = 0;
+        StringBuilder errorDetails = new StringBuilder();
+        for (int index = 0; index < sizes.size(); index++) {
+            long size = sizes.get(index);
+            PortalHttpRequests requests = fixture.requests(files.get(index));
+            for (int concurrency : concurrencyLevels) {
+                LoadMetrics metrics = uploadConcurrently(requests, concurrency, uploadsPerUser,
+                        "upload " + SyntheticFileGenerator.formatSize(size) + " x" + concurrency);
+                LoadMetrics.StepStats stats = metrics.getSteps().get(0);
+                long succeeded = stats.getCount() - stats.getErrorCount();
+                double seconds = Math.max(metrics.getElapsedSeconds(), 1e-9);
+                summary.append("<tr><td>").append(SyntheticFileGenerator.formatSize(size)).append("</td><td>")
+                        .append(concurrency).append("</td><td>").append(stats.getCount()).append("</td><td>")
+                        .append(stats.getErrorCount()).append("</td>");
+                for (double percentile : PERCENTILES) {
+                    summary.append("<td>").append(String.format(Locale.ROOT, "%.1f", stats.getPercentileMillis(percentile)))
+                            .append("</td>");
+                }
+                summary.append("<td>").append(String.format(Locale.ROOT, "%.1f", stats.getMaxMillis())).append("</td><td>")
+                        .append(String.format(Locale.ROOT, "%.2f", succeeded / seconds)).append("</td><td>")
+                        .append(String.format(Locale.ROOT, "%.2f", succeeded * size / seconds / (1024 * 1024)))
+                        .append("</td></tr>");
+                totalUploads += stats.getCount();
+                totalErrors += stats.getErrorCount();
+                if (stats.getErrorCount() > 0) {
+                    errorDetails.append(LoadReport.toHtml(metrics));
+                }
+            }
+        }
+        summary.append("</tbody></table>");
+        ExtentReportManager.logInfo(summary.toString());
+        if (errorDetails.length() > 0) {
+            ExtentReportManager.logInfo(errorDetails.toString());
+        }
+
+        Assert.assertTrue(totalUploads > 0, "At least one upload should be sent");
+        double errorRate = (double) totalErrors / totalUploads;
+        Assert.assertTrue(errorRate <= maxErrorRate,
+                String.format("Error rate %.2f%% should not exceed %.2f%%", errorRate * 100, maxErrorRate * 100));
+        ExtentReportManager.logPass(String.format("✓ %d uploads, error rate %.2f%% within threshold %.2f%%",
+                totalUploads, errorRate * 100, maxErrorRate * 100));
+    }
+
+    @Test(description = "TC-031: Upload Latency by File Size through the Records Page",
+            dependsOnMethods = "verifyUploadThroughputBySizeAndConcurrency")
+    public void verifyBrowserUploadLatencyBySize() throws Exception {
+        if (!Boolean.parseBoolean(DriverFactory.getProperty("uploadbench.browser", "true"))) {
+            ExtentReportManager.logInfo("Browser upload check disabled (uploadbench.browser=false)");
+            return;
+        }
+        List<Long> sizes = sizes();
+        ensureAccounts(fixture.requests(reportFile(sizes.get(0))), 1);
+        PortalLoadFixture.Account account = accounts.get(0);
+        String uploadPath = DriverFactory.getProperty("httpload.uploadPath", "/api/records");
+
+        ExtentReportManager.logInfo("Step 4: Upload each size through the records page as " + account.getEmail());
+        LoadMetrics metrics = new LoadMetrics();
+        fixture.inBrowser(driver -> {
+            HomePage homePage = new HomePage();
+            LoginPage loginPage = new LoginPage();
+            MedicalRecordsPage medicalRecordsPage = new MedicalRecordsPage();
+            homePage.navigateToHomePage().clickLoginButton();
+            loginPage.login(account.getEmail(), account.getPassword());
+
+            metrics.markStarted();
+            for (long size : sizes) {
+                String label = SyntheticFileGenerator.formatSize(size);
+                medicalRecordsPage.clickMedicalRecords()
+                        .clickUploadRecord()
+                        .selectRecordType("Lab Report")
+                        .enterReportTitle("Upload Benchmark " + label)
+                        .enterDate(LocalDate.now().format(RECORD_DATE))
+                        .enterDescription("Uploaded by TC-031")
+                        .uploadFile(reportFile(size).toString());
+                JavascriptExecutor js = (JavascriptExecutor) driver;
+                js.executeScript(UPLOAD_TIMING_SCRIPT, uploadPath, TIMING_KEY);
+                medicalRecordsPage.clickUpload();
+
+                Object timing = js.executeScript("return sessionStorage.getItem(arguments[0]);", TIMING_KEY);
+                Map<?, ?> parsed = timing == null ? null : (Map<?, ?>) js.executeScript("return JSON.parse(arguments[0]);", timing);
+                if (parsed == null) {
+                    metrics.record(LoadPhase.STEADY_STATE, "browser upload " + label, 0,
+                            new IllegalStateException("Upload request to " + uploadPath + " was not observed in the page"));
+                    continue;
+                }
+                double millis = ((Number) parsed.get("millis")).doubleValue();
+                long status = ((Number) parsed.get("status")).longValue();
+                metrics.record(LoadPhase.STEADY_STATE, "browser upload " + label, (long) (millis * 1_000_000),
+                        status >= 200 && status < 300 ? null : new IllegalStateException("HTTP " + status));
+                ExtentReportManager.logInfo(String.format(Locale.ROOT, "%s: upload request %.1f ms (HTTP %d)",
+                        label, millis, status));
+            }
+            metrics.markFinished();
+            return null;
+        });
+        ExtentReportManager.logInfo(LoadReport.toHtml(metrics));
+
+        double maxErrorRate = Double.parseDouble(DriverFactory.getProperty("uploadbench.maxErrorRate", "0.01"));
+        Assert.assertTrue(metrics.getErrorRate() <= maxErrorRate,
+                String.format("Browser upload error rate %.2f%% should not exceed %.2f%%",
+                        metrics.getErrorRate() * 100, maxErrorRate * 100));
+        ExtentReportManager.logPass("✓ Browser upload timed for " + sizes.size() + " sizes");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopFixture() {
+        if (fixture != null) {
+            fixture.close();
+        }
+    }
+
+    /**
+     * Runs the same number of uploads on each of the given number of threads, all released at the same moment
+     * @return Metrics holding one step with every upload of this run
+     */
+    private LoadMetrics uploadConcurrently(PortalHttpRequests requests, int concurrency, int uploadsPerUser,
+                                           String step) throws Exception {
+        LoadMetrics metrics = new LoadMetrics();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            CountDownLatch ready = new CountDownLatch(concurrency);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int user = 0; user < concurrency; user++) {
+                PortalLoadFixture.Account account = accounts.get(user);
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    for (int upload = 0; upload < uploadsPerUser; upload++) {
+                        long started = System.nanoTime();
+                        Throwable failure = null;
+                        try {
+                            HttpResponse<Void> response = fixture.getClient().send(
+                                    requests.upload(account.getCookie(), step + " #" + upload),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 300) {
+                                failure = new IllegalStateException("HTTP " + response.statusCode());
+                            }
+                        } catch (Exception e) {
+                            failure = e;
+                        }
+                        metrics.record(LoadPhase.STEADY_STATE, step, System.nanoTime() - started, failure);
+                    }
+                    return null;
+                }));
+            }
+            ready.await();
+            metrics.markStarted();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            metrics.markFinished();
+            return metrics;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Signs up and logs in synthetic patients until at least the given number of sessions exist
+     */
+    private void ensureAccounts(PortalHttpRequests requests, int count) throws Exception {
+        SyntheticDataGenerator patients = SyntheticDataGenerator.fromConfig()
+                .domain("upload" + UniqueIdGenerator.nextIdString() + ".test");
+        for (int index = accounts.size(); index < count; index++) {
+            accounts.add(fixture.signUp(requests, patients.generate(SyntheticDataGenerator.Entity.PATIENT, index)));
+        }
+    }
+
+    private static List<Long> sizes() {
+        List<Long> sizes = new ArrayList<>();
+        for (String size : DriverFactory.getProperty("uploadbench.sizes", "10KB,1MB,10MB").split(",")) {
+            sizes.add(SyntheticFileGenerator.parseSize(size.trim()));
+        }
+        return sizes;
+    }
+
+    private static Path reportFile(long size) {
+        // Each text page takes about 2 KB, so the smallest sizes get fewer pages
+        int pages = (int) Math.min(Integer.parseInt(DriverFactory.getProperty("uploadbench.pages", "5")),
+                Math.max(1, size / 4096));
+        return SyntheticFileGenerator.pdf(size, pages, Long.parseLong(DriverFactory.getProperty("data.syntheticFiles.seed", "1")));
+    }
+}
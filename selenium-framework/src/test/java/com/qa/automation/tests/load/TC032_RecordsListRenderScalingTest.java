@@ -0,0 +1,234 @@
+package com.qa.automation.tests.load;
+
+import com.qa.automation.base.DriverFactory;
+import com.qa.automation.load.PageRenderProbe;
+import com.qa.automation.load.PortalHttpRequests;
+import com.qa.automation.load.PortalLoadFixture;
+import com.qa.automation.pages.HomePage;
+import com.qa.automation.pages.LoginPage;
+import com.qa.automation.pages.MedicalRecordsPage;
+import com.qa.automation.utils.ExtentReportManager;
+import com.qa.automation.utils.SyntheticDataGenerator;
+import com.qa.automation.utils.SyntheticFileGenerator;
+import com.qa.automation.utils.UniqueIdGenerator;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * TC-032: Medical Records List Render Time as the Number of Records Grows
+ * Module/Feature: Medical Records
+ * Priority: P2
+ * Test Type: Performance
+ *
+ * Precondition: Portal stand-in server (default) or -Dload.useStandIn=false -Durl=... for a real environment
+ *
+ * Test Steps:
+ * 1. Sign up and log in one synthetic patient, over HTTP and in a headless browser
+ * 2. For each recordsbench.counts value N, upload records through the API until the patient has N
+ * 3. Load the records page recordsbench.samples times (after one warm-up load) and measure first byte,
+ *    time to first record, DOM interactive, full render, records shown and DOM elements
+ * 4. Report the medians per N and the scaling exponent of the render time above the smallest N
+ *
+ * Expected Result:
+ * - Every N shows all N records (at least one if recordsbench.paginated is true)
+ * - Render time above the smallest N grows no faster than N^recordsbench.maxScalingExponent between the two
+ *   largest N (linear rendering gives about 1, quadratic rendering about 2)
+ *
+ * Test Data:
+ * - recordsbench.counts, recordsbench.samples, recordsbench.itemSelector, recordsbench.paginated (config.properties)
+ *
+ * Does not extend BaseTest: records are created over HTTP and the browser session is managed here
+ */
+public class TC032_RecordsListRenderScalingTest {
+
+    private PortalLoadFixture fixture;
+
+    @BeforeClass
+    public void startFixture() {
+        fixture = PortalLoadFixture.start();
+    }
+
+    @Test(description = "TC-032: Medical Records List Render Time as the Number of Records Grows")
+    public void verifyRecordsListRenderScaling() throws Exception {
+        List<Integer> counts = new ArrayList<>();
+        for (String count : DriverFactory.getProperty("recordsbench.counts", "10,100,1000").split(",")) {
+            counts.add(Integer.parseInt(count.trim()));
+        }
+        Collections.sort(counts);
+        int samples = Integer.parseInt(DriverFactory.getProperty("recordsbench.samples", "5"));
+        String itemSelector = DriverFactory.getProperty("recordsbench.itemSelector", ".record-card");
+        Duration settleTime = Duration.ofMillis(Long.parseLong(DriverFactory.getProperty("recordsbench.settleMillis", "500")));
+        double maxExponent = Double.parseDouble(DriverFactory.getProperty("recordsbench.maxScalingExponent", "1.5"));
+        boolean paginated = Boolean.parseBoolean(DriverFactory.getProperty("recordsbench.paginated", "false"));
+        PortalHttpRequests requests = fixture.requests(SyntheticFileGenerator.resolve(
+                DriverFactory.getProperty("recordsbench.uploadFile", "synthetic:pdf:10KB")));
+        ExtentReportManager.logInfo("Target: " + fixture.getBaseUrl());
+
+        ExtentReportManager.logInfo("Step 1: Sign up and log in one synthetic patient");
+        SyntheticDataGenerator generator = SyntheticDataGenerator.fromConfig()
+                .domain("records" + UniqueIdGenerator.nextIdString() + ".test")
+                .recordsPerPatient(counts.get(counts.size() - 1));
+        PortalLoadFixture.Account patient = fixture.signUp(requests,
+                generator.generate(SyntheticDataGenerator.Entity.PATIENT, 0));
+
+        List<Row> rows = new ArrayList<>();
+        fixture.inBrowser(driver -> {
+            new HomePage().navigateToHomePage().clickLoginButton();
+            new LoginPage().login(patient.getEmail(), patient.getPassword());
+            new MedicalRecordsPage().clickMedicalRecords();
+            String recordsUrl = driver.getCurrentUrl();
+
+            try (PageRenderProbe probe = new PageRenderProbe(driver, itemSelector, settleTime)) {
+                if (!probe.isObservingItems()) {
+                    ExtentReportManager.logInfo("Browser has no CDP access: time to first record is not measured");
+                }
+                int uploaded = 0;
+                for (int count : counts) {
+                    ExtentReportManager.logInfo("Step 2: Upload records " + (uploaded + 1) + " to " + count);
+                    uploadRecords(requests, patient.getCookie(), generator, uploaded, count);
+                    uploaded = count;
+
+                    ExtentReportManager.logInfo("Step 3: Load the records page " + samples + " times with " + count + " records");
+                    probe.measure(recordsUrl, fixture.getTimeout());
+                    List<PageRenderProbe.RenderSample> measured = new ArrayList<>();
+                    for (int sample = 0; sample < samples; sample++) {
+                        measured.add(probe.measure(recordsUrl, fixture.getTimeout()));
+                    }
+                    rows.add(new Row(count, measured));
+                }
+            }
+            return null;
+        });
+
+        ExtentReportManager.logInfo("Step 4: Scaling of the records page");
+        ExtentReportManager.logInfo(toHtml(rows));
+        for (Row row : rows) {
+            double shown = row.median(PageRenderProbe.RenderSample::getItemCount);
+            if (paginated) {
+                Assert.assertTrue(shown > 0,
+                        "Records page should show records with " + row.count + " uploaded (selector " + itemSelector + ")");
+            } else {
+                Assert.assertEquals(shown, row.count, 0.0, "Records page should show every uploaded record (selector "
+                        + itemSelector + "; set recordsbench.paginated=true if the page is paginated)");
+            }
+        }
+        if (rows.size() > 2) {
+            double exponent = exponent(rows.get(0), rows.get(rows.size() - 2), rows.get(rows.size() - 1));
+            Assert.assertTrue(exponent <= maxExponent, String.format(Locale.ROOT,
+                    "Render time grows as N^%.2f from %d to %d records, more than N^%.2f", exponent,
+                    rows.get(rows.size() - 2).count, rows.get(rows.size() - 1).count, maxExponent));
+            ExtentReportManager.logPass(String.format(Locale.ROOT, "✓ Render time grows as N^%.2f (limit N^%.2f)",
+                    exponent, maxExponent));
+        } else {
+            ExtentReportManager.logInfo("Scaling exponent needs at least three recordsbench.counts values: "
+                    + "the smallest one measures the fixed page cost");
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopFixture() {
+        if (fixture != null) {
+            fixture.close();
+        }
+    }
+
+    /**
+     * Uploads the patient's generated records from index first up to (excluding) last on parallel threads
+     */
+    private void uploadRecords(PortalHttpRequests requests, String cookie, SyntheticDataGenerator generator,
+                               int first, int last) throws Exception {
+        int threads = Integer.parseInt(DriverFactory.getProperty("recordsbench.uploadThreads", "8"));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int index = first; index < last; index++) {
+                Map<String, String> record = generator.generate(SyntheticDataGenerator.Entity.RECORD, index);
+                record.remove("patientEmail");
+                futures.add(executor.submit(() -> fixture.getClient().send(requests.upload(cookie, record),
+                        HttpResponse.BodyHandlers.discarding()).statusCode()));
+            }
+            for (Future<Integer> future : futures) {
+                int status = future.get();
+                Assert.assertTrue(status < 300, "Record upload should succeed, got HTTP " + status);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Slope of render time against record count on a log-log scale: 1 for linear growth, 2 for quadratic
+     * Time and count are taken above the base row, so fixed page costs do not flatten the slope
+     */
+    private static double exponent(Row base, Row smaller, Row larger) {
+        double baseMillis = base.median(PageRenderProbe.RenderSample::getRenderMillis);
+        double ratio = Math.max(larger.median(PageRenderProbe.RenderSample::getRenderMillis) - baseMillis, 0.1)
+                / Math.max(smaller.median(PageRenderProbe.RenderSample::getRenderMillis) - baseMillis, 0.1);
+        return Math.log(ratio) / Math.log((double) (larger.count - base.count) / (smaller.count - base.count));
+    }
+
+    private static String toHtml(List<Row> rows) {
+        StringBuilder html = new StringBuilder("<table class=\"table table-sm\"><thead><tr>")
+                .append("<th>Records</th><th>Shown</th><th>DOM elements</th><th>Elements/record</th><th>HTML KB</th>")
+                .append("<th>First byte ms</th><th>First record ms</th><th>DOM interactive ms</th><th>Render ms</th>")
+                .append("<th>ms/record</th><th>Exponent</th></tr></thead><tbody>");
+        Row previous = null;
+        for (Row row : rows) {
+            boolean scaled = previous != null && previous != rows.get(0);
+            double elements = row.median(PageRenderProbe.RenderSample::getDomElementCount);
+            double render = row.median(PageRenderProbe.RenderSample::getRenderMillis);
+            // Elements added per additional record, so the page chrome does not hide per-record growth
+            double elementsPerRecord = previous == null ? elements / row.count
+                    : (elements - previous.median(PageRenderProbe.RenderSample::getDomElementCount)) / (row.count - previous.count);
+            html.append("<tr><td>").append(row.count).append("</td><td>")
+                    .append(format("%.0f", row.median(PageRenderProbe.RenderSample::getItemCount))).append("</td><td>")
+                    .append(format("%.0f", elements)).append("</td><td>")
+                    .append(format("%.1f", elementsPerRecord)).append("</td><td>")
+                    .append(format("%.1f", row.median(PageRenderProbe.RenderSample::getHtmlBytes) / 1024)).append("</td><td>")
+                    .append(format("%.1f", row.median(PageRenderProbe.RenderSample::getFirstByteMillis))).append("</td><td>")
+                    .append(format("%.1f", row.median(PageRenderProbe.RenderSample::getFirstItemMillis))).append("</td><td>")
+                    .append(format("%.1f", row.median(PageRenderProbe.RenderSample::getDomInteractiveMillis))).append("</td><td>")
+                    .append(format("%.1f", render)).append("</td><td>")
+                    .append(format("%.3f", render / row.count)).append("</td><td>")
+                    .append(scaled ? format("%.2f", exponent(rows.get(0), previous, row)) : "").append("</td></tr>");
+            previous = row;
+        }
+        return html.append("</tbody></table>").toString();
+    }
+
+    private static String format(String pattern, double value) {
+        return String.format(Locale.ROOT, pattern, value);
+    }
+
+    private static final class Row {
+        private final int count;
+        private final List<PageRenderProbe.RenderSample> samples;
+
+        private Row(int count, List<PageRenderProbe.RenderSample> samples) {
+            this.count = count;
+            this.samples = samples;
+        }
+
+        private double median(ToDoubleFunction<PageRenderProbe.RenderSample> metric) {
+            double[] values = samples.stream().mapToDouble(metric).toArray();
+            Arrays.sort(values);
+            return values.length % 2 == 1 ? values[values.length / 2]
+                    : (values[values.length / 2 - 1] + values[values.length / 2]) / 2;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.qa.automation.tests.load;
+
+import com.qa.automation.base.DriverFactory;
+import com.qa.automation.load.InteractionLatencyProbe;
+import com.qa.automation.load.LoadMetrics;
+import com.qa.automation.load.LoadPhase;
+import com.qa.automation.load.LoadReport;
+import com.qa.automation.load.PortalHttpRequests;
+import com.qa.automation.load.PortalLoadFixture;
+import com.qa.automation.pages.HomePage;
+import com.qa.automation.pages.LoginPage;
+import com.qa.automation.utils.ExtentReportManager;
+import com.qa.automation.utils.SyntheticDataGenerator;
+import com.qa.automation.utils.SyntheticFileGenerator;
+import com.qa.automation.utils.UniqueIdGenerator;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * TC-033: Doctor Search Latency by Query Type
+ * Module/Feature: Search (Find Doctors)
+ * Priority: P2
+ * Test Type: Performance
+ *
+ * Precondition: Portal stand-in server (default) or -Dload.useStandIn=false -Durl=... for a real environment
+ *
+ * Test Steps:
+ * 1. Sign up searchbench.doctors synthetic doctors and one patient through the HTTP endpoints
+ * 2. Build searchbench.queriesPerClass queries per class from the generated doctors: name prefix, full name,
+ *    specialty only, city only and no result, in a shuffled order
+ * 3. Log in the patient in a headless browser and open Find Doctors
+ * 4. For each query, reload Find Doctors, enter the query with the HomePage search methods and time the last
+ *    keystroke or selection to the last update of the results list
+ *
+ * Expected Result:
+ * - Latency percentiles are reported per query class
+ * - Queries built from existing doctors return results and no-result queries return none
+ * - Error rate stays within searchbench.maxErrorRate and p95 of every class within searchbench.maxP95Millis
+ *
+ * Test Data:
+ * - searchbench.doctors, searchbench.queriesPerClass, searchbench.resultsSelector (config.properties)
+ *
+ * Does not extend BaseTest: accounts are created over HTTP and the browser session is managed here
+ */
+public class TC033_DoctorSearchLatencyMatrixTest {
+
+    /**
+     * Kinds of search query; each is one row of the latency report
+     */
+    private enum QueryClass {
+        PREFIX("name prefix"),
+        FULL_NAME("full name"),
+        SPECIALTY("specialty only"),
+        CITY("city only"),
+        NO_RESULT("no result");
+
+        private final String label;
+
+        QueryClass(String label) {
+            this.label = label;
+        }
+    }
+
+    private PortalLoadFixture fixture;
+
+    @BeforeClass
+    public void startFixture() {
+        fixture = PortalLoadFixture.start();
+    }
+
+    @Test(description = "TC-033: Doctor Search Latency by Query Type")
+    public void verifyDoctorSearchLatencyByQueryType() throws Exception {
+        int doctors = Integer.parseInt(DriverFactory.getProperty("searchbench.doctors", "500"));
+        int queriesPerClass = Integer.parseInt(DriverFactory.getProperty("searchbench.queriesPerClass", "20"));
+        double maxErrorRate = Double.parseDouble(DriverFactory.getProperty("searchbench.maxErrorRate", "0.0"));
+        double maxP95Millis = Double.parseDouble(DriverFactory.getProperty("searchbench.maxP95Millis", "2000"));
+        Duration settleTime = Duration.ofMillis(Long.parseLong(DriverFactory.getProperty("searchbench.settleMillis", "300")));
+        PortalHttpRequests requests = fixture.requests(SyntheticFileGenerator.resolve(DriverFactory.getProperty(
+                "load.uploadFile", "test-data/medical-reports/Sample_Blood_Test_Report.pdf")));
+        SyntheticDataGenerator generator = SyntheticDataGenerator.fromConfig()
+                .domain("search" + UniqueIdGenerator.nextIdString() + ".test");
+        ExtentReportManager.logInfo("Target: " + fixture.getBaseUrl());
+
+        ExtentReportManager.logInfo("Step 1: Sign up " + doctors + " synthetic doctors and one patient");
+        signUpDoctors(requests, generator, doctors);
+        PortalLoadFixture.Account patient = fixture.signUp(requests,
+                generator.generate(SyntheticDataGenerator.Entity.PATIENT, 0));
+
+        ExtentReportManager.logInfo("Step 2: Build " + queriesPerClass + " queries per class");
+        List<Query> queries = buildQueries(generator, Math.max(doctors, 1), queriesPerClass);
+
+        ExtentReportManager.logInfo("Step 3: Log in and open Find Doctors");
+        LoadMetrics metrics = new LoadMetrics();
+        fixture.inBrowser(driver -> {
+            HomePage homePage = new HomePage();
+            homePage.navigateToHomePage().clickLoginButton();
+            new LoginPage().login(patient.getEmail(), patient.getPassword());
+            homePage.clickFindDoctorsLink();
+            String searchUrl = driver.getCurrentUrl();
+            InteractionLatencyProbe probe = new InteractionLatencyProbe(driver,
+                    DriverFactory.getProperty("searchbench.resultsSelector", "[class*='doctor-list'], [class*='search-results']"),
+                    DriverFactory.getProperty("searchbench.itemSelector", "[class*='doctor-card']"), settleTime);
+
+            ExtentReportManager.logInfo("Step 4: Run " + queries.size() + " queries after one warm-up query");
+            search(driver, homePage, probe, searchUrl, queries.get(0));
+            metrics.markStarted();
+            for (Query query : queries) {
+                long started = System.nanoTime();
+                try {
+                    InteractionLatencyProbe.InteractionResult result = search(driver, homePage, probe, searchUrl, query);
+                    boolean expectResults = query.queryClass != QueryClass.NO_RESULT;
+                    Throwable failure = expectResults == (result.getItemCount() > 0) ? null
+                            : new IllegalStateException(result.getItemCount() + " results for " + query);
+                    metrics.record(LoadPhase.STEADY_STATE, query.queryClass.label,
+                            (long) (result.getLatencyMillis() * 1_000_000), failure);
+                } catch (Exception e) {
+                    metrics.record(LoadPhase.STEADY_STATE, query.queryClass.label, System.nanoTime() - started,
+                            new IllegalStateException(query + ": " + e.getMessage(), e));
+                }
+            }
+            metrics.markFinished();
+            return null;
+        });
+
+        ExtentReportManager.logInfo("Keystroke-to-results latency per query class (in-page clock, "
+                + settleTime.toMillis() + " ms settle time excluded)");
+        ExtentReportManager.logInfo(LoadReport.toHtml(metrics));
+        Assert.assertTrue(metrics.getErrorRate() <= maxErrorRate,
+                String.format("Error rate %.2f%% should not exceed %.2f%%", metrics.getErrorRate() * 100, maxErrorRate * 100));
+        for (LoadMetrics.StepStats stats : metrics.getSteps()) {
+            double p95 = stats.getPercentileMillis(95.0);
+            Assert.assertTrue(p95 <= maxP95Millis, String.format(Locale.ROOT,
+                    "p95 of %s queries is %.1f ms, more than %.0f ms", stats.getName(), p95, maxP95Millis));
+        }
+        ExtentReportManager.logPass(String.format(Locale.ROOT, "✓ %d queries, error rate %.2f%%, p95 within %.0f ms for every class",
+                metrics.getTotalCount(), metrics.getErrorRate() * 100, maxP95Millis));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopFixture() {
+        if (fixture != null) {
+            fixture.close();
+        }
+    }
+
+    /**
+     * Reloads Find Doctors so every query starts from the same page, then enters the query and waits for results
+     */
+    private InteractionLatencyProbe.InteractionResult search(WebDriver driver, HomePage homePage,
+                                                             InteractionLatencyProbe probe, String searchUrl, Query query) {
+        driver.navigate().to(searchUrl);
+        probe.arm(fixture.getTimeout());
+        switch (query.queryClass) {
+            case SPECIALTY:
+                homePage.selectSpecialtyDropdown(query.text);
+                break;
+            case CITY:
+                homePage.enterCityField(query.text);
+                break;
+            default:
+                homePage.enterSearchByNameOrSpecialty(query.text);
+                break;
+        }
+        return probe.awaitResults(fixture.getTimeout());
+    }
+
+    /**
+     * Draws queries from the generated doctors with a fixed seed, so every run uses the same query set
+     */
+    private static List<Query> buildQueries(SyntheticDataGenerator generator, int doctors, int queriesPerClass) {
+        SplittableRandom random = new SplittableRandom(Long.parseLong(DriverFactory.getProperty("data.synthetic.seed", "1")));
+        List<Query> queries = new ArrayList<>();
+        for (int index = 0; index < queriesPerClass; index++) {
+            Map<String, String> doctor = generator.generate(SyntheticDataGenerator.Entity.DOCTOR, random.nextInt(doctors));
+            String firstName = doctor.get("firstName");
+            queries.add(new Query(QueryClass.PREFIX, firstName.substring(0, Math.min(3, firstName.length()))));
+            queries.add(new Query(QueryClass.FULL_NAME, firstName + " " + doctor.get("lastName")));
+            queries.add(new Query(QueryClass.SPECIALTY, doctor.get("specialty")));
+            queries.add(new Query(QueryClass.CITY, doctor.get("city")));
+            // Generated names and specialties contain no digits, so this matches no doctor
+            queries.add(new Query(QueryClass.NO_RESULT, "Zq" + random.nextInt(1_000_000)));
+        }
+        // Interleave the classes so drift during the run affects all of them alike
+        Collections.shuffle(queries, new Random(random.nextLong()));
+        return queries;
+    }
+
+    private void signUpDoctors(PortalHttpRequests requests, SyntheticDataGenerator generator, int doctors) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(Integer.parseInt(
+                DriverFactory.getProperty("searchbench.signupThreads", "8")));
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int index = 0; index < doctors; index++) {
+                Map<String, String> doctor = generator.generate(SyntheticDataGenerator.Entity.DOCTOR, index);
+                futures.add(executor.submit(() -> fixture.getClient().send(requests.signup(doctor),
+                        HttpResponse.BodyHandlers.discarding()).statusCode()));
+            }
+            for (Future<Integer> future : futures) {
+                int status = future.get();
+                Assert.assertTrue(status < 400, "Doctor signup should succeed, got HTTP " + status);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class Query {
+        private final QueryClass queryClass;
+        private final String text;
+
+        private Query(QueryClass queryClass, String text) {
+            this.queryClass = queryClass;
+            this.text = text;
+        }
+
+        @Override
+        public String toString() {
+            return queryClass.label + " '" + text + "'";
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.qa.automation.tests.performance;
+
+import com.qa.automation.utils.ExtentReportManager;
+import com.qa.automation.utils.TestDataGenerator;
+import com.qa.automation.utils.UniqueIdGenerator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * TC-030: Verify Unique Test Data Generation Under Concurrency
+ * Module/Feature: Performance
+ * Priority: P1
+ * Test Type: Performance
+ *
+ * Precondition: None
+ *
+ * Test Steps:
+ * 1. Start 16 threads at the same moment, each generating 250,000 ids
+ * 2. Merge all ids and check for duplicates and per-thread ordering
+ * 3. Generate emails, phone numbers and license numbers from 8 threads and check for duplicates
+ *
+ * Expected Result:
+ * - No duplicate ids, emails, phone numbers or license numbers
+ * - Ids of each thread are strictly increasing
+ * - Throughput is reported; it depends on the hardware and is measured by UniqueIdBenchmark (mvn verify -Pbenchmark)
+ *
+ * Does not extend BaseTest: no browser is needed
+ */
+public class TC030_UniqueDataGeneratorConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int IDS_PER_THREAD = 250_000;
+    private static final int VALUES_PER_THREAD = 50_000;
+
+    @Test(description = "TC-030: Verify Unique Ids Under Concurrency")
+    public void verifyIdsAreUniqueUnderConcurrency() throws Exception {
+        ExtentReportManager.logInfo("Step 1: " + THREADS + " threads generate " + IDS_PER_THREAD + " ids each");
+        // Warm up so the reported throughput covers the steady state, not class loading and JIT
+        for (int index = 0; index < 100_000; index++) {
+            UniqueIdGenerator.nextId();
+        }
+
+        long[][] perThread = new long[THREADS][];
+        long elapsedNanos = runConcurrently(THREADS, thread -> () -> {
+            long[] ids = new long[IDS_PER_THREAD];
+            for (int index = 0; index < IDS_PER_THREAD; index++) {
+                ids[index] = UniqueIdGenerator.nextId();
+            }
+            perThread[thread] = ids;
+            return null;
+        });
+
+        ExtentReportManager.logInfo("Step 2: Check for duplicates and per-thread ordering");
+        long[] all = new long[THREADS * IDS_PER_THREAD];
+        for (int thread = 0; thread < THREADS; thread++) {
+            long[] ids = perThread[thread];
+            for (int index = 1; index < ids.length; index++) {
+                Assert.assertTrue(ids[index] > ids[index - 1],
+                        "Ids of thread " + thread + " should be strictly increasing at index " + index);
+            }
+            System.arraycopy(ids, 0, all, thread * IDS_PER_THREAD, IDS_PER_THREAD);
+        }
+        Arrays.sort(all);
+        for (int index = 1; index < all.length; index++) {
+            Assert.assertNotEquals(all[index], all[index - 1], "Duplicate id generated: " + all[index]);
+        }
+        Assert.assertTrue(all[0] > 0, "Ids should be positive");
+        ExtentReportManager.logPass("✓ " + all.length + " ids, no duplicates, strictly increasing per thread");
+
+        long idsPerSecond = all.length * 1_000_000_000L / Math.max(1, elapsedNanos);
+        ExtentReportManager.logInfo(String.format("Throughput: %,d ids/s across %d threads (node %d)",
+                idsPerSecond, THREADS, UniqueIdGenerator.getNodeId()));
+    }
+
+    @Test(description = "TC-030: Verify Unique Emails, Phone Numbers and License Numbers Under Concurrency")
+    public void verifyGeneratedValuesAreUniqueUnderConcurrency() throws Exception {
+        ExtentReportManager.logInfo("Step 3: 8 threads generate emails, phone numbers and license numbers");
+        assertUnique("email", () -> TestDataGenerator.generateUniqueEmail("john.doe"));
+        assertUnique("phone number", TestDataGenerator::generatePhoneNumber);
+        assertUnique("license number", TestDataGenerator::generateLicenseNumber);
+    }
+
+    private void assertUnique(String kind, Supplier<String> generator) throws Exception {
+        int threads = 8;
+        List<List<String>> perThread = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            perThread.add(new ArrayList<>(VALUES_PER_THREAD));
+        }
+        runConcurrently(threads, thread -> () -> {
+            List<String> values = perThread.get(thread);
+            for (int index = 0; index < VALUES_PER_THREAD; index++) {
+                values.add(generator.get());
+            }
+            return null;
+        });
+        Set<String> unique = new HashSet<>();
+        for (List<String> values : perThread) {
+            for (String value : values) {
+                Assert.assertTrue(unique.add(value), "Duplicate " + kind + " generated: " + value);
+            }
+        }
+        if (kind.equals("phone number")) {
+            for (String value : unique) {
+                Assert.assertTrue(value.length() == 10 && value.charAt(0) != '0', "Invalid phone number: " + value);
+            }
+        }
+        ExtentReportManager.logPass("✓ " + unique.size() + " unique " + kind + "s, e.g. " + perThread.get(0).get(0));
+    }
+
+    /**
+     * Runs one task per thread, all released at the same moment
+     * @return Nanoseconds from release until the last task finished
+     */
+    private long runConcurrently(int threads, IntFunction<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch ready = new CountDownLatch(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                Callable<Void> task = tasks.apply(thread);
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return task.call();
+                }));
+            }
+            ready.await();
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - started;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
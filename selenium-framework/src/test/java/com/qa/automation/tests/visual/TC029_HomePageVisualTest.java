@@ -0,0 +1,53 @@
+package com.qa.automation.tests.visual;
+
+import com.qa.automation.base.BaseTest;
+import com.qa.automation.pages.HomePage;
+import com.qa.automation.utils.ExtentReportManager;
+import com.qa.automation.visual.VisualCheck;
+import com.qa.automation.visual.VisualDiffResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * TC-029: Verify Home Page Layout Against Visual Baseline
+ * Module/Feature: Home Page
+ * Priority: P2
+ * Test Type: Visual Regression
+ *
+ * Precondition: Baseline in src/test/resources/visual-baselines, recorded with
+ * mvn test -Pvisual -Dvisual.updateBaselines=true on the reference browser; without it the check fails
+ *
+ * Test Steps:
+ * 1. Navigate to the home page
+ * 2. Capture the full page and compare it with the home-page baseline
+ *
+ * Expected Result:
+ * - No more than visual.maxDiffRatio of the pixels differ from the baseline
+ * - On a mismatch, the diff image is attached to the report
+ */
+public class TC029_HomePageVisualTest extends BaseTest {
+
+    private HomePage homePage;
+
+    @BeforeMethod
+    public void setUpTest() {
+        homePage = new HomePage();
+    }
+
+    @Test(description = "TC-029: Verify Home Page Layout Against Visual Baseline")
+    public void verifyHomePageMatchesVisualBaseline() {
+        // Step 1: Navigate to the home page
+        ExtentReportManager.logInfo("Step 1: Navigate to the home page");
+        homePage.navigateToHomePage();
+        ExtentReportManager.logPass("✓ Home page loaded");
+
+        // Step 2: Compare the full page with the baseline
+        ExtentReportManager.logInfo("Step 2: Compare the full page with the home-page baseline");
+        VisualDiffResult result = VisualCheck.checkFullPage("home-page");
+        double maxDiffRatio = VisualCheck.getMaxDiffRatio();
+        Assert.assertTrue(result.matches(maxDiffRatio),
+                "Home page should match its visual baseline: " + result);
+        ExtentReportManager.logPass("✓ Home page matches visual baseline: " + result);
+    }
+}